@@ -0,0 +1,237 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.fxmisc.easybind.select.SelectBuilder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures, with JOL, the heap footprint of each kind of binding, and
+ * fails when it exceeds the budget configured in
+ * {@code footprint-budgets.properties}. A budget can be overridden by a
+ * system property of the same name, prefixed with {@code footprint.}.
+ *
+ * <p>Each scenario builds {@link #INSTANCES} bindings, each on its own
+ * sources. The retained size of a binding is the growth of the heap
+ * reachable from the sources and the bindings, divided by the number of
+ * bindings. The listener part of it is the growth of the listener
+ * structures of the sources: listener helpers and arrays, and weak
+ * listener wrappers.
+ */
+public class FootprintTest {
+
+    private static final int INSTANCES = 1000;
+
+    private static final Properties budgets = new Properties();
+
+    @BeforeClass
+    public static void loadBudgets() throws IOException {
+        try(InputStream in = FootprintTest.class.getResourceAsStream("footprint-budgets.properties")) {
+            budgets.load(in);
+        }
+    }
+
+    private static class Node {
+        final ObjectProperty<Node> next = new SimpleObjectProperty<>();
+        final IntegerProperty value = new SimpleIntegerProperty();
+    }
+
+    /**
+     * Sources of one binding, and the function that creates the binding.
+     */
+    private static class Instance {
+        final Object sources;
+        final Supplier<Object> binding;
+
+        Instance(Object sources, Supplier<Object> binding) {
+            this.sources = sources;
+            this.binding = binding;
+        }
+    }
+
+    private static void measure(String name, Supplier<Instance> scenario) {
+        List<Object> sources = new ArrayList<>(INSTANCES);
+        List<Supplier<Object>> factories = new ArrayList<>(INSTANCES);
+        for(int i = 0; i < INSTANCES; ++i) {
+            Instance instance = scenario.get();
+            sources.add(instance.sources);
+            factories.add(instance.binding);
+        }
+        // sizes are compared per class rather than per object, since objects may move between the two walks
+        GraphLayout before = GraphLayout.parseInstance(sources.toArray());
+
+        List<Object> roots = new ArrayList<>(sources);
+        for(Supplier<Object> factory: factories) {
+            Object binding = factory.get();
+            if(binding instanceof ObservableValue) {
+                ((ObservableValue<?>) binding).getValue();
+            }
+            roots.add(binding);
+        }
+        GraphLayout after = GraphLayout.parseInstance(roots.toArray());
+
+        long listenerBytes = 0;
+        for(Class<?> c: after.getClasses()) {
+            if(isListenerStructure(c)) {
+                listenerBytes += after.getClassSizes().count(c) - before.getClassSizes().count(c);
+            }
+        }
+        long retained = (after.totalSize() - before.totalSize()) / INSTANCES;
+        long listener = listenerBytes / INSTANCES;
+        System.out.printf("%-24s retained %6d B/binding, listeners %6d B/binding%n", name, retained, listener);
+
+        assertWithinBudget(name + ".retained", retained);
+        assertWithinBudget(name + ".listeners", listener);
+    }
+
+    private static boolean isListenerStructure(Class<?> c) {
+        if(c.isArray()) {
+            return c.getComponentType().getSimpleName().endsWith("Listener");
+        }
+        String name = c.getName();
+        return name.startsWith("com.sun.javafx.binding.ExpressionHelper")
+                || name.startsWith("com.sun.javafx.collections.ListListenerHelper")
+                || name.startsWith("javafx.beans.Weak")
+                || name.startsWith("javafx.beans.value.Weak")
+                || name.startsWith("javafx.collections.Weak")
+                || name.equals("com.sun.javafx.binding.BindingHelperObserver")
+                || name.equals("org.fxmisc.easybind.PreboundBinding$DependencyObserver")
+                || name.equals("java.lang.ref.WeakReference");
+    }
+
+    private static void assertWithinBudget(String key, long actual) {
+        String budget = System.getProperty("footprint." + key, budgets.getProperty(key));
+        assertNotNull("no budget for " + key, budget);
+        long max = Long.parseLong(budget.trim());
+        assertTrue(key + ": " + actual + " bytes exceeds the budget of " + max, actual <= max);
+    }
+
+    @Test
+    public void map() {
+        measure("map", () -> {
+            IntegerProperty src = new SimpleIntegerProperty(1);
+            return new Instance(src, () -> EasyBind.map(src, x -> x.intValue() + 1));
+        });
+    }
+
+    @Test
+    public void combine2() {
+        measure("combine2", () -> {
+            IntegerProperty a = new SimpleIntegerProperty(1);
+            IntegerProperty b = new SimpleIntegerProperty(2);
+            return new Instance(new Object[] { a, b },
+                    () -> EasyBind.combine(a, b, (x, y) -> x.intValue() + y.intValue()));
+        });
+    }
+
+    @Test
+    public void combine4() {
+        measure("combine4", () -> {
+            IntegerProperty a = new SimpleIntegerProperty(1);
+            IntegerProperty b = new SimpleIntegerProperty(2);
+            IntegerProperty c = new SimpleIntegerProperty(3);
+            IntegerProperty d = new SimpleIntegerProperty(4);
+            return new Instance(new Object[] { a, b, c, d },
+                    () -> EasyBind.combine(a, b, c, d,
+                            (w, x, y, z) -> w.intValue() + x.intValue() + y.intValue() + z.intValue()));
+        });
+    }
+
+    @Test
+    public void flatMap() {
+        measure("flatMap", () -> {
+            ObjectProperty<Node> src = new SimpleObjectProperty<>(new Node());
+            return new Instance(src, () -> EasyBind.monadic(src).flatMap(n -> n.value));
+        });
+    }
+
+    @Test
+    public void selectProperty() {
+        measure("selectProperty", () -> {
+            ObjectProperty<Node> src = new SimpleObjectProperty<>(new Node());
+            return new Instance(src, () -> EasyBind.monadic(src).selectProperty(n -> n.next));
+        });
+    }
+
+    @Test
+    public void select1() {
+        measureSelect(1);
+    }
+
+    @Test
+    public void select3() {
+        measureSelect(3);
+    }
+
+    @Test
+    public void select5() {
+        measureSelect(5);
+    }
+
+    private static void measureSelect(int depth) {
+        measure("select" + depth, () -> {
+            Node head = new Node();
+            Node n = head;
+            for(int k = 1; k < depth; ++k) {
+                n.next.set(new Node());
+                n = n.next.get();
+            }
+            ObjectProperty<Node> root = new SimpleObjectProperty<>(head);
+            return new Instance(root, () -> {
+                SelectBuilder<Node> s = EasyBind.select(root);
+                for(int k = 1; k < depth; ++k) {
+                    s = s.select(x -> x.next);
+                }
+                return s.selectObject(x -> x.value);
+            });
+        });
+    }
+
+    @Test
+    public void mappedList() {
+        measure("mappedList", () -> {
+            ObservableList<Integer> src = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+            return new Instance(src, () -> EasyBind.map(src, x -> x + 1));
+        });
+    }
+
+    @Test
+    public void listCombination() {
+        measure("listCombination", () -> {
+            ObservableList<IntegerProperty> src = FXCollections.observableArrayList();
+            for(int k = 0; k < 10; ++k) {
+                src.add(new SimpleIntegerProperty(k));
+            }
+            return new Instance(src, () -> EasyBind.combine(src, s -> s.mapToInt(Number::intValue).sum()));
+        });
+    }
+
+    @Test
+    public void conditionalSubscription() {
+        measure("conditionalSubscription", () -> {
+            SimpleBooleanProperty condition = new SimpleBooleanProperty(true);
+            IntegerProperty source = new SimpleIntegerProperty(1);
+            IntegerProperty target = new SimpleIntegerProperty();
+            return new Instance(new Object[] { condition, source, target },
+                    () -> EasyBind.when(condition).bind(target, source));
+        });
+    }
+}
@@ -0,0 +1,147 @@
+package org.fxmisc.easybind;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.fxmisc.easybind.monadic.MonadicObservableValue;
+import org.fxmisc.easybind.select.SelectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selection of a value at the end of a chain of {@code depth} nested
+ * properties, by a chain of {@code flatMap}s ({@link FlatMap}), by
+ * {@link SelectBuilder} ({@link org.fxmisc.easybind.select.SelectObjectBinding})
+ * and by {@link Bindings#select}. Measures a change of the leaf value, and
+ * a change of the link in the middle of the chain, which makes the
+ * bindings re-attach to the rest of the chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainBenchmark {
+
+    public static class Node {
+        private final ObjectProperty<Node> next = new SimpleObjectProperty<>();
+        private final IntegerProperty value = new SimpleIntegerProperty();
+
+        public ObjectProperty<Node> nextProperty() {
+            return next;
+        }
+
+        public IntegerProperty valueProperty() {
+            return value;
+        }
+    }
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    private ObjectProperty<Node> root;
+    private Node leaf;
+    private ObjectProperty<Node> middleLink;
+    private Node middleAlt;
+    private Binding<Number> flatMap;
+    private Binding<Number> select;
+    private Binding<Object> javaFx;
+    private int i = 0;
+
+    @Setup
+    public void setup() {
+        root = new SimpleObjectProperty<>(chain(depth));
+        middleLink = root;
+        for(int k = 0; k < depth / 2; ++k) {
+            middleLink = middleLink.get().next;
+        }
+        middleAlt = chain(depth - depth / 2);
+        leaf = root.get();
+        while(leaf.next.get() != null) {
+            leaf = leaf.next.get();
+        }
+
+        MonadicObservableValue<Node> m = EasyBind.monadic(root);
+        SelectBuilder<Node> s = EasyBind.select(root);
+        String[] steps = new String[depth];
+        for(int k = 0; k < depth - 1; ++k) {
+            m = m.flatMap(Node::nextProperty);
+            s = s.select(Node::nextProperty);
+            steps[k] = "next";
+        }
+        steps[depth - 1] = "value";
+        flatMap = m.flatMap(node -> (ObservableValue<Number>) node.valueProperty());
+        select = s.selectObject(node -> (ObservableValue<Number>) node.valueProperty());
+        javaFx = Bindings.select(root, steps);
+    }
+
+    private static Node chain(int length) {
+        Node head = new Node();
+        Node n = head;
+        for(int k = 1; k < length; ++k) {
+            Node next = new Node();
+            n.next.set(next);
+            n = next;
+        }
+        return head;
+    }
+
+    @Benchmark
+    public Object flatMapLeafChange() {
+        leaf.value.set(++i);
+        return flatMap.getValue();
+    }
+
+    @Benchmark
+    public Object selectLeafChange() {
+        leaf.value.set(++i);
+        return select.getValue();
+    }
+
+    @Benchmark
+    public Object javaFxLeafChange() {
+        leaf.value.set(++i);
+        return javaFx.getValue();
+    }
+
+    @Benchmark
+    public Object flatMapLinkChange() {
+        swapMiddle();
+        return flatMap.getValue();
+    }
+
+    @Benchmark
+    public Object selectLinkChange() {
+        swapMiddle();
+        return select.getValue();
+    }
+
+    @Benchmark
+    public Object javaFxLinkChange() {
+        swapMiddle();
+        return javaFx.getValue();
+    }
+
+    private void swapMiddle() {
+        Node rest = middleLink.get();
+        middleLink.set(middleAlt);
+        middleAlt = rest;
+    }
+}
@@ -0,0 +1,75 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Recomputation of bindings combining two values ({@link PreboundBinding}),
+ * with {@code fanOut} bindings depending on the same pair of properties,
+ * compared to {@link Bindings#createObjectBinding}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombineBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int fanOut;
+
+    private IntegerProperty a;
+    private IntegerProperty b;
+    private List<Binding<Integer>> easyBind;
+    private List<Binding<Integer>> javaFx;
+    private int i = 0;
+
+    @Setup
+    public void setup() {
+        a = new SimpleIntegerProperty(1);
+        b = new SimpleIntegerProperty(2);
+        easyBind = new ArrayList<>(fanOut);
+        javaFx = new ArrayList<>(fanOut);
+        for(int k = 0; k < fanOut; ++k) {
+            easyBind.add(EasyBind.combine(a, b, (x, y) -> x.intValue() + y.intValue()));
+            javaFx.add(Bindings.createObjectBinding(() -> a.get() + b.get(), a, b));
+        }
+    }
+
+    @Benchmark
+    public void easyBindCombine(Blackhole bh) {
+        changeAndRead(easyBind, bh);
+    }
+
+    @Benchmark
+    public void javaFxBinding(Blackhole bh) {
+        changeAndRead(javaFx, bh);
+    }
+
+    private void changeAndRead(List<Binding<Integer>> bindings, Blackhole bh) {
+        a.set(++i);
+        for(Binding<Integer> binding: bindings) {
+            bh.consume(binding.getValue());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.binding.Bindings;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MappedList} element access and change propagation, and
+ * {@link EasyBind#listBind} compared to {@link Bindings#bindContent},
+ * for lists of {@code size} elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private ObservableList<Integer> source;
+    private ObservableList<Integer> plain;
+    private ObservableList<Integer> mapped;
+    private List<Integer> easyBindTarget;
+    private List<Integer> javaFxTarget;
+    private ObservableList<Integer> easyBindSource;
+    private ObservableList<Integer> javaFxSource;
+    private int i = 0;
+
+    @Setup
+    public void setup() {
+        List<Integer> elems = new ArrayList<>(size);
+        for(int k = 0; k < size; ++k) {
+            elems.add(k);
+        }
+        source = FXCollections.observableArrayList(elems);
+        plain = FXCollections.observableArrayList(elems);
+        mapped = EasyBind.map(source, x -> x + 1);
+        // an observer, so that changes are propagated through the mapped list
+        mapped.addListener((ListChangeListener<Integer>) ch -> {
+            while(ch.next()) {
+                ch.getAddedSize();
+            }
+        });
+
+        easyBindSource = FXCollections.observableArrayList(elems);
+        easyBindTarget = new ArrayList<>();
+        EasyBind.listBind(easyBindTarget, easyBindSource);
+        javaFxSource = FXCollections.observableArrayList(elems);
+        javaFxTarget = new ArrayList<>();
+        Bindings.bindContent(javaFxTarget, javaFxSource);
+    }
+
+    @Benchmark
+    public long mappedListIterate() {
+        long sum = 0;
+        for(int k = 0; k < size; ++k) {
+            sum += mapped.get(k);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long plainListIterate() {
+        long sum = 0;
+        for(int k = 0; k < size; ++k) {
+            sum += plain.get(k) + 1;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer mappedListSet() {
+        int index = (++i & Integer.MAX_VALUE) % size;
+        source.set(index, i);
+        return mapped.get(index);
+    }
+
+    @Benchmark
+    public Integer listBindSet() {
+        int index = (++i & Integer.MAX_VALUE) % size;
+        easyBindSource.set(index, i);
+        return easyBindTarget.get(index);
+    }
+
+    @Benchmark
+    public Integer bindContentSet() {
+        int index = (++i & Integer.MAX_VALUE) % size;
+        javaFxSource.set(index, i);
+        return javaFxTarget.get(index);
+    }
+
+    @Benchmark
+    public Integer listBindAppendRemove() {
+        easyBindSource.add(++i);
+        return easyBindSource.remove(easyBindSource.size() - 1) + easyBindTarget.size();
+    }
+
+    @Benchmark
+    public Integer bindContentAppendRemove() {
+        javaFxSource.add(++i);
+        return javaFxSource.remove(javaFxSource.size() - 1) + javaFxTarget.size();
+    }
+}
@@ -0,0 +1,70 @@
+package org.fxmisc.easybind;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.Binding;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sum of a list of {@code size} observable values, by
+ * {@link ListCombinationBinding} and by a JavaFX binding that depends on
+ * all the values. Measures a change of one value followed by a read of
+ * the sum.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListCombinationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private ObservableList<IntegerProperty> values;
+    private Binding<Integer> easyBind;
+    private Binding<Integer> javaFx;
+    private int i = 0;
+
+    @Setup
+    public void setup() {
+        values = FXCollections.observableArrayList();
+        for(int k = 0; k < size; ++k) {
+            values.add(new SimpleIntegerProperty(k));
+        }
+        easyBind = EasyBind.combine(values, stream -> stream.mapToInt(Number::intValue).sum());
+        javaFx = Bindings.createObjectBinding(
+                () -> values.stream().mapToInt(IntegerProperty::get).sum(),
+                values.toArray(new Observable[size]));
+    }
+
+    @Benchmark
+    public Integer listCombination() {
+        values.get((++i & Integer.MAX_VALUE) % size).set(i);
+        return easyBind.getValue();
+    }
+
+    @Benchmark
+    public Integer javaFxBinding() {
+        values.get((++i & Integer.MAX_VALUE) % size).set(i);
+        return javaFx.getValue();
+    }
+}
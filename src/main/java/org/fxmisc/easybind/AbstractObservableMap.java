@@ -0,0 +1,68 @@
+package org.fxmisc.easybind;
+
+import java.util.AbstractMap;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+/**
+ * Listener management for read-only observable maps whose content is
+ * maintained by the subclass. Subclasses provide the content and call
+ * {@link #fireChange} after each modification.
+ */
+abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V> implements ObservableMap<K, V> {
+    private final ListenerHelper<MapChangeListener<? super K, ? super V>> listeners = new ListenerHelper<>();
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.addInvalidationListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.removeInvalidationListener(listener);
+    }
+
+    @Override
+    public void addListener(MapChangeListener<? super K, ? super V> listener) {
+        listeners.addChangeListener(listener);
+    }
+
+    @Override
+    public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+        listeners.removeChangeListener(listener);
+    }
+
+    /**
+     * Notifies listeners of a change of the mapping for {@code key}.
+     */
+    protected final void fireChange(K key, boolean wasRemoved, V removed, boolean wasAdded, V added) {
+        listeners.fire(this, () -> new MapChangeListener.Change<K, V>(this) {
+            @Override
+            public boolean wasAdded() {
+                return wasAdded;
+            }
+
+            @Override
+            public boolean wasRemoved() {
+                return wasRemoved;
+            }
+
+            @Override
+            public K getKey() {
+                return key;
+            }
+
+            @Override
+            public V getValueAdded() {
+                return added;
+            }
+
+            @Override
+            public V getValueRemoved() {
+                return removed;
+            }
+        }, (l, ch) -> l.onChanged(ch));
+    }
+}
@@ -0,0 +1,295 @@
+package org.fxmisc.easybind;
+
+import java.util.Arrays;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+
+import org.fxmisc.easybind.monadic.MonadicBinding;
+
+/**
+ * Minimum, maximum and sum over any range of an {@link ObservableFloatArray}
+ * or {@link ObservableIntegerArray}, kept up to date incrementally. The
+ * values are held in segment trees, so that a change of the array only
+ * updates the changed range and its ancestors, and a query over any range
+ * takes O(log n) time. Elements are read in bulk, without boxing.
+ *
+ * <p>The minimum of an empty range is {@link Double#POSITIVE_INFINITY},
+ * its maximum is {@link Double#NEGATIVE_INFINITY} and its sum is 0.
+ * This object is invalidated after every change of the array.
+ *
+ * @see EasyBind#stats(ObservableFloatArray)
+ * @see EasyBind#stats(ObservableIntegerArray)
+ */
+public final class ArrayStats implements Observable {
+
+    @FunctionalInterface
+    private interface RangeReader {
+        void read(int from, double[] dest, int destIndex, int length);
+    }
+
+    private static final int CHUNK = 4096;
+    private static final Object[] NO_LISTENERS = new Object[0];
+
+    static ArrayStats of(ObservableFloatArray array) {
+        return new ArrayStats(array, (from, dest, destIndex, length) -> {
+            float[] buf = new float[Math.min(length, CHUNK)];
+            for(int done = 0; done < length; done += buf.length) {
+                int n = Math.min(buf.length, length - done);
+                array.copyTo(from + done, buf, 0, n);
+                for(int i = 0; i < n; ++i) {
+                    dest[destIndex + done + i] = buf[i];
+                }
+            }
+        });
+    }
+
+    static ArrayStats of(ObservableIntegerArray array) {
+        return new ArrayStats(array, (from, dest, destIndex, length) -> {
+            int[] buf = new int[Math.min(length, CHUNK)];
+            for(int done = 0; done < length; done += buf.length) {
+                int n = Math.min(buf.length, length - done);
+                array.copyTo(from + done, buf, 0, n);
+                for(int i = 0; i < n; ++i) {
+                    dest[destIndex + done + i] = buf[i];
+                }
+            }
+        });
+    }
+
+    private final ObservableArray<?> array;
+    private final RangeReader reader;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final ArrayChangeListener<?> arrayListener;
+
+    // segment trees; the leaves are at [capacity, 2 * capacity)
+    private int capacity;
+    private double[] min;
+    private double[] max;
+    private double[] sum;
+    private int size;
+
+    private Object[] invalidationListeners = NO_LISTENERS;
+
+    private <A extends ObservableArray<A>> ArrayStats(A array, RangeReader reader) {
+        this.array = array;
+        this.reader = reader;
+        ArrayChangeListener<A> listener = (a, sizeChanged, from, to) -> arrayChanged(from, to);
+        this.arrayListener = listener;
+        rebuild();
+        array.addListener(new WeakArrayChangeListener<>(listener));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double min() {
+        return min[1];
+    }
+
+    public double max() {
+        return max[1];
+    }
+
+    public double sum() {
+        return sum[1];
+    }
+
+    /**
+     * Minimum of the elements in the range [from, to).
+     */
+    public double min(int from, int to) {
+        checkRange(from, to);
+        double res = Double.POSITIVE_INFINITY;
+        for(int l = from + capacity, r = to + capacity; l < r; l >>= 1, r >>= 1) {
+            if((l & 1) != 0) {
+                res = Math.min(res, min[l++]);
+            }
+            if((r & 1) != 0) {
+                res = Math.min(res, min[--r]);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Maximum of the elements in the range [from, to).
+     */
+    public double max(int from, int to) {
+        checkRange(from, to);
+        double res = Double.NEGATIVE_INFINITY;
+        for(int l = from + capacity, r = to + capacity; l < r; l >>= 1, r >>= 1) {
+            if((l & 1) != 0) {
+                res = Math.max(res, max[l++]);
+            }
+            if((r & 1) != 0) {
+                res = Math.max(res, max[--r]);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Sum of the elements in the range [from, to).
+     */
+    public double sum(int from, int to) {
+        checkRange(from, to);
+        double res = 0;
+        for(int l = from + capacity, r = to + capacity; l < r; l >>= 1, r >>= 1) {
+            if((l & 1) != 0) {
+                res += sum[l++];
+            }
+            if((r & 1) != 0) {
+                res += sum[--r];
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Binding to the minimum of the range [from, to), clipped to the bounds
+     * of the array. A {@code null} bound means the start (respectively end)
+     * of the array.
+     */
+    public MonadicBinding<Double> minBinding(
+            ObservableValue<? extends Number> from,
+            ObservableValue<? extends Number> to) {
+        return new InstrumentedBinding<Double>(this, from, to) {
+            @Override
+            protected Double compute() {
+                int f = clip(from.getValue(), 0);
+                return min(f, Math.max(f, clip(to.getValue(), size)));
+            }
+        };
+    }
+
+    /**
+     * Like {@link #minBinding(ObservableValue, ObservableValue)}, for the maximum.
+     */
+    public MonadicBinding<Double> maxBinding(
+            ObservableValue<? extends Number> from,
+            ObservableValue<? extends Number> to) {
+        return new InstrumentedBinding<Double>(this, from, to) {
+            @Override
+            protected Double compute() {
+                int f = clip(from.getValue(), 0);
+                return max(f, Math.max(f, clip(to.getValue(), size)));
+            }
+        };
+    }
+
+    /**
+     * Like {@link #minBinding(ObservableValue, ObservableValue)}, for the sum.
+     */
+    public MonadicBinding<Double> sumBinding(
+            ObservableValue<? extends Number> from,
+            ObservableValue<? extends Number> to) {
+        return new InstrumentedBinding<Double>(this, from, to) {
+            @Override
+            protected Double compute() {
+                int f = clip(from.getValue(), 0);
+                return sum(f, Math.max(f, clip(to.getValue(), size)));
+            }
+        };
+    }
+
+    private int clip(Number bound, int dflt) {
+        return bound == null ? dflt : Math.max(0, Math.min(bound.intValue(), size));
+    }
+
+    private void checkRange(int from, int to) {
+        if(from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + ") not in [0, " + size + ")");
+        }
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        Object[] ls = Arrays.copyOf(invalidationListeners, invalidationListeners.length + 1);
+        ls[ls.length - 1] = listener;
+        invalidationListeners = ls;
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        Object[] ls = invalidationListeners;
+        for(int i = 0; i < ls.length; ++i) {
+            if(ls[i].equals(listener)) {
+                Object[] res = new Object[ls.length - 1];
+                System.arraycopy(ls, 0, res, 0, i);
+                System.arraycopy(ls, i + 1, res, i, res.length - i);
+                invalidationListeners = res;
+                return;
+            }
+        }
+    }
+
+    private void rebuild() {
+        size = array.size();
+        capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1);
+        min = new double[2 * capacity];
+        max = new double[2 * capacity];
+        sum = new double[2 * capacity];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        readLeaves(0, size);
+        recompute(capacity, 2 * capacity);
+    }
+
+    private void arrayChanged(int from, int to) {
+        int oldSize = size;
+        int newSize = array.size();
+        if(newSize > capacity) {
+            rebuild();
+        } else {
+            size = newSize;
+            // leaves past the end of the array are neutral
+            for(int i = newSize; i < oldSize; ++i) {
+                min[capacity + i] = Double.POSITIVE_INFINITY;
+                max[capacity + i] = Double.NEGATIVE_INFINITY;
+                sum[capacity + i] = 0;
+            }
+            int end = Math.min(to, newSize);
+            if(from < end) {
+                readLeaves(from, end);
+            }
+            int lo = Math.min(from, newSize);
+            int hi = Math.max(end, oldSize);
+            if(lo < hi) {
+                recompute(capacity + lo, capacity + hi);
+            }
+        }
+        for(Object l: invalidationListeners) {
+            ((InvalidationListener) l).invalidated(this);
+        }
+    }
+
+    private void readLeaves(int from, int to) {
+        reader.read(from, min, capacity + from, to - from);
+        System.arraycopy(min, capacity + from, max, capacity + from, to - from);
+        System.arraycopy(min, capacity + from, sum, capacity + from, to - from);
+    }
+
+    /**
+     * Recomputes the ancestors of the nodes in the range [lo, hi).
+     */
+    private void recompute(int lo, int hi) {
+        for(lo >>= 1, hi = (hi + 1) >> 1; lo >= 1; lo >>= 1, hi = (hi + 1) >> 1) {
+            for(int i = lo; i < hi; ++i) {
+                min[i] = Math.min(min[2 * i], min[2 * i + 1]);
+                max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+                sum[i] = sum[2 * i] + sum[2 * i + 1];
+            }
+            if(lo == 1) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.fxmisc.easybind;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ObservableValue;
+
+import org.fxmisc.easybind.monadic.AsyncBinding;
+
+/**
+ * Maps the values of the source on a background executor. Every change of
+ * the source starts a new computation and cancels the one in progress.
+ * Only the result of the latest computation is delivered.
+ */
+class AsyncMapBinding<T, U> extends ObjectBinding<U> implements AsyncBinding<U> {
+    private final ObservableValue<T> src;
+    private final Function<? super T, ? extends U> f;
+    private final Executor executor;
+    private final Executor deliveryExecutor;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final InvalidationListener srcListener = obs -> srcInvalidated();
+    private final InvalidationListener weakSrcListener = new WeakInvalidationListener(srcListener);
+
+    private final ReadOnlyBooleanWrapper pending = new ReadOnlyBooleanWrapper(this, "pending", false);
+
+    // accessed only on the delivery thread
+    private long generation = 0;
+    private FutureTask<?> inFlight = null;
+    private U value = null;
+
+    public AsyncMapBinding(
+            ObservableValue<T> src,
+            Function<? super T, ? extends U> f,
+            Executor executor,
+            Executor deliveryExecutor) {
+        this.src = src;
+        this.f = f;
+        this.executor = executor;
+        this.deliveryExecutor = deliveryExecutor;
+        src.addListener(weakSrcListener);
+        start();
+    }
+
+    @Override
+    protected U computeValue() {
+        return value;
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty pendingProperty() {
+        return pending.getReadOnlyProperty();
+    }
+
+    @Override
+    public void dispose() {
+        src.removeListener(weakSrcListener);
+        cancelInFlight();
+        generation += 1;
+        pending.set(false);
+    }
+
+    private void srcInvalidated() {
+        start();
+    }
+
+    private void start() {
+        cancelInFlight();
+        long gen = ++generation;
+
+        // read the source eagerly, which also revalidates it
+        T input = src.getValue();
+        if(input == null) {
+            pending.set(false);
+            deliver(null);
+            return;
+        }
+
+        pending.set(true);
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            U result;
+            try {
+                result = f.apply(input);
+            } catch(RuntimeException | Error e) {
+                deliveryExecutor.execute(() -> failed(gen, e));
+                return null;
+            }
+            deliveryExecutor.execute(() -> completed(gen, result));
+            return null;
+        });
+        inFlight = task;
+        executor.execute(task);
+    }
+
+    private void cancelInFlight() {
+        if(inFlight != null) {
+            inFlight.cancel(true);
+            inFlight = null;
+        }
+    }
+
+    private void completed(long gen, U result) {
+        if(gen == generation) {
+            inFlight = null;
+            pending.set(false);
+            deliver(result);
+        }
+    }
+
+    private void failed(long gen, Throwable error) {
+        if(gen == generation) {
+            inFlight = null;
+            pending.set(false);
+            if(error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else {
+                throw (Error) error;
+            }
+        }
+    }
+
+    private void deliver(U result) {
+        value = result;
+        invalidate();
+    }
+}
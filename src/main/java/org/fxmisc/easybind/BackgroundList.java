@@ -0,0 +1,181 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * Read-only observable list to which elements can be appended from any
+ * thread and which is observed on the JavaFX application thread (or on
+ * another delivery executor).
+ *
+ * <p>{@link #push(Object)} and {@link #pushAll(Collection)} are lock-free
+ * and never block the producers. Elements pushed between two deliveries
+ * are appended in a single batch, producing a single list change. At most
+ * one delivery is pending at any time; the default delivery executor of
+ * {@link EasyBind#listFromBackground(int)} runs deliveries on pulses of
+ * the JavaFX application thread, so there is at most one batch per pulse.
+ *
+ * <p>The list is bounded: when appending a batch would make it exceed its
+ * maximum size, the oldest elements are dropped. Dropping elements from
+ * the head of the list is reported in the same change as the appended
+ * elements.
+ *
+ * <p>Apart from the push methods and the counters, all methods must be
+ * called on the delivery thread. {@code null} elements are not permitted.
+ *
+ * @see EasyBind#listFromBackground(int)
+ */
+public final class BackgroundList<E> extends ObservableListBase<E> {
+
+    private final int maxSize;
+    private final Executor deliveryExecutor;
+    private final ConcurrentLinkedQueue<E> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean(false);
+    private final LongAdder pushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // ring buffer of the elements, so that dropping the oldest ones does
+    // not shift the rest; grows up to maxSize
+    private Object[] ring;
+    private int head = 0;
+    private int size = 0;
+
+    BackgroundList(int maxSize, Executor deliveryExecutor) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.deliveryExecutor = deliveryExecutor;
+        this.ring = new Object[Math.min(maxSize, 16)];
+    }
+
+    /**
+     * Appends an element. May be called from any thread.
+     */
+    public void push(E elem) {
+        if(elem == null) {
+            throw new NullPointerException();
+        }
+        pending.offer(elem);
+        pushed.increment();
+        scheduleDelivery();
+    }
+
+    /**
+     * Appends elements. May be called from any thread. The elements are not
+     * guaranteed to end up adjacent when other threads push concurrently.
+     * If any of the elements is {@code null}, none of them is appended.
+     */
+    public void pushAll(Collection<? extends E> elems) {
+        // copy first, so that the elements checked are the ones enqueued
+        List<E> batch = new ArrayList<>(elems);
+        for(E e: batch) {
+            if(e == null) {
+                throw new NullPointerException();
+            }
+        }
+        pending.addAll(batch);
+        pushed.add(batch.size());
+        scheduleDelivery();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + " not in [0, " + size + ")");
+        }
+        return (E) ring[slot(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of elements pushed so far.
+     */
+    public long getPushedCount() {
+        return pushed.sum();
+    }
+
+    /**
+     * Number of elements dropped to keep the list within its maximum size.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void scheduleDelivery() {
+        if(deliveryScheduled.compareAndSet(false, true)) {
+            deliveryExecutor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        deliveryScheduled.set(false);
+
+        List<E> batch = new ArrayList<>();
+        for(E e = pending.poll(); e != null; e = pending.poll()) {
+            batch.add(e);
+        }
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        int overflow = size + batch.size() - maxSize;
+        int removeFromList = Math.max(0, Math.min(overflow, size));
+        int skipFromBatch = Math.max(0, overflow - removeFromList);
+        if(overflow > 0) {
+            dropped.add(overflow);
+        }
+
+        beginChange();
+        if(removeFromList > 0) {
+            List<E> removed = new ArrayList<>(removeFromList);
+            for(int k = 0; k < removeFromList; ++k) {
+                removed.add(get(0));
+                ring[head] = null;
+                head = slot(1);
+                --size;
+            }
+            nextRemove(0, removed);
+        }
+        int from = size;
+        ensureCapacity(size + batch.size() - skipFromBatch);
+        for(E e: batch.subList(skipFromBatch, batch.size())) {
+            ring[slot(size++)] = e;
+        }
+        nextAdd(from, size);
+        endChange();
+    }
+
+    private int slot(int index) {
+        int i = head + index;
+        return i < ring.length ? i : i - ring.length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if(capacity > ring.length) {
+            int newLength = (int) Math.min(maxSize, Math.max(capacity, 2L * ring.length));
+            Object[] grown = new Object[newLength];
+            for(int i = 0; i < size; ++i) {
+                grown[i] = ring[slot(i)];
+            }
+            ring = grown;
+            head = 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.fxmisc.easybind;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import javafx.beans.value.ObservableValueBase;
+
+import org.fxmisc.easybind.monadic.MonadicObservableValue;
+
+/**
+ * Observable value that can be written from any thread and is observed on
+ * the JavaFX application thread (or on another delivery executor).
+ *
+ * <p>{@link #push(Object)} is lock-free and never blocks the producer.
+ * Values pushed in quick succession are conflated: only the latest value
+ * pushed before the next delivery is published, and at most one delivery
+ * is pending at any time. The default delivery executor of
+ * {@link EasyBind#fromBackground()} runs deliveries on pulses of the JavaFX
+ * application thread, so values are delivered at most once per pulse, no
+ * matter how fast the producers are.
+ *
+ * <p>Apart from {@link #push(Object)} and the counters, all methods must be
+ * called on the delivery thread.
+ *
+ * @see EasyBind#fromBackground()
+ */
+public final class BackgroundValue<T> extends ObservableValueBase<T>
+implements MonadicObservableValue<T> {
+
+    private static final Object NULL = new Object();
+
+    private final Executor deliveryExecutor;
+    private final AtomicReference<Object> pending = new AtomicReference<>(null);
+    private final LongAdder pushed = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    private T value;
+
+    BackgroundValue(T initialValue, Executor deliveryExecutor) {
+        this.value = initialValue;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * Publishes a new value. May be called from any thread.
+     */
+    public void push(T newValue) {
+        pushed.increment();
+        Object prev = pending.getAndSet(newValue != null ? newValue : NULL);
+        if(prev == null) {
+            deliveryExecutor.execute(this::deliver);
+        } else {
+            conflated.increment();
+        }
+    }
+
+    @Override
+    public T get() {
+        return value;
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Number of values pushed so far.
+     */
+    public long getPushedCount() {
+        return pushed.sum();
+    }
+
+    /**
+     * Number of pushed values that were superseded by a later value before
+     * they could be delivered.
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver() {
+        Object next = pending.getAndSet(null);
+        if(next != null) {
+            value = next == NULL ? null : (T) next;
+            fireValueChangedEvent();
+        }
+    }
+}
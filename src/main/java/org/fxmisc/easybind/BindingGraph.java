@@ -0,0 +1,272 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.Binding;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Snapshot of the dependency graph of a set of bindings, for finding
+ * bindings that are too deep, or too wide, and make propagation slow.
+ *
+ * <p>The graph is walked from the given roots down to their sources, by
+ * {@link Binding#getDependencies()} and the source of a
+ * {@link TransformationList}. The bindings created by EasyBind report
+ * their current dependencies: those of a {@link PreboundBinding}, the
+ * source and current target of a {@code flatMap} or
+ * {@code selectProperty} binding, the root and connected elements of a
+ * {@code select} chain, and the list and elements of a {@code combine}
+ * of a list.
+ *
+ * <p>Fan-out only counts dependents within the walked graph: an
+ * observable does not expose who listens to it.
+ */
+public final class BindingGraph {
+
+    /**
+     * Observable in the graph.
+     */
+    public static final class Node {
+        private final int id;
+        private final Observable observable;
+        private final List<Node> dependencies = new ArrayList<>();
+        private final List<Node> dependents = new ArrayList<>();
+        private int depth = -1;
+
+        private Node(int id, Observable observable) {
+            this.id = id;
+            this.observable = observable;
+        }
+
+        public Observable getObservable() { return observable; }
+        public List<Node> getDependencies() { return Collections.unmodifiableList(dependencies); }
+        public List<Node> getDependents() { return Collections.unmodifiableList(dependents); }
+        public int getFanIn() { return dependencies.size(); }
+        public int getFanOut() { return dependents.size(); }
+
+        /**
+         * Name given by {@link BindingMetrics#name(Object, String)}, or
+         * the class and identity hash code of the observable.
+         */
+        public String getLabel() {
+            return BindingMetrics.label(observable);
+        }
+
+        /**
+         * Length of the longest path from this node down to a source,
+         * 0 for sources.
+         */
+        public int getDepth() { return depth; }
+
+        @Override
+        public String toString() {
+            return String.format("%s: fan-in %d, fan-out %d, depth %d",
+                    getLabel(), getFanIn(), getFanOut(), depth);
+        }
+    }
+
+    /**
+     * Walks the dependency graph of {@code roots}.
+     */
+    public static BindingGraph of(Observable... roots) {
+        return new BindingGraph(roots);
+    }
+
+    private final List<Node> nodes = new ArrayList<>();
+    private int edges = 0;
+
+    private BindingGraph(Observable[] roots) {
+        Map<Observable, Node> byObservable = new IdentityHashMap<>();
+        Deque<Node> queue = new ArrayDeque<>();
+        for(Observable root: roots) {
+            node(root, byObservable, queue);
+        }
+        while(!queue.isEmpty()) {
+            Node node = queue.removeFirst();
+            Set<Node> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            for(Object dep: dependencies(node.observable)) {
+                if(dep instanceof Observable) {
+                    Node depNode = node((Observable) dep, byObservable, queue);
+                    if(seen.add(depNode)) {
+                        node.dependencies.add(depNode);
+                        depNode.dependents.add(node);
+                        edges += 1;
+                    }
+                }
+            }
+        }
+        computeDepths();
+    }
+
+    private Node node(Observable observable, Map<Observable, Node> byObservable, Deque<Node> queue) {
+        Node node = byObservable.get(observable);
+        if(node == null) {
+            node = new Node(nodes.size(), observable);
+            byObservable.put(observable, node);
+            nodes.add(node);
+            queue.addLast(node);
+        }
+        return node;
+    }
+
+    private static List<?> dependencies(Observable observable) {
+        if(observable instanceof Binding) {
+            return ((Binding<?>) observable).getDependencies();
+        } else if(observable instanceof TransformationList) {
+            return Collections.singletonList(((TransformationList<?, ?>) observable).getSource());
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Assigns depths in topological order, from the sources up. Nodes on
+     * a cycle, if there were any, are left with depth -1.
+     */
+    private void computeDepths() {
+        int[] pending = new int[nodes.size()];
+        Deque<Node> ready = new ArrayDeque<>();
+        for(Node node: nodes) {
+            pending[node.id] = node.getFanIn();
+            if(pending[node.id] == 0) {
+                node.depth = 0;
+                ready.add(node);
+            }
+        }
+        while(!ready.isEmpty()) {
+            Node node = ready.removeFirst();
+            for(Node dependent: node.dependents) {
+                dependent.depth = Math.max(dependent.depth, node.depth + 1);
+                if(--pending[dependent.id] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+    }
+
+    public List<Node> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    public int edgeCount() {
+        return edges;
+    }
+
+    public int maxDepth() {
+        int max = 0;
+        for(Node node: nodes) {
+            max = Math.max(max, node.depth);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the {@code n} nodes with the most dependencies, in
+     * decreasing order.
+     */
+    public List<Node> topByFanIn(int n) {
+        return top(n, Comparator.comparingInt(Node::getFanIn).reversed());
+    }
+
+    /**
+     * Returns the {@code n} nodes with the most dependents, in
+     * decreasing order.
+     */
+    public List<Node> topByFanOut(int n) {
+        return top(n, Comparator.comparingInt(Node::getFanOut).reversed());
+    }
+
+    private List<Node> top(int n, Comparator<Node> order) {
+        List<Node> sorted = new ArrayList<>(nodes);
+        sorted.sort(order);
+        return sorted.size() > n ? new ArrayList<>(sorted.subList(0, n)) : sorted;
+    }
+
+    /**
+     * Returns the graph in the Graphviz DOT language, with edges in the
+     * direction of propagation, from a dependency to its dependent.
+     */
+    public String toDot() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("digraph easybind {\n");
+        sb.append(String.format("    // nodes: %d, edges: %d, max depth: %d%n", nodeCount(), edgeCount(), maxDepth()));
+        for(Node node: nodes) {
+            sb.append("    n").append(node.id).append(" [label=\"");
+            escape(node.getLabel(), sb);
+            sb.append(String.format("\\nin %d, out %d, depth %d\"];%n", node.getFanIn(), node.getFanOut(), node.depth));
+        }
+        for(Node node: nodes) {
+            for(Node dep: node.dependencies) {
+                sb.append("    n").append(dep.id).append(" -> n").append(node.id).append(";\n");
+            }
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the graph as a JSON object with the counts and maximum
+     * depth, and the nodes, each with the ids of its dependencies.
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"nodeCount\":").append(nodeCount())
+          .append(",\"edgeCount\":").append(edgeCount())
+          .append(",\"maxDepth\":").append(maxDepth())
+          .append(",\"nodes\":[");
+        for(Node node: nodes) {
+            if(node.id > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(node.id).append(",\"label\":\"");
+            escape(node.getLabel(), sb);
+            sb.append("\",\"class\":\"");
+            escape(node.observable.getClass().getName(), sb);
+            sb.append("\",\"fanIn\":").append(node.getFanIn())
+              .append(",\"fanOut\":").append(node.getFanOut())
+              .append(",\"depth\":").append(node.depth)
+              .append(",\"dependencies\":[");
+            for(int i = 0; i < node.dependencies.size(); ++i) {
+                if(i > 0) {
+                    sb.append(',');
+                }
+                sb.append(node.dependencies.get(i).id);
+            }
+            sb.append("]}");
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    /**
+     * Escapes {@code s} for a string literal, which is the same for DOT
+     * and JSON as far as labels go.
+     */
+    private static void escape(String s, StringBuilder sb) {
+        for(int i = 0; i < s.length(); ++i) {
+            char c = s.charAt(i);
+            if(c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if(c == '\n') {
+                sb.append("\\n");
+            } else if(c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+}
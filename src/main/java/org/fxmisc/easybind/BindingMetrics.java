@@ -0,0 +1,270 @@
+package org.fxmisc.easybind;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in recompute metrics of bindings. When the system property
+ * {@code org.fxmisc.easybind.metrics} is {@code true} at startup, the
+ * bindings created by EasyBind ({@link PreboundBinding}, {@code flatMap}
+ * and {@code selectProperty} bindings, {@code combine} of a list and
+ * {@code select} chains) count their invalidations and recomputes and
+ * the time spent recomputing. When it is not set, the checks are on a
+ * constant and are compiled away, so that there is no cost at all.
+ *
+ * <p>The metrics are kept in a registry that holds the bindings weakly:
+ * the metrics of a binding disappear with it. A binding can be given a
+ * name by {@link #name(Object, String)}, which appears in the reports and
+ * in the Flight Recorder events of {@link JfrEvents}.
+ * The registry can also be queried over JMX, see {@link #registerMBean()}.
+ *
+ * <p>The bindings created by EasyBind record their recomputes however
+ * they are read. A subclass of {@link PreboundBinding} defined outside
+ * EasyBind only records the recomputes triggered by {@code getValue()};
+ * those triggered by {@code get()} are neither counted nor timed.
+ */
+public final class BindingMetrics {
+
+    /**
+     * Metrics of a single binding, as of the time they were retrieved.
+     */
+    public static final class Entry {
+        private final String name;
+        private final long invalidations;
+        private final long recomputes;
+        private final long nanos;
+
+        private Entry(String name, long invalidations, long recomputes, long nanos) {
+            this.name = name;
+            this.invalidations = invalidations;
+            this.recomputes = recomputes;
+            this.nanos = nanos;
+        }
+
+        public String getName() { return name; }
+        public long getInvalidations() { return invalidations; }
+        public long getRecomputes() { return recomputes; }
+        public long getNanos() { return nanos; }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d invalidations, %d recomputes, %.3f ms",
+                    name, invalidations, recomputes, nanos / 1e6);
+        }
+    }
+
+    /**
+     * Management interface of the registry, see {@link BindingMetrics#registerMBean()}.
+     */
+    public interface BindingMetricsMXBean {
+        int getTrackedBindings();
+        String[] topByTime(int n);
+        String[] topByRecomputes(int n);
+        void reset();
+    }
+
+    private static class Stats {
+        long invalidations;
+        long recomputes;
+        long nanos;
+    }
+
+    /**
+     * Weak key compared by identity, since observable lists, which can be
+     * named too, are compared by content.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || other instanceof IdentityKey && ((IdentityKey) other).get() == get() && get() != null;
+        }
+    }
+
+    private static final boolean ENABLED = Boolean.getBoolean("org.fxmisc.easybind.metrics");
+
+    private static final Map<Object, Stats> registry = new WeakHashMap<>();
+    private static final Map<IdentityKey, String> names = new HashMap<>();
+    private static final ReferenceQueue<Object> collectedNames = new ReferenceQueue<>();
+
+    private BindingMetrics() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Names {@code binding} in the reports and Flight Recorder events.
+     * The name is kept even when metrics are disabled.
+     * @return {@code binding}
+     */
+    public static <B> B name(B binding, String name) {
+        synchronized(names) {
+            for(Reference<?> key; (key = collectedNames.poll()) != null; ) {
+                names.remove(key);
+            }
+            names.put(new IdentityKey(binding, collectedNames), name);
+        }
+        return binding;
+    }
+
+    /**
+     * Called by a binding when it is invalidated.
+     */
+    public static void recordInvalidation(Object binding) {
+        synchronized(registry) {
+            stats(binding).invalidations += 1;
+        }
+    }
+
+    /**
+     * Called by a binding after it recomputed its value in
+     * {@code nanos} nanoseconds, or -1 if the time is unknown.
+     */
+    public static void recordRecompute(Object binding, long nanos) {
+        synchronized(registry) {
+            Stats stats = stats(binding);
+            stats.recomputes += 1;
+            if(nanos > 0) {
+                stats.nanos += nanos;
+            }
+        }
+    }
+
+    /**
+     * Returns the metrics of {@code binding}, or {@code null} if it was
+     * never invalidated or recomputed.
+     */
+    public static Entry get(Object binding) {
+        synchronized(registry) {
+            Stats stats = registry.get(binding);
+            return stats == null ? null : entry(binding, stats);
+        }
+    }
+
+    /**
+     * Returns the metrics of the {@code n} bindings that spent the most
+     * time recomputing, in decreasing order.
+     */
+    public static List<Entry> topByTime(int n) {
+        return top(n, Comparator.comparingLong(Entry::getNanos).reversed());
+    }
+
+    /**
+     * Returns the metrics of the {@code n} bindings that recomputed the
+     * most often, in decreasing order.
+     */
+    public static List<Entry> topByRecomputes(int n) {
+        return top(n, Comparator.comparingLong(Entry::getRecomputes).reversed());
+    }
+
+    public static int trackedBindings() {
+        synchronized(registry) {
+            return registry.size();
+        }
+    }
+
+    /**
+     * Forgets the metrics of all bindings. Their names are kept.
+     */
+    public static void reset() {
+        synchronized(registry) {
+            registry.clear();
+        }
+    }
+
+    /**
+     * Registers a {@link BindingMetricsMXBean} under the name
+     * {@code org.fxmisc.easybind:type=BindingMetrics} in the platform
+     * MBean server, unless already registered.
+     */
+    public static void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName("org.fxmisc.easybind:type=BindingMetrics");
+            if(!server.isRegistered(name)) {
+                server.registerMBean(new MXBeanImpl(), name);
+            }
+        } catch(JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Entry> top(int n, Comparator<Entry> order) {
+        List<Entry> entries = new ArrayList<>();
+        synchronized(registry) {
+            registry.forEach((binding, stats) -> entries.add(entry(binding, stats)));
+        }
+        entries.sort(order);
+        return entries.size() > n ? new ArrayList<>(entries.subList(0, n)) : entries;
+    }
+
+    private static Stats stats(Object binding) {
+        return registry.computeIfAbsent(binding, b -> new Stats());
+    }
+
+    private static Entry entry(Object binding, Stats stats) {
+        return new Entry(label(binding), stats.invalidations, stats.recomputes, stats.nanos);
+    }
+
+    /**
+     * Returns the name of {@code binding}, or its class and identity hash
+     * code if it has no name.
+     */
+    static String label(Object binding) {
+        String name;
+        synchronized(names) {
+            name = names.get(new IdentityKey(binding, null));
+        }
+        return name != null
+                ? name
+                : binding.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(binding));
+    }
+
+    private static class MXBeanImpl implements BindingMetricsMXBean {
+
+        @Override
+        public int getTrackedBindings() {
+            return trackedBindings();
+        }
+
+        @Override
+        public String[] topByTime(int n) {
+            return BindingMetrics.topByTime(n).stream().map(Entry::toString).toArray(String[]::new);
+        }
+
+        @Override
+        public String[] topByRecomputes(int n) {
+            return BindingMetrics.topByRecomputes(n).stream().map(Entry::toString).toArray(String[]::new);
+        }
+
+        @Override
+        public void reset() {
+            BindingMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.fxmisc.easybind;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Binary log of the changes of an observable list or value, written by
+ * {@link EasyBind#record(javafx.collections.ObservableList, java.nio.channels.WritableByteChannel, ElementWriter)}
+ * and read back by {@link ListReplay} and {@link ValueReplay}.
+ *
+ * <p>The log starts with a header (a magic number, the format version and
+ * the kind of observable), followed by frames. Each frame is prefixed by
+ * its length and holds the time elapsed since the previous frame, in
+ * nanoseconds, followed by one change. The first frame is a snapshot of the
+ * initial state. A list change is a sequence of sub-changes: replaced
+ * ranges (start index, number of removed elements and the added elements),
+ * permutations and updates (with the updated elements). All integers are
+ * variable-length encoded, so that small indices and counts take a single
+ * byte. Elements are encoded by the user-supplied {@link ElementWriter}.
+ * A frame cut short, e.g. when the recording process was killed, marks the
+ * end of the log.
+ */
+public final class ChangeLog {
+
+    /**
+     * Encodes a non-null element.
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        void write(DataOutput out, T elem) throws IOException;
+    }
+
+    /**
+     * Decodes an element encoded by the corresponding {@link ElementWriter}.
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    static final int MAGIC = 0x4542434c; // "EBCL"
+    static final byte VERSION = 1;
+
+    static final byte KIND_LIST = 1;
+    static final byte KIND_VALUE = 2;
+    static final byte KIND_MIRROR = 3;
+
+    static final byte REPLACE = 0;
+    static final byte PERMUTE = 1;
+    static final byte UPDATE = 2;
+
+    private ChangeLog() {}
+
+    static void writeHeader(DataOutput out, byte kind) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(kind);
+    }
+
+    static void readHeader(DataInput in, byte kind) throws IOException {
+        if(in.readInt() != MAGIC) {
+            throw new IOException("not a change log");
+        }
+        byte version = in.readByte();
+        if(version != VERSION) {
+            throw new IOException("unsupported change log version: " + version);
+        }
+        byte actualKind = in.readByte();
+        if(actualKind != kind) {
+            throw new IOException("change log of the wrong kind: " + actualKind);
+        }
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while((value & ~0x7fL) != 0) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for(int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if(b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed variable-length integer");
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if(value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    static <T> void writeElement(DataOutput out, T elem, ElementWriter<? super T> writer) throws IOException {
+        if(elem == null) {
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            writer.write(out, elem);
+        }
+    }
+
+    static <T> T readElement(DataInput in, ElementReader<? extends T> reader) throws IOException {
+        return in.readBoolean() ? reader.read(in) : null;
+    }
+
+    static <T> void writeListChange(
+            DataOutput out,
+            ListChangeListener.Change<? extends T> ch,
+            ElementWriter<? super T> writer) throws IOException {
+        int n = 0;
+        while(ch.next()) {
+            ++n;
+        }
+        ch.reset();
+        writeVarLong(out, n);
+        while(ch.next()) {
+            int from = ch.getFrom();
+            int to = ch.getTo();
+            if(ch.wasPermutated()) {
+                out.writeByte(PERMUTE);
+                writeVarLong(out, from);
+                writeVarLong(out, to);
+                for(int i = from; i < to; ++i) {
+                    writeVarLong(out, ch.getPermutation(i));
+                }
+            } else if(ch.wasUpdated()) {
+                out.writeByte(UPDATE);
+                writeVarLong(out, from);
+                writeVarLong(out, to);
+                for(T elem: ch.getList().subList(from, to)) {
+                    writeElement(out, elem, writer);
+                }
+            } else {
+                writeReplace(out, from, ch.getRemovedSize(), ch.getAddedSubList(), writer);
+            }
+        }
+    }
+
+    static <T> void writeReplace(
+            DataOutput out,
+            int from,
+            int removedSize,
+            List<? extends T> added,
+            ElementWriter<? super T> writer) throws IOException {
+        out.writeByte(REPLACE);
+        writeVarLong(out, from);
+        writeVarLong(out, removedSize);
+        writeVarLong(out, added.size());
+        for(T elem: added) {
+            writeElement(out, elem, writer);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.fxmisc.easybind;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+import org.fxmisc.easybind.ChangeLog.ElementReader;
+
+/**
+ * Read-only list whose contents are driven by list changes decoded from
+ * a change log. A change is decoded completely, and checked against the
+ * current contents, before it is applied as a single list change with
+ * the same sub-changes, including permutations and updates. A change
+ * that fails to decode or does not apply leaves the list untouched.
+ */
+abstract class ChangeLogList<E> extends ObservableListBase<E> {
+
+    private static final class SubChange<E> {
+        final byte type;
+        final int from;
+        final int to;
+        final int[] perm;
+        final List<E> elems;
+
+        SubChange(byte type, int from, int to, int[] perm, List<E> elems) {
+            this.type = type;
+            this.from = from;
+            this.to = to;
+            this.perm = perm;
+            this.elems = elems;
+        }
+    }
+
+    private final ElementReader<? extends E> elementReader;
+    private final List<E> elems = new ArrayList<>();
+
+    ChangeLogList(ElementReader<? extends E> elementReader) {
+        this.elementReader = elementReader;
+    }
+
+    @Override
+    public E get(int index) {
+        return elems.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elems.size();
+    }
+
+    /**
+     * Reads a list change written by
+     * {@link ChangeLog#writeListChange(java.io.DataOutput, javafx.collections.ListChangeListener.Change, ChangeLog.ElementWriter)}
+     * and applies it.
+     * @return {@code false} if the change does not apply to the current
+     * contents, in which case the list is left unchanged.
+     */
+    boolean applyChange(DataInput in) throws IOException {
+        List<SubChange<E>> change = readChange(in);
+        if(change == null) {
+            return false;
+        }
+        beginChange();
+        try {
+            for(SubChange<E> ch: change) {
+                apply(ch);
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the contents by {@code count} elements read from {@code in}.
+     */
+    void applySnapshot(DataInput in, int count) throws IOException {
+        List<E> snapshot = readElements(in, count);
+        List<E> old = new ArrayList<>(elems);
+        elems.clear();
+        elems.addAll(snapshot);
+        beginChange();
+        nextReplace(0, elems.size(), old);
+        endChange();
+    }
+
+    /**
+     * Decodes a change, checking the indices of each sub-change against
+     * the size of the list after the previous ones.
+     * @return the sub-changes, or {@code null} if they do not apply.
+     */
+    private List<SubChange<E>> readChange(DataInput in) throws IOException {
+        int size = elems.size();
+        List<SubChange<E>> change = new ArrayList<>();
+        for(int n = ChangeLog.readVarInt(in); n > 0; --n) {
+            byte type = in.readByte();
+            int from = ChangeLog.readVarInt(in);
+            switch(type) {
+                case ChangeLog.REPLACE: {
+                    int to = from + ChangeLog.readVarInt(in);
+                    if(from < 0 || to < from || to > size) {
+                        return null;
+                    }
+                    List<E> added = readElements(in, ChangeLog.readVarInt(in));
+                    change.add(new SubChange<>(type, from, to, null, added));
+                    size += added.size() - (to - from);
+                    break;
+                }
+                case ChangeLog.PERMUTE: {
+                    int to = ChangeLog.readVarInt(in);
+                    if(from < 0 || to < from || to > size) {
+                        return null;
+                    }
+                    int[] perm = new int[to - from];
+                    boolean[] seen = new boolean[perm.length];
+                    for(int i = 0; i < perm.length; ++i) {
+                        perm[i] = ChangeLog.readVarInt(in);
+                        if(perm[i] < from || perm[i] >= to || seen[perm[i] - from]) {
+                            return null;
+                        }
+                        seen[perm[i] - from] = true;
+                    }
+                    change.add(new SubChange<>(type, from, to, perm, null));
+                    break;
+                }
+                case ChangeLog.UPDATE: {
+                    int to = ChangeLog.readVarInt(in);
+                    if(from < 0 || to < from || to > size) {
+                        return null;
+                    }
+                    change.add(new SubChange<>(type, from, to, null, readElements(in, to - from)));
+                    break;
+                }
+                default:
+                    throw new IOException("unknown change type: " + type);
+            }
+        }
+        return change;
+    }
+
+    private void apply(SubChange<E> ch) {
+        switch(ch.type) {
+            case ChangeLog.REPLACE: {
+                List<E> removed = elems.subList(ch.from, ch.to);
+                List<E> old = new ArrayList<>(removed);
+                removed.clear();
+                elems.addAll(ch.from, ch.elems);
+                if(!old.isEmpty() || !ch.elems.isEmpty()) {
+                    nextReplace(ch.from, ch.from + ch.elems.size(), old);
+                }
+                break;
+            }
+            case ChangeLog.PERMUTE: {
+                List<E> old = new ArrayList<>(elems.subList(ch.from, ch.to));
+                for(int i = 0; i < ch.perm.length; ++i) {
+                    elems.set(ch.perm[i], old.get(i));
+                }
+                nextPermutation(ch.from, ch.to, ch.perm);
+                break;
+            }
+            default: { // UPDATE
+                for(int i = ch.from; i < ch.to; ++i) {
+                    elems.set(i, ch.elems.get(i - ch.from));
+                    nextUpdate(i);
+                }
+            }
+        }
+    }
+
+    private List<E> readElements(DataInput in, int count) throws IOException {
+        // the count comes from the stream, don't trust it for allocation
+        List<E> res = new ArrayList<>(Math.min(count, 1024));
+        for(int i = 0; i < count; ++i) {
+            res.add(ChangeLog.readElement(in, elementReader));
+        }
+        return res;
+    }
+}
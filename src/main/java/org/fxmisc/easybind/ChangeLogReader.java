@@ -0,0 +1,67 @@
+package org.fxmisc.easybind;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reads the frames of a change log, see {@link ChangeLog}.
+ */
+class ChangeLogReader implements Closeable {
+    private final ReadableByteChannel channel;
+    private final DataInputStream in;
+    private byte[] frame = new byte[256];
+    private long offset = 0; // nanoseconds since the first frame
+    private long replayStart = -1;
+
+    ChangeLogReader(ReadableByteChannel channel, byte kind) throws IOException {
+        this.channel = channel;
+        this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        ChangeLog.readHeader(in, kind);
+    }
+
+    /**
+     * Returns the content of the next frame, or {@code null} at the end
+     * of the log.
+     */
+    DataInputStream next() throws IOException {
+        int length;
+        try {
+            length = ChangeLog.readVarInt(in);
+            if(length > frame.length) {
+                frame = new byte[Math.max(length, 2 * frame.length)];
+            }
+            in.readFully(frame, 0, length);
+        } catch(EOFException e) {
+            return null;
+        }
+        DataInputStream res = new DataInputStream(new ByteArrayInputStream(frame, 0, length));
+        offset += ChangeLog.readVarLong(res);
+        return res;
+    }
+
+    /**
+     * Waits until the time of the last frame read, relative to the first
+     * call of this method.
+     */
+    void awaitOffset() {
+        if(replayStart < 0) {
+            replayStart = System.nanoTime() - offset;
+        }
+        long remaining;
+        while((remaining = replayStart + offset - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,94 @@
+package org.fxmisc.easybind;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.fxmisc.easybind.ChangeLog.ElementWriter;
+
+/**
+ * Writes the changes of an observable list or value to a channel, in the
+ * format described in {@link ChangeLog}. Each change is written as soon
+ * as it is observed, in a single frame. I/O errors are rethrown from the
+ * listener as {@link UncheckedIOException}. The channel is not closed on
+ * unsubscribe.
+ */
+class ChangeRecorder implements Subscription {
+
+    static <T> ChangeRecorder forList(
+            ObservableList<T> list,
+            WritableByteChannel channel,
+            ElementWriter<? super T> writer) throws IOException {
+        ChangeRecorder recorder = new ChangeRecorder(channel, ChangeLog.KIND_LIST);
+        recorder.frame(out -> {
+            ChangeLog.writeVarLong(out, 1);
+            ChangeLog.writeReplace(out, 0, 0, list, writer);
+        });
+        ListChangeListener<T> listener = ch ->
+                recorder.frameUnchecked(out -> ChangeLog.writeListChange(out, ch, writer));
+        list.addListener(listener);
+        recorder.unsubscribe = () -> list.removeListener(listener);
+        return recorder;
+    }
+
+    static <T> ChangeRecorder forValue(
+            ObservableValue<T> value,
+            WritableByteChannel channel,
+            ElementWriter<? super T> writer) throws IOException {
+        ChangeRecorder recorder = new ChangeRecorder(channel, ChangeLog.KIND_VALUE);
+        recorder.frame(out -> ChangeLog.writeElement(out, value.getValue(), writer));
+        ChangeListener<T> listener = (obs, oldVal, newVal) ->
+                recorder.frameUnchecked(out -> ChangeLog.writeElement(out, newVal, writer));
+        value.addListener(listener);
+        recorder.unsubscribe = () -> value.removeListener(listener);
+        return recorder;
+    }
+
+    @FunctionalInterface
+    private interface FrameWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private final FrameOutput output;
+    private long lastTime = -1;
+    private Subscription unsubscribe;
+
+    private ChangeRecorder(WritableByteChannel channel, byte kind) throws IOException {
+        this.output = new FrameOutput(channel);
+        ChangeLog.writeHeader(output.data(), kind);
+        output.sendRaw();
+    }
+
+    @Override
+    public void unsubscribe() {
+        unsubscribe.unsubscribe();
+    }
+
+    private void frameUnchecked(FrameWriter content) {
+        try {
+            frame(content);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void frame(FrameWriter content) throws IOException {
+        long now = System.nanoTime();
+        DataOutputStream out = output.data();
+        try {
+            ChangeLog.writeVarLong(out, lastTime < 0 ? 0 : now - lastTime);
+            content.write(out);
+        } catch(IOException | RuntimeException e) {
+            output.discard();
+            throw e;
+        }
+        lastTime = now;
+        output.sendFrame();
+    }
+}
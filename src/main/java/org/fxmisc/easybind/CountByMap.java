@@ -0,0 +1,65 @@
+package org.fxmisc.easybind;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Number of elements of a list per key. Counts are stored as primitives
+ * and only boxed when read.
+ */
+class CountByMap<T, K> extends AbstractObservableMap<K, Integer> {
+    private final KeyCounts<T, K> counts;
+
+    private final Set<Map.Entry<K, Integer>> entrySet = new AbstractSet<Map.Entry<K, Integer>>() {
+        @Override
+        public Iterator<Map.Entry<K, Integer>> iterator() {
+            ObjectIntMap<K> map = counts.counts();
+            return map.slotIterator(i -> new SimpleImmutableEntry<>(map.keyAt(i), map.valueAt(i)));
+        }
+
+        @Override
+        public int size() {
+            return counts.counts().size();
+        }
+    };
+
+    public CountByMap(
+            ObservableList<? extends T> source,
+            Function<? super T, ? extends K> keyFn) {
+        counts = new KeyCounts<>(source, keyFn, this::countChanged);
+    }
+
+    private void countChanged(K key, int oldCount, int newCount) {
+        fireChange(
+                key,
+                oldCount != 0, oldCount != 0 ? oldCount : null,
+                newCount != 0, newCount != 0 ? newCount : null);
+    }
+
+    @Override
+    public Set<Map.Entry<K, Integer>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public Integer get(Object key) {
+        int count = counts.counts().get(key);
+        return count != 0 ? count : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return counts.counts().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return counts.counts().size();
+    }
+}
@@ -0,0 +1,49 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.util.Duration;
+
+/**
+ * Takes over the source value once the source has not changed for the
+ * given quiet period.
+ */
+class DebounceBinding<T> extends TimedBinding<T> {
+    // need to observe every change of the source to postpone the deadline
+    private final ChangeListener<T> srcListener = (obs, oldVal, newVal) -> srcChanged();
+    private final ChangeListener<T> weakSrcListener = new WeakChangeListener<>(srcListener);
+    private final long quietNanos;
+
+    private long deadline;
+
+    DebounceBinding(ObservableValue<T> src, Duration quietPeriod, Scheduler scheduler) {
+        super(src, scheduler);
+        this.quietNanos = Scheduler.toNanos(quietPeriod);
+        src.addListener(weakSrcListener);
+    }
+
+    @Override
+    public void dispose() {
+        src.removeListener(weakSrcListener);
+        super.dispose();
+    }
+
+    private void srcChanged() {
+        deadline = scheduler.now() + quietNanos;
+        // instead of rescheduling on every change, reschedule lazily when
+        // the action runs before the postponed deadline
+        if(!isScheduled()) {
+            schedule(quietNanos, this::deadlineReached);
+        }
+    }
+
+    private void deadlineReached() {
+        long remaining = deadline - scheduler.now();
+        if(remaining > 0) {
+            schedule(remaining, this::deadlineReached);
+        } else {
+            emit();
+        }
+    }
+}
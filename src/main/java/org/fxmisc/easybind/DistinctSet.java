@@ -0,0 +1,40 @@
+package org.fxmisc.easybind;
+
+import java.util.Iterator;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Set of the distinct elements of a list, backed by reference counts.
+ */
+class DistinctSet<E> extends ObservableSetBase<E> {
+    private final KeyCounts<E, E> counts;
+
+    public DistinctSet(ObservableList<? extends E> source) {
+        counts = new KeyCounts<>(source, null, this::countChanged);
+    }
+
+    private void countChanged(E elem, int oldCount, int newCount) {
+        if(oldCount == 0) {
+            fireChange(elem, true);
+        } else if(newCount == 0) {
+            fireChange(elem, false);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return counts.counts().containsKey(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        ObjectIntMap<E> map = counts.counts();
+        return map.slotIterator(map::keyAt);
+    }
+
+    @Override
+    public int size() {
+        return counts.counts().size();
+    }
+}
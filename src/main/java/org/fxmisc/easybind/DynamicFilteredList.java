@@ -0,0 +1,213 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Filtered view of a list whose predicate is an observable value.
+ * Whether each source element passes the predicate is kept in a
+ * {@link FenwickTree} of 0/1 values, so that translating between view and
+ * source indices is O(log n). Updated source elements (as reported by
+ * source lists with an extractor) are the only ones re-tested on an update
+ * change. On a predicate change, only the elements whose membership
+ * changed are reported, in coalesced ranges.
+ */
+class DynamicFilteredList<E> extends TransformationList<E, E> {
+    private final ObservableValue<? extends Predicate<? super E>> predicate;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final InvalidationListener predicateListener = obs -> predicateInvalidated();
+    private final InvalidationListener weakPredicateListener = new WeakInvalidationListener(predicateListener);
+
+    private final FenwickTree passing;
+    private Predicate<? super E> currentPredicate;
+
+    public DynamicFilteredList(
+            ObservableList<? extends E> source,
+            ObservableValue<? extends Predicate<? super E>> predicate) {
+        super(source);
+        this.predicate = predicate;
+        this.currentPredicate = predicate.getValue();
+        this.passing = new FenwickTree(source.size());
+        int[] bits = new int[source.size()];
+        for(int i = 0; i < bits.length; ++i) {
+            bits[i] = test(source.get(i));
+        }
+        passing.setAll(bits, bits.length);
+        predicate.addListener(weakPredicateListener);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index + " not in [0, " + size() + ")");
+        }
+        return passing.indexOf(index);
+    }
+
+    public int getViewIndex(int index) {
+        return passing.get(index) > 0 ? passing.prefixSum(index) : -1;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return passing.total();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObservableList<E> source() {
+        return (ObservableList<E>) getSource();
+    }
+
+    private int test(E elem) {
+        return currentPredicate == null || currentPredicate.test(elem) ? 1 : 0;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        while(c.next()) {
+            if(c.wasPermutated()) {
+                permutated(c);
+            } else if(c.wasUpdated()) {
+                updated(c.getFrom(), c.getTo());
+            } else {
+                replaced(c);
+            }
+        }
+        endChange();
+    }
+
+    private void permutated(Change<? extends E> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        int viewFrom = passing.prefixSum(from);
+
+        int[] newBits = new int[to - from];
+        for(int i = from; i < to; ++i) {
+            newBits[c.getPermutation(i) - from] = passing.get(i);
+        }
+
+        // old view index of each passing element, relative to viewFrom,
+        // in the order of source indices
+        int[] oldViewIndex = new int[to - from];
+        int v = 0;
+        for(int i = from; i < to; ++i) {
+            oldViewIndex[i - from] = passing.get(i) == 1 ? v++ : -1;
+        }
+        int viewTo = viewFrom + v;
+
+        int[] newViewIndexByNewPos = new int[to - from];
+        int w = 0;
+        for(int k = 0; k < newBits.length; ++k) {
+            newViewIndexByNewPos[k] = newBits[k] == 1 ? w++ : -1;
+        }
+
+        int[] perm = new int[viewTo - viewFrom];
+        for(int i = from; i < to; ++i) {
+            int old = oldViewIndex[i - from];
+            if(old >= 0) {
+                perm[old] = viewFrom + newViewIndexByNewPos[c.getPermutation(i) - from];
+            }
+        }
+
+        passing.replace(from, to, newBits, newBits.length);
+        if(viewTo > viewFrom) {
+            nextPermutation(viewFrom, viewTo, perm);
+        }
+    }
+
+    private void updated(int from, int to) {
+        ObservableList<E> src = source();
+        for(int i = from; i < to; ++i) {
+            E elem = src.get(i);
+            int was = passing.get(i);
+            int is = test(elem);
+            int viewIndex = passing.prefixSum(i);
+            if(was == 1 && is == 1) {
+                nextUpdate(viewIndex);
+            } else if(was == 1) {
+                passing.set(i, 0);
+                nextRemove(viewIndex, elem);
+            } else if(is == 1) {
+                passing.set(i, 1);
+                nextAdd(viewIndex, viewIndex + 1);
+            }
+        }
+    }
+
+    private void replaced(Change<? extends E> c) {
+        int from = c.getFrom();
+        int viewFrom = passing.prefixSum(from);
+
+        if(c.wasRemoved()) {
+            List<? extends E> removed = c.getRemoved();
+            List<E> removedFromView = new ArrayList<>();
+            for(int k = 0; k < removed.size(); ++k) {
+                if(passing.get(from + k) == 1) {
+                    removedFromView.add(removed.get(k));
+                }
+            }
+            if(!removedFromView.isEmpty()) {
+                nextRemove(viewFrom, removedFromView);
+            }
+        }
+
+        List<? extends E> added = c.getAddedSubList();
+        int[] newBits = new int[added.size()];
+        int addedToView = 0;
+        for(int k = 0; k < newBits.length; ++k) {
+            newBits[k] = test(added.get(k));
+            addedToView += newBits[k];
+        }
+        passing.replace(from, from + c.getRemovedSize(), newBits, newBits.length);
+        if(addedToView > 0) {
+            nextAdd(viewFrom, viewFrom + addedToView);
+        }
+    }
+
+    private void predicateInvalidated() {
+        // reading the value also revalidates the predicate observable
+        currentPredicate = predicate.getValue();
+        refilter();
+    }
+
+    private void refilter() {
+        ObservableList<E> src = source();
+        int n = src.size();
+        int[] bits = new int[n];
+
+        beginChange();
+        // v is the view index in the list as modified by the changes so far
+        int v = 0;
+        for(int i = 0; i < n; ++i) {
+            E elem = src.get(i);
+            int was = passing.get(i);
+            int is = test(elem);
+            bits[i] = is;
+            if(was == 1 && is == 0) {
+                nextRemove(v, elem);
+            } else if(was == 0 && is == 1) {
+                nextAdd(v, v + 1);
+                ++v;
+            } else if(is == 1) {
+                ++v;
+            }
+        }
+        passing.setAll(bits, n);
+        endChange();
+    }
+}
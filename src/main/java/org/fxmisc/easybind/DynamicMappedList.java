@@ -0,0 +1,208 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Mapped view of a list, where each source element is mapped to an
+ * observable value, and the view holds the current values of those
+ * observable values. A single listener, shared by all elements, observes
+ * the mapped observable values; each distinct observable value is observed
+ * once, even if several elements map to it. The current value of each
+ * element is cached, so that a change of an element can be reported with
+ * the previous value as removed.
+ */
+class DynamicMappedList<E, F> extends TransformationList<E, F> {
+
+    /**
+     * Element of the view. Slots of elements mapped to the same observable
+     * value are linked via {@link #next}.
+     */
+    private static final class Slot<E> {
+        final ObservableValue<? extends E> obs;
+        E value;
+        int index;
+        Slot<E> next = null;
+
+        Slot(ObservableValue<? extends E> obs, int index) {
+            this.obs = obs;
+            this.index = index;
+            this.value = obs != null ? obs.getValue() : null;
+        }
+    }
+
+    private final Function<? super F, ? extends ObservableValue<? extends E>> f;
+    private final List<Slot<E>> slots = new ArrayList<>();
+    private final Map<Observable, Slot<E>> slotsByObservable = new IdentityHashMap<>();
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final InvalidationListener elemListener = this::elementInvalidated;
+    private final InvalidationListener weakElemListener = new WeakInvalidationListener(elemListener);
+
+    public DynamicMappedList(
+            ObservableList<? extends F> source,
+            Function<? super F, ? extends ObservableValue<? extends E>> f) {
+        super(source);
+        this.f = f;
+        for(int i = 0; i < source.size(); ++i) {
+            slots.add(track(source.get(i), i));
+        }
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    public int getViewIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public E get(int index) {
+        return slots.get(index).value;
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends F> c) {
+        beginChange();
+        while(c.next()) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            if(c.wasPermutated()) {
+                List<Slot<E>> permuted = new ArrayList<>(slots.subList(from, to));
+                int[] perm = new int[to - from];
+                for(int i = from; i < to; ++i) {
+                    int j = c.getPermutation(i);
+                    perm[i - from] = j;
+                    Slot<E> slot = permuted.get(i - from);
+                    slot.index = j;
+                    slots.set(j, slot);
+                }
+                nextPermutation(from, to, perm);
+            } else if(c.wasUpdated()) {
+                for(int i = from; i < to; ++i) {
+                    Slot<E> old = slots.get(i);
+                    ObservableValue<? extends E> obs = f.apply(getSource().get(i));
+                    if(obs == old.obs) {
+                        refresh(old);
+                    } else {
+                        untrack(old);
+                        Slot<E> slot = track(getSource().get(i), i, obs);
+                        slots.set(i, slot);
+                        nextSet(i, old.value);
+                    }
+                }
+            } else {
+                List<Slot<E>> removedSlots = slots.subList(from, from + c.getRemovedSize());
+                if(!removedSlots.isEmpty()) {
+                    List<E> removed = new ArrayList<>(removedSlots.size());
+                    for(Slot<E> slot: removedSlots) {
+                        removed.add(slot.value);
+                        untrack(slot);
+                    }
+                    removedSlots.clear();
+                    nextRemove(from, removed);
+                }
+
+                List<? extends F> added = c.getAddedSubList();
+                List<Slot<E>> addedSlots = new ArrayList<>(added.size());
+                for(int k = 0; k < added.size(); ++k) {
+                    addedSlots.add(track(added.get(k), from + k));
+                }
+                slots.addAll(from, addedSlots);
+                if(c.getAddedSize() != c.getRemovedSize()) {
+                    for(int i = from + added.size(); i < slots.size(); ++i) {
+                        slots.get(i).index = i;
+                    }
+                }
+                if(!addedSlots.isEmpty()) {
+                    nextAdd(from, from + addedSlots.size());
+                }
+            }
+        }
+        endChange();
+    }
+
+    private Slot<E> track(F elem, int index) {
+        return track(elem, index, f.apply(elem));
+    }
+
+    private Slot<E> track(F elem, int index, ObservableValue<? extends E> obs) {
+        Slot<E> slot = new Slot<>(obs, index);
+        if(obs != null) {
+            Slot<E> head = slotsByObservable.put(obs, slot);
+            if(head != null) {
+                slot.next = head;
+            } else {
+                obs.addListener(weakElemListener);
+            }
+        }
+        return slot;
+    }
+
+    private void untrack(Slot<E> slot) {
+        if(slot.obs == null) {
+            return;
+        }
+        Slot<E> head = slotsByObservable.get(slot.obs);
+        if(head == slot) {
+            if(slot.next != null) {
+                slotsByObservable.put(slot.obs, slot.next);
+            } else {
+                slotsByObservable.remove(slot.obs);
+                slot.obs.removeListener(weakElemListener);
+            }
+        } else {
+            Slot<E> prev = head;
+            while(prev.next != slot) {
+                prev = prev.next;
+            }
+            prev.next = slot.next;
+        }
+        slot.next = null;
+    }
+
+    private void elementInvalidated(Observable obs) {
+        Slot<E> head = slotsByObservable.get(obs);
+        if(head != null) {
+            beginChange();
+            // reading the value also revalidates the observable
+            E newValue = head.obs.getValue();
+            for(Slot<E> slot = head; slot != null; slot = slot.next) {
+                update(slot, newValue);
+            }
+            endChange();
+        }
+    }
+
+    private void refresh(Slot<E> slot) {
+        update(slot, slot.obs != null ? slot.obs.getValue() : null);
+    }
+
+    private void update(Slot<E> slot, E newValue) {
+        E old = slot.value;
+        slot.value = newValue;
+        if(old == newValue) {
+            nextUpdate(slot.index);
+        } else {
+            nextSet(slot.index, old);
+        }
+    }
+}
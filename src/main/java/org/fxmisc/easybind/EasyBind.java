@@ -1,19 +1,38 @@
 package org.fxmisc.easybind;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 import javafx.beans.property.Property;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+import javafx.util.Duration;
 
+import org.fxmisc.easybind.monadic.AsyncBinding;
 import org.fxmisc.easybind.monadic.MonadicBinding;
 import org.fxmisc.easybind.monadic.MonadicObservableValue;
 import org.fxmisc.easybind.monadic.PropertyBinding;
@@ -24,6 +43,8 @@ import org.fxmisc.easybind.select.SelectBuilder;
  */
 public class EasyBind {
 
+    private static final SharedBindings SHARED = new SharedBindings();
+
     @FunctionalInterface
     public interface TriFunction<A, B, C, R> {
         R apply(A a, B b, C c);
@@ -44,6 +65,11 @@ public class EasyBind {
         R apply(A a, B b, C c, D d, E e, F f);
     }
 
+    @FunctionalInterface
+    public interface FloatUnaryOperator {
+        float applyAsFloat(float x);
+    }
+
     /**
      * Creates a thin wrapper around an observable value to make it monadic.
      * @param o ObservableValue to wrap
@@ -61,9 +87,9 @@ public class EasyBind {
     public static <T> MonadicBinding<T> filter(
             ObservableValue<T> src,
             Predicate<? super T> p) {
-        return new PreboundBinding<T>(src) {
+        return new InstrumentedBinding<T>(src) {
             @Override
-            protected T computeValue() {
+            protected T compute() {
                 T val = src.getValue();
                 return (val != null && p.test(val)) ? val : null;
             }
@@ -73,9 +99,9 @@ public class EasyBind {
     public static <T, U> MonadicBinding<U> map(
             ObservableValue<T> src,
             Function<? super T, ? extends U> f) {
-        return new PreboundBinding<U>(src) {
+        return new InstrumentedBinding<U>(src) {
             @Override
-            protected U computeValue() {
+            protected U compute() {
                 T baseVal = src.getValue();
                 return baseVal != null ? f.apply(baseVal) : null;
             }
@@ -88,6 +114,59 @@ public class EasyBind {
         return new FlatMapBinding<>(src, f);
     }
 
+    /**
+     * Like {@link #map(ObservableValue, Function)}, except that results of
+     * {@code f} are memoized in {@code cache}, keyed by the value of
+     * {@code src}. Use this when {@code f} is expensive and {@code src}
+     * keeps returning to a small set of values.
+     */
+    public static <T, U> MonadicBinding<U> mapMemo(
+            ObservableValue<T> src,
+            Function<? super T, ? extends U> f,
+            MemoCache<T, U> cache) {
+        return new InstrumentedBinding<U>(src) {
+            @Override
+            protected U compute() {
+                T baseVal = src.getValue();
+                return baseVal != null ? cache.get(baseVal, f) : null;
+            }
+        };
+    }
+
+    /**
+     * Like {@link #flatMap(ObservableValue, Function)}, except that the
+     * observable values returned by {@code f} are memoized in {@code cache},
+     * keyed by the value of {@code src}. Only the currently selected
+     * observable value is observed by the returned binding; the other cached
+     * observable values are merely retained.
+     */
+    public static <T, U> MonadicBinding<U> flatMapMemo(
+            ObservableValue<T> src,
+            Function<? super T, ? extends ObservableValue<U>> f,
+            MemoCache<T, ObservableValue<U>> cache) {
+        return flatMap(src, (T baseVal) -> cache.get(baseVal, f));
+    }
+
+    /**
+     * Creates a binding whose value is a mapping of {@code src} computed on
+     * {@code executor}, such as a thread pool or a virtual-thread-per-task
+     * executor. Whenever {@code src} changes, a new computation is started
+     * and the one in progress, if any, is cancelled (interrupted) and its
+     * result ignored. Results are delivered using {@code deliveryExecutor},
+     * which is usually {@code Platform::runLater}. Until the first result is
+     * delivered, the value of the returned binding is {@code null}.
+     * Exceptions thrown by {@code f} are rethrown on the delivery thread.
+     *
+     * <p>Note that {@code src} is evaluated eagerly on every invalidation.
+     */
+    public static <T, U> AsyncBinding<U> mapAsync(
+            ObservableValue<T> src,
+            Function<? super T, ? extends U> f,
+            Executor executor,
+            Executor deliveryExecutor) {
+        return new AsyncMapBinding<>(src, f, executor, deliveryExecutor);
+    }
+
     public static <T, U> PropertyBinding<U> selectProperty(
             ObservableValue<T> src,
             Function<? super T, ? extends Property<U>> f) {
@@ -95,9 +174,9 @@ public class EasyBind {
     }
 
     public static <T> MonadicBinding<T> orElse(ObservableValue<? extends T> src, T other) {
-        return new PreboundBinding<T>(src) {
+        return new InstrumentedBinding<T>(src) {
             @Override
-            protected T computeValue() {
+            protected T compute() {
                 T val = src.getValue();
                 return val != null ? val : other;
             }
@@ -116,13 +195,320 @@ public class EasyBind {
         return new MappedList<>(sourceList, f);
     }
 
+    /**
+     * Returns a set of the results of applying {@code f} to the elements of
+     * {@code sourceSet}. Each result is kept as long as at least one element
+     * of {@code sourceSet} maps to it.
+     */
+    public static <T, U> ObservableSet<U> map(
+            ObservableSet<? extends T> sourceSet,
+            Function<? super T, ? extends U> f) {
+        return new MappedSet<>(sourceSet, f);
+    }
+
+    /**
+     * Returns a view of {@code sourceMap} with each value mapped by
+     * {@code f}. As with {@link #map(ObservableList, Function)}, values are
+     * mapped when accessed.
+     */
+    public static <K, V, U> ObservableMap<K, U> mapValues(
+            ObservableMap<K, ? extends V> sourceMap,
+            Function<? super V, ? extends U> f) {
+        return new MappedValuesMap<>(sourceMap, f);
+    }
+
+    /**
+     * Returns a read-only view of {@code sourceArray} with each element
+     * mapped by {@code f}, without boxing. Elements are mapped when
+     * accessed, and bulk copies ({@code copyTo}, {@code toArray}) copy the
+     * source range into the target array and map it in place. Changes of
+     * {@code sourceArray} are reported with the same range.
+     */
+    public static ObservableFloatArray mapArray(
+            ObservableFloatArray sourceArray,
+            FloatUnaryOperator f) {
+        return new MappedFloatArray(sourceArray, f);
+    }
+
+    /**
+     * Like {@link #mapArray(ObservableFloatArray, FloatUnaryOperator)},
+     * for integer arrays.
+     */
+    public static ObservableIntegerArray mapArray(
+            ObservableIntegerArray sourceArray,
+            IntUnaryOperator f) {
+        return new MappedIntegerArray(sourceArray, f);
+    }
+
+    /**
+     * Returns the minimum, maximum and sum over ranges of {@code array},
+     * updated incrementally from the changed range on each change of
+     * {@code array}.
+     */
+    public static ArrayStats stats(ObservableFloatArray array) {
+        return ArrayStats.of(array);
+    }
+
+    /**
+     * Like {@link #stats(ObservableFloatArray)}, for integer arrays.
+     */
+    public static ArrayStats stats(ObservableIntegerArray array) {
+        return ArrayStats.of(array);
+    }
+
+    /**
+     * Returns a filtered view of {@code sourceList}. Unlike
+     * {@code javafx.collections.transformation.FilteredList}, when
+     * {@code predicate} changes, only the elements whose membership in the
+     * view changed are reported as added or removed. When
+     * {@code sourceList} reports updates of its elements (which is the case
+     * for lists created with an extractor, see
+     * {@link javafx.collections.FXCollections#observableArrayList(javafx.util.Callback)}),
+     * only the updated elements are re-tested. Translating between view and
+     * source indices takes O(log n) time. A {@code null} predicate lets all
+     * elements pass.
+     */
+    public static <T> ObservableList<T> filter(
+            ObservableList<? extends T> sourceList,
+            ObservableValue<? extends Predicate<? super T>> predicate) {
+        return new DynamicFilteredList<>(sourceList, predicate);
+    }
+
+    /**
+     * Returns a concatenation of the lists obtained by applying {@code f} to
+     * the elements of {@code sourceList}. The returned list observes the
+     * inner lists of the current elements of {@code sourceList} and forwards
+     * their changes with shifted indices. Random access and index translation
+     * take O(log n) time in the number of inner lists. A {@code null} inner
+     * list is treated as empty.
+     *
+     * <pre>
+     * {@code
+     * ObservableList<Item> allItems = EasyBind.flattenList(groups, Group::getItems);
+     * }</pre>
+     */
+    public static <G, E> ObservableList<E> flattenList(
+            ObservableList<? extends G> sourceList,
+            Function<? super G, ? extends ObservableList<? extends E>> f) {
+        return new FlattenedList<>(sourceList, f);
+    }
+
+    /**
+     * Returns a mapped view of {@code sourceList}, where each element is
+     * mapped to an observable value by {@code f} and the view holds the
+     * current values of those observable values. Unlike
+     * {@link #map(ObservableList, Function)}, the view is updated when the
+     * observable values change. A change to an observable value is reported
+     * as a replacement of the corresponding elements, or as an update if the
+     * new value is the same object as the old one.
+     *
+     * <pre>
+     * {@code
+     * ObservableList<Double> totals = EasyBind.mapDynamic(items,
+     *         item -> EasyBind.map(item.priceProperty(), p -> p.doubleValue() * qty));
+     * }</pre>
+     */
+    public static <T, U> ObservableList<U> mapDynamic(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends ObservableValue<? extends U>> f) {
+        return new DynamicMappedList<>(sourceList, f);
+    }
+
+    /**
+     * Returns a view of the range {@code [from, from + size)} of
+     * {@code sourceList}, clipped to the bounds of {@code sourceList}, such
+     * as the rows visible in a virtualized control. Changes of
+     * {@code sourceList} outside of the window are only reported to the
+     * extent that they shift elements into or out of the window. When the
+     * window moves, only the elements that enter and leave it are reported.
+     * Combined with {@link #map(ObservableList, Function)}, which maps
+     * elements lazily, only the elements in the window are ever mapped.
+     */
+    public static <T> ObservableList<T> window(
+            ObservableList<? extends T> sourceList,
+            ObservableValue<? extends Number> from,
+            ObservableValue<? extends Number> size) {
+        return new WindowList<>(sourceList, from, size);
+    }
+
+    /**
+     * Returns a sorted view of {@code sourceList}, ordered by the keys
+     * computed by {@code keyFn} and compared by {@code keyComparator}.
+     * Unlike {@link javafx.collections.transformation.SortedList}, the key
+     * of each element is computed only once, when the element is added,
+     * and again when {@code sourceList} reports an update of the element.
+     * Elements with equal keys are kept in source order.
+     */
+    public static <T, K> ObservableList<T> sortedBy(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends K> keyFn,
+            Comparator<? super K> keyComparator) {
+        return new SortedByList<>(sourceList, keyFn, keyComparator);
+    }
+
+    /**
+     * Returns a list that combines the elements of {@code listA} and
+     * {@code listB} at the same index using {@code f}. The returned list is
+     * as long as the shorter of the two lists. Replacing elements of either
+     * list only affects the combinations at the same indices, while
+     * inserting or removing elements affects all the combinations after
+     * them. As with {@link #map(ObservableList, Function)}, the elements
+     * are combined when accessed.
+     */
+    public static <A, B, R> ObservableList<R> zip(
+            ObservableList<? extends A> listA,
+            ObservableList<? extends B> listB,
+            BiFunction<? super A, ? super B, ? extends R> f) {
+        return new ZippedList<>(listA, listB, f);
+    }
+
+    /**
+     * Returns the inner join of {@code left} and {@code right} on equal keys:
+     * the combinations by {@code combiner} of each element of {@code left}
+     * with each element of {@code right} that has the same key. The
+     * combinations are ordered by the position of the left element, then by
+     * the position of the right element. Both lists are indexed by key, so
+     * that a change of either list only touches the combinations with
+     * matching elements. When either list reports updates of its elements,
+     * their keys are recomputed. As with {@link #map(ObservableList, Function)},
+     * the elements are combined when accessed.
+     *
+     * <pre>
+     * {@code
+     * ObservableList<OrderRow> rows = EasyBind.join(orders, customers,
+     *         Order::getCustomerId, Customer::getId, OrderRow::new);
+     * }</pre>
+     */
+    public static <L, R, K, O> ObservableList<O> join(
+            ObservableList<? extends L> left,
+            ObservableList<? extends R> right,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey,
+            BiFunction<? super L, ? super R, ? extends O> combiner) {
+        return new JoinedList<>(left, right, leftKey, rightKey, combiner);
+    }
+
+    /**
+     * Like {@link #sortedBy(ObservableList, Function, Comparator)},
+     * ordered by the natural order of the keys.
+     */
+    public static <T, K extends Comparable<? super K>> ObservableList<T> sortedBy(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends K> keyFn) {
+        return sortedBy(sourceList, keyFn, Comparator.<K>naturalOrder());
+    }
+
+    /**
+     * Groups the elements of {@code sourceList} by the key computed by
+     * {@code keyFn}. The returned map and its groups are maintained
+     * incrementally: each change of {@code sourceList} only touches the
+     * groups of the added and removed elements. Elements within a group are
+     * in the same order as in {@code sourceList}. Empty groups are removed
+     * from the map. When {@code sourceList} reports an update of an element,
+     * as a list created with an extractor does, the key of the element is
+     * recomputed: if it is unchanged, the group reports an update of the
+     * element, otherwise the element is moved to the group of its new key.
+     * A permutation of {@code sourceList} reorders the affected groups.
+     */
+    public static <T, K> ObservableMap<K, ObservableList<T>> groupBy(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends K> keyFn) {
+        return GroupingMap.byKey(sourceList, keyFn, null);
+    }
+
+    /**
+     * Like {@link #groupBy(ObservableList, Function)}, with an incrementally
+     * maintained aggregate for each group. {@code aggregateFactory} is called
+     * to create the aggregate of each newly created group.
+     */
+    public static <T, K> ObservableMap<K, ObservableList<T>> groupBy(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends K> keyFn,
+            Function<? super K, ? extends GroupAggregate<? super T>> aggregateFactory) {
+        return GroupingMap.byKey(sourceList, keyFn, aggregateFactory);
+    }
+
+    /**
+     * Like {@link #groupBy(ObservableList, Function)}, except that the key
+     * of each element is the value of an observable value, and elements are
+     * moved to another group when their key changes.
+     */
+    public static <T, K> ObservableMap<K, ObservableList<T>> groupByDynamic(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends ObservableValue<? extends K>> keyFn) {
+        return GroupingMap.byObservableKey(sourceList, keyFn, null);
+    }
+
+    /**
+     * Like {@link #groupByDynamic(ObservableList, Function)}, with an
+     * incrementally maintained aggregate for each group.
+     * See {@link #groupBy(ObservableList, Function, Function)}.
+     */
+    public static <T, K> ObservableMap<K, ObservableList<T>> groupByDynamic(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends ObservableValue<? extends K>> keyFn,
+            Function<? super K, ? extends GroupAggregate<? super T>> aggregateFactory) {
+        return GroupingMap.byObservableKey(sourceList, keyFn, aggregateFactory);
+    }
+
+    /**
+     * Creates a read-only map from keys to the elements of
+     * {@code sourceList}, for constant-time lookup by key. The map is updated
+     * incrementally on each change of {@code sourceList} until the returned
+     * index is unsubscribed. When {@code sourceList} reports updates of its
+     * elements, the keys of the updated elements are recomputed.
+     * When several elements have the same key, the map holds the one that
+     * was indexed first; use {@link #groupBy(ObservableList, Function)} to
+     * get all of them.
+     */
+    public static <T, K> KeyIndex<K, T> index(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends K> keyFn) {
+        return new KeyIndexMap<>(sourceList, keyFn);
+    }
+
+    /**
+     * Like {@link #index(ObservableList, Function)} for primitive
+     * {@code long} (or {@code int}) keys, without boxing the keys or the
+     * map entries.
+     */
+    public static <T> LongKeyIndex<T> indexByLong(
+            ObservableList<? extends T> sourceList,
+            ToLongFunction<? super T> keyFn) {
+        return new LongKeyIndex<>(sourceList, keyFn);
+    }
+
+    /**
+     * Returns the set of distinct elements of {@code sourceList}. The set
+     * keeps a count of the occurrences of each element, so it is updated in
+     * time proportional to the size of each change of {@code sourceList}.
+     */
+    public static <T> ObservableSet<T> distinct(ObservableList<? extends T> sourceList) {
+        return new DistinctSet<>(sourceList);
+    }
+
+    /**
+     * Returns a map from each key computed by {@code keyFn} to the number of
+     * elements of {@code sourceList} with that key. Keys with no elements
+     * are removed from the map. The map is updated in time proportional to
+     * the size of each change of {@code sourceList}, and each key whose
+     * count changed is reported once per change. When {@code sourceList}
+     * reports updates of its elements, the keys of the updated elements are
+     * recomputed.
+     */
+    public static <T, K> ObservableMap<K, Integer> countBy(
+            ObservableList<? extends T> sourceList,
+            Function<? super T, ? extends K> keyFn) {
+        return new CountByMap<>(sourceList, keyFn);
+    }
+
     public static <A, B, R> MonadicBinding<R> combine(
             ObservableValue<A> src1,
             ObservableValue<B> src2,
             BiFunction<A, B, R> f) {
-        return new PreboundBinding<R>(src1, src2) {
+        return new InstrumentedBinding<R>(src1, src2) {
             @Override
-            protected R computeValue() {
+            protected R compute() {
                 return f.apply(src1.getValue(), src2.getValue());
             }
         };
@@ -133,9 +519,9 @@ public class EasyBind {
             ObservableValue<B> src2,
             ObservableValue<C> src3,
             TriFunction<A, B, C, R> f) {
-        return new PreboundBinding<R>(src1, src2, src3) {
+        return new InstrumentedBinding<R>(src1, src2, src3) {
             @Override
-            protected R computeValue() {
+            protected R compute() {
                 return f.apply(
                         src1.getValue(), src2.getValue(), src3.getValue());
             }
@@ -148,9 +534,9 @@ public class EasyBind {
             ObservableValue<C> src3,
             ObservableValue<D> src4,
             TetraFunction<A, B, C, D, R> f) {
-        return new PreboundBinding<R>(src1, src2, src3, src4) {
+        return new InstrumentedBinding<R>(src1, src2, src3, src4) {
             @Override
-            protected R computeValue() {
+            protected R compute() {
                 return f.apply(
                         src1.getValue(), src2.getValue(),
                         src3.getValue(), src4.getValue());
@@ -165,9 +551,9 @@ public class EasyBind {
             ObservableValue<D> src4,
             ObservableValue<E> src5,
             PentaFunction<A, B, C, D, E, R> f) {
-        return new PreboundBinding<R>(src1, src2, src3, src4, src5) {
+        return new InstrumentedBinding<R>(src1, src2, src3, src4, src5) {
             @Override
-            protected R computeValue() {
+            protected R compute() {
                 return f.apply(
                         src1.getValue(), src2.getValue(), src3.getValue(),
                         src4.getValue(), src5.getValue());
@@ -183,9 +569,9 @@ public class EasyBind {
             ObservableValue<E> src5,
             ObservableValue<F> src6,
             HexaFunction<A, B, C, D, E, F, R> f) {
-        return new PreboundBinding<R>(src1, src2, src3, src4, src5, src6) {
+        return new InstrumentedBinding<R>(src1, src2, src3, src4, src5, src6) {
             @Override
-            protected R computeValue() {
+            protected R compute() {
                 return f.apply(
                         src1.getValue(), src2.getValue(), src3.getValue(),
                         src4.getValue(), src5.getValue(), src6.getValue());
@@ -199,6 +585,60 @@ public class EasyBind {
         return new ListCombinationBinding<>(list, f);
     }
 
+    public static <K, T, R> MonadicBinding<R> combine(
+            ObservableMap<K, ? extends ObservableValue<? extends T>> map,
+            Function<? super Stream<T>, ? extends R> f) {
+        return new MapCombinationBinding<>(map, f);
+    }
+
+    /**
+     * Creates a binding that takes over the value of {@code src} only after
+     * {@code src} has not changed for {@code quietPeriod}.
+     * Note that the returned binding observes every change of {@code src},
+     * which means {@code src} is evaluated eagerly.
+     */
+    public static <T> MonadicBinding<T> debounce(
+            ObservableValue<T> src,
+            Duration quietPeriod,
+            Scheduler scheduler) {
+        return new DebounceBinding<>(src, quietPeriod, scheduler);
+    }
+
+    /**
+     * Creates a binding that takes over the value of {@code src} immediately
+     * when {@code src} changes, but then at most once per {@code period}.
+     * The latest value of {@code src} is taken over at the end of the period.
+     */
+    public static <T> MonadicBinding<T> throttle(
+            ObservableValue<T> src,
+            Duration period,
+            Scheduler scheduler) {
+        return new ThrottleBinding<>(src, period, scheduler);
+    }
+
+    /**
+     * Creates a binding that takes over the latest value of {@code src} at
+     * fixed intervals of length {@code period}, if {@code src} has changed
+     * since the last interval.
+     */
+    public static <T> MonadicBinding<T> sample(
+            ObservableValue<T> src,
+            Duration period,
+            Scheduler scheduler) {
+        return new SampleBinding<>(src, period, scheduler);
+    }
+
+    /**
+     * Creates a binding that takes over the latest value of {@code src}
+     * at most once per tick of {@code scheduler}. With the
+     * {@link Scheduler#fx()} scheduler, this is at most once per pulse.
+     */
+    public static <T> MonadicBinding<T> conflateOnPulse(
+            ObservableValue<T> src,
+            Scheduler scheduler) {
+        return new PulseConflatedBinding<>(src, scheduler);
+    }
+
     public static <T> SelectBuilder<T> select(ObservableValue<T> selectionRoot) {
         return SelectBuilder.startAt(selectionRoot);
     }
@@ -239,6 +679,8 @@ public class EasyBind {
         target.clear();
         target.addAll(source);
         ListChangeListener<? super T> listener = change -> {
+            Object event = JfrEvents.beginListBind();
+            int changes = 0;
             while(change.next()) {
                 int from = change.getFrom();
                 int to = change.getTo();
@@ -249,12 +691,213 @@ public class EasyBind {
                     target.subList(from, from + change.getRemovedSize()).clear();
                     target.addAll(from, source.subList(from, from + change.getAddedSize()));
                 }
+                ++changes;
             }
+            JfrEvents.endListBind(event, source, target, changes);
         };
         source.addListener(listener);
         return () -> source.removeListener(listener);
     }
 
+    /**
+     * Sync the content of the {@code target} set with the {@code source} set.
+     * @return a subscription that can be used to stop syncing the sets.
+     */
+    public static <T> Subscription setBind(
+            Set<? super T> target,
+            ObservableSet<? extends T> source) {
+        target.clear();
+        target.addAll(source);
+        SetChangeListener<? super T> listener = change -> {
+            if(change.wasRemoved()) {
+                target.remove(change.getElementRemoved());
+            }
+            if(change.wasAdded()) {
+                target.add(change.getElementAdded());
+            }
+        };
+        source.addListener(listener);
+        return () -> source.removeListener(listener);
+    }
+
+    /**
+     * Sync the content of the {@code target} map with the {@code source} map.
+     * @return a subscription that can be used to stop syncing the maps.
+     */
+    public static <K, V> Subscription mapBind(
+            Map<? super K, ? super V> target,
+            ObservableMap<? extends K, ? extends V> source) {
+        target.clear();
+        target.putAll(source);
+        MapChangeListener<? super K, ? super V> listener = change -> {
+            if(change.wasAdded()) {
+                target.put(change.getKey(), change.getValueAdded());
+            } else {
+                target.remove(change.getKey());
+            }
+        };
+        source.addListener(listener);
+        return () -> source.removeListener(listener);
+    }
+
+    /**
+     * Returns the default registry of shared bindings. Bindings obtained
+     * from the registry are created at most once per key and released when
+     * the last handle to them is unsubscribed. Create a new
+     * {@link SharedBindings} instance to use a registry with a narrower scope.
+     */
+    public static SharedBindings shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates an observable value that can be updated from any thread
+     * and delivers the updates on the JavaFX application thread, at most
+     * once per pulse. Updates pushed in between are coalesced. See
+     * {@link BackgroundValue}.
+     */
+    public static <T> BackgroundValue<T> fromBackground() {
+        return fromBackground(null, FxScheduler.NEXT_PULSE);
+    }
+
+    /**
+     * Creates an observable value with the given initial value that can be
+     * updated from any thread and delivers the updates using
+     * {@code deliveryExecutor}. See {@link BackgroundValue}.
+     */
+    public static <T> BackgroundValue<T> fromBackground(
+            T initialValue,
+            Executor deliveryExecutor) {
+        return new BackgroundValue<>(initialValue, deliveryExecutor);
+    }
+
+    /**
+     * Creates an observable list of at most {@code maxSize} elements to
+     * which elements can be appended from any thread. Appended elements
+     * are delivered on the JavaFX application thread in batches, at most
+     * one per pulse. See {@link BackgroundList}.
+     */
+    public static <T> BackgroundList<T> listFromBackground(int maxSize) {
+        return listFromBackground(maxSize, FxScheduler.NEXT_PULSE);
+    }
+
+    /**
+     * Like {@link #listFromBackground(int)}, except that elements are
+     * delivered using {@code deliveryExecutor}.
+     */
+    public static <T> BackgroundList<T> listFromBackground(
+            int maxSize,
+            Executor deliveryExecutor) {
+        return new BackgroundList<>(maxSize, deliveryExecutor);
+    }
+
+    /**
+     * Opens {@code file} as a read-only list of its records of
+     * {@code recordSize} bytes each, decoded lazily by {@code decoder}
+     * from a memory mapping of the file. Multi-byte values are read in
+     * big-endian byte order. Records appended to the file are added to
+     * the list by {@link RecordFileList#refresh()}.
+     */
+    public static <T> RecordFileList<T> fromRecordFile(
+            Path file,
+            int recordSize,
+            RecordFileList.Decoder<? extends T> decoder) throws IOException {
+        return fromRecordFile(file, recordSize, ByteOrder.BIG_ENDIAN, decoder);
+    }
+
+    /**
+     * Like {@link #fromRecordFile(Path, int, RecordFileList.Decoder)},
+     * with multi-byte values read in the given byte order.
+     */
+    public static <T> RecordFileList<T> fromRecordFile(
+            Path file,
+            int recordSize,
+            ByteOrder order,
+            RecordFileList.Decoder<? extends T> decoder) throws IOException {
+        return new RecordFileList<>(file, recordSize, order, decoder);
+    }
+
+    /**
+     * Writes the initial contents and then every change of {@code list}
+     * to {@code channel}, as a timestamped binary change log (see
+     * {@link ChangeLog}). Elements are encoded by {@code writer}.
+     * Recording stops when the returned subscription is unsubscribed;
+     * the channel is not closed. The log can be replayed by
+     * {@link #replayList(ReadableByteChannel, ChangeLog.ElementReader)}.
+     */
+    public static <T> Subscription record(
+            ObservableList<T> list,
+            WritableByteChannel channel,
+            ChangeLog.ElementWriter<? super T> writer) throws IOException {
+        return ChangeRecorder.forList(list, channel, writer);
+    }
+
+    /**
+     * Like {@link #record(ObservableList, WritableByteChannel, ChangeLog.ElementWriter)},
+     * for the values of {@code value}.
+     */
+    public static <T> Subscription record(
+            ObservableValue<T> value,
+            WritableByteChannel channel,
+            ChangeLog.ElementWriter<? super T> writer) throws IOException {
+        return ChangeRecorder.forValue(value, channel, writer);
+    }
+
+    /**
+     * Returns a list that replays the list change log read from
+     * {@code channel}. Elements are decoded by {@code reader}.
+     */
+    public static <T> ListReplay<T> replayList(
+            ReadableByteChannel channel,
+            ChangeLog.ElementReader<? extends T> reader) throws IOException {
+        return new ListReplay<>(channel, reader);
+    }
+
+    /**
+     * Returns an observable value that replays the value change log read
+     * from {@code channel}. Values are decoded by {@code reader}.
+     */
+    public static <T> ValueReplay<T> replayValue(
+            ReadableByteChannel channel,
+            ChangeLog.ElementReader<? extends T> reader) throws IOException {
+        return new ValueReplay<>(channel, reader);
+    }
+
+    /**
+     * Keeps a list in another process in sync with {@code source}: sends
+     * a snapshot of {@code source} and then each of its changes, encoded
+     * as a compact delta, to {@code channel}. Every
+     * {@code snapshotInterval} changes, a snapshot is sent instead of a
+     * delta, which lets the receiving side resynchronize; 0 disables
+     * periodic snapshots. Elements are encoded by {@code writer}. The
+     * frames are applied on the other side by
+     * {@link #mirrorFrom(ReadableByteChannel, ChangeLog.ElementReader)}.
+     * Sending stops when the returned subscription is unsubscribed; the
+     * channel is not closed.
+     */
+    public static <T> Subscription mirrorTo(
+            ObservableList<T> source,
+            WritableByteChannel channel,
+            ChangeLog.ElementWriter<? super T> writer,
+            int snapshotInterval) throws IOException {
+        return new ListMirrorSender<>(source, channel, writer, snapshotInterval);
+    }
+
+    /**
+     * Returns a list that mirrors the source list of
+     * {@link #mirrorTo(ObservableList, WritableByteChannel, ChangeLog.ElementWriter, int)},
+     * by applying the frames read from {@code channel}. Elements are
+     * decoded by {@code reader}. The bytes come from another process, so
+     * {@code reader} must not decode anything but the expected element
+     * type; in particular, it must not deserialize arbitrary classes, for
+     * example by an unfiltered {@code ObjectInputStream}.
+     */
+    public static <T> ListMirrorReceiver<T> mirrorFrom(
+            ReadableByteChannel channel,
+            ChangeLog.ElementReader<? extends T> reader) {
+        return new ListMirrorReceiver<>(channel, reader);
+    }
+
     /**
      * Entry point for creating conditional bindings.
      */
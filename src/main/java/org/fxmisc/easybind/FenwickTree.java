@@ -0,0 +1,181 @@
+package org.fxmisc.easybind;
+
+import java.util.Arrays;
+
+/**
+ * Resizable array of non-negative ints that maintains prefix sums
+ * in a Fenwick (binary indexed) tree. Reading and updating an element,
+ * prefix sums and finding the element that contains a given offset are
+ * O(log n). Appending and truncating are O(log n) per element; inserting
+ * or removing elements elsewhere rebuilds the tree in O(n).
+ */
+final class FenwickTree {
+    private int[] values;
+    private int[] tree; // 1-based
+    private int size = 0;
+
+    FenwickTree() {
+        this(16);
+    }
+
+    FenwickTree(int capacity) {
+        values = new int[Math.max(capacity, 1)];
+        tree = new int[values.length + 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int i) {
+        checkIndex(i);
+        return values[i];
+    }
+
+    public void set(int i, int value) {
+        checkIndex(i);
+        int delta = value - values[i];
+        if(delta != 0) {
+            values[i] = value;
+            for(int j = i + 1; j <= size; j += j & -j) {
+                tree[j] += delta;
+            }
+        }
+    }
+
+    /**
+     * Sum of the elements in the range [0, end).
+     */
+    public int prefixSum(int end) {
+        if(end < 0 || end > size) {
+            throw new IndexOutOfBoundsException(end + " not in [0, " + size + "]");
+        }
+        int sum = 0;
+        for(int j = end; j > 0; j -= j & -j) {
+            sum += tree[j];
+        }
+        return sum;
+    }
+
+    public int total() {
+        return prefixSum(size);
+    }
+
+    /**
+     * Returns the index {@code i} such that
+     * {@code prefixSum(i) <= offset < prefixSum(i + 1)},
+     * i.e. the index of the element that covers the given offset.
+     * @throws IndexOutOfBoundsException if {@code offset} is not
+     * in the range [0, {@link #total()}).
+     */
+    public int indexOf(int offset) {
+        if(offset < 0) {
+            throw new IndexOutOfBoundsException("Negative offset: " + offset);
+        }
+        int pos = 0;
+        int rem = offset;
+        for(int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            int next = pos + step;
+            if(next <= size && tree[next] <= rem) {
+                pos = next;
+                rem -= tree[next];
+            }
+        }
+        if(pos >= size) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " exceeds total " + total());
+        }
+        return pos;
+    }
+
+    /**
+     * Replaces the elements in the range [from, to) with
+     * {@code newValues[0, len)}.
+     */
+    public void replace(int from, int to, int[] newValues, int len) {
+        if(from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + ") not in [0, " + size + ")");
+        }
+        int tailLen = size - to;
+        int newSize = size - (to - from) + len;
+        if(tailLen == 0) {
+            // only the tail of the array changes, no need to rebuild
+            size = from;
+            ensureCapacity(newSize);
+            for(int k = 0; k < len; ++k) {
+                append(newValues[k]);
+            }
+        } else {
+            ensureCapacity(newSize);
+            System.arraycopy(values, to, values, from + len, tailLen);
+            System.arraycopy(newValues, 0, values, from, len);
+            size = newSize;
+            rebuild();
+        }
+    }
+
+    public void insert(int index, int[] newValues, int len) {
+        replace(index, index, newValues, len);
+    }
+
+    public void remove(int from, int to) {
+        replace(from, to, new int[0], 0);
+    }
+
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        append(value);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Replaces all elements with {@code newValues[0, len)}.
+     */
+    public void setAll(int[] newValues, int len) {
+        ensureCapacity(len);
+        System.arraycopy(newValues, 0, values, 0, len);
+        size = len;
+        rebuild();
+    }
+
+    private void append(int value) {
+        int i = size + 1;
+        // tree[i] covers (i - lowbit(i), i]
+        int sum = value;
+        int lower = i - (i & -i);
+        for(int j = i - 1; j > lower; j -= j & -j) {
+            sum += tree[j];
+        }
+        values[size] = value;
+        tree[i] = sum;
+        size = i;
+    }
+
+    private void rebuild() {
+        for(int i = 1; i <= size; ++i) {
+            tree[i] = values[i - 1];
+        }
+        for(int i = 1; i <= size; ++i) {
+            int parent = i + (i & -i);
+            if(parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if(capacity > values.length) {
+            int newCapacity = Math.max(capacity, values.length * 3 / 2 + 1);
+            values = Arrays.copyOf(values, newCapacity);
+            tree = Arrays.copyOf(tree, newCapacity + 1);
+        }
+    }
+
+    private void checkIndex(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i + " not in [0, " + size + ")");
+        }
+    }
+}
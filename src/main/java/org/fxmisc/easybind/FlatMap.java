@@ -1,13 +1,18 @@
 package org.fxmisc.easybind;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.Property;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 
 import org.fxmisc.easybind.monadic.MonadicBinding;
 import org.fxmisc.easybind.monadic.PropertyBinding;
@@ -18,8 +23,22 @@ extends ObjectBinding<U> implements MonadicBinding<U> {
     private final Function<? super T, O> mapper;
 
     // need to retain strong reference to listeners, so that they don't get garbage collected
-    private final InvalidationListener srcListener = obs -> srcInvalidated();
-    private final InvalidationListener mappedListener = obs -> mappedInvalidated();
+    private final InvalidationListener srcListener = obs -> {
+        Object cascade = JfrEvents.cascadeEnter(this);
+        try {
+            srcInvalidated();
+        } finally {
+            JfrEvents.cascadeExit(cascade);
+        }
+    };
+    private final InvalidationListener mappedListener = obs -> {
+        Object cascade = JfrEvents.cascadeEnter(this);
+        try {
+            mappedInvalidated();
+        } finally {
+            JfrEvents.cascadeExit(cascade);
+        }
+    };
 
     private final InvalidationListener weakSrcListener = new WeakInvalidationListener(srcListener);
     private final InvalidationListener weakMappedListener = new WeakInvalidationListener(mappedListener);
@@ -39,8 +58,40 @@ extends ObjectBinding<U> implements MonadicBinding<U> {
         disposeMapped();
     }
 
+    /**
+     * Returns the source and, if it has been selected, the current target.
+     */
+    @Override
+    public ObservableList<?> getDependencies() {
+        List<Observable> deps = new ArrayList<>(2);
+        deps.add(src);
+        if(mapped != null) {
+            deps.add(mapped);
+        }
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(deps));
+    }
+
     @Override
     protected final U computeValue() {
+        Object event = JfrEvents.beginRecompute();
+        long start = BindingMetrics.isEnabled() ? System.nanoTime() : 0;
+        U value = computeTargetValue();
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordRecompute(this, System.nanoTime() - start);
+        }
+        JfrEvents.endRecompute(event, this);
+        return value;
+    }
+
+    @Override
+    protected final void onInvalidating() {
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordInvalidation(this);
+        }
+        JfrEvents.invalidated();
+    }
+
+    private U computeTargetValue() {
         setupTargetObservable();
         return mapped != null ? mapped.getValue() : null;
     }
@@ -0,0 +1,229 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Concatenation of the inner lists of the elements of the source list.
+ * The sizes of the inner lists are kept in a {@link FenwickTree}, so that
+ * translating a flat index to an inner list and an index within it is
+ * O(log n) in the number of inner lists. Changes of the inner lists are
+ * forwarded with shifted indices. Only the inner lists of the current
+ * source elements are observed.
+ */
+class FlattenedList<G, E> extends TransformationList<E, G> {
+    private final Function<? super G, ? extends ObservableList<? extends E>> mapper;
+    private final FenwickTree sizes = new FenwickTree();
+    private final List<Inner> inners = new ArrayList<>();
+
+    public FlattenedList(
+            ObservableList<? extends G> source,
+            Function<? super G, ? extends ObservableList<? extends E>> mapper) {
+        super(source);
+        this.mapper = mapper;
+        int n = source.size();
+        int[] newSizes = new int[n];
+        for(int i = 0; i < n; ++i) {
+            Inner inner = new Inner(i, mapper.apply(source.get(i)));
+            inners.add(inner);
+            newSizes[i] = inner.list.size();
+        }
+        sizes.setAll(newSizes, n);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        checkIndex(index);
+        return sizes.indexOf(index);
+    }
+
+    public int getViewIndex(int index) {
+        // index of the first element of the nested list
+        return sizes.get(index) > 0 ? sizes.prefixSum(index) : -1;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        int g = sizes.indexOf(index);
+        return inners.get(g).list.get(index - sizes.prefixSum(g));
+    }
+
+    @Override
+    public int size() {
+        return sizes.total();
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index + " not in [0, " + size() + ")");
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends G> c) {
+        beginChange();
+        while(c.next()) {
+            if(c.wasPermutated()) {
+                permutated(c);
+            } else if(c.wasUpdated()) {
+                updated(c.getFrom(), c.getTo());
+            } else {
+                replaced(c.getFrom(), c.getFrom() + c.getRemovedSize(), c.getAddedSubList());
+            }
+        }
+        endChange();
+    }
+
+    private void permutated(Change<? extends G> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        int flatFrom = sizes.prefixSum(from);
+        int flatTo = sizes.prefixSum(to);
+
+        List<Inner> permuted = new ArrayList<>(Collections.nCopies(to - from, null));
+        int[] newSizes = new int[to - from];
+        for(int g = from; g < to; ++g) {
+            int newPos = c.getPermutation(g);
+            permuted.set(newPos - from, inners.get(g));
+            newSizes[newPos - from] = sizes.get(g);
+        }
+        int[] newOffsets = new int[to - from];
+        for(int k = 0, off = flatFrom; k < newSizes.length; ++k) {
+            newOffsets[k] = off;
+            off += newSizes[k];
+        }
+
+        int[] perm = new int[flatTo - flatFrom];
+        for(int g = from, off = flatFrom; g < to; ++g) {
+            int size = sizes.get(g);
+            int newOff = newOffsets[c.getPermutation(g) - from];
+            for(int k = 0; k < size; ++k) {
+                perm[off + k - flatFrom] = newOff + k;
+            }
+            off += size;
+        }
+
+        for(int g = from; g < to; ++g) {
+            Inner inner = permuted.get(g - from);
+            inner.index = g;
+            inners.set(g, inner);
+        }
+        sizes.replace(from, to, newSizes, newSizes.length);
+        if(flatTo > flatFrom) {
+            nextPermutation(flatFrom, flatTo, perm);
+        }
+    }
+
+    private void updated(int from, int to) {
+        for(int g = from; g < to; ++g) {
+            G group = getSource().get(g);
+            ObservableList<? extends E> list = mapper.apply(group);
+            if(list == inners.get(g).list) {
+                int off = sizes.prefixSum(g);
+                for(int k = 0; k < list.size(); ++k) {
+                    nextUpdate(off + k);
+                }
+            } else {
+                replaced(g, g + 1, Collections.singletonList(group));
+            }
+        }
+    }
+
+    private void replaced(int from, int to, List<? extends G> added) {
+        int flatFrom = sizes.prefixSum(from);
+
+        List<E> removed = new ArrayList<>();
+        for(int g = from; g < to; ++g) {
+            Inner inner = inners.get(g);
+            removed.addAll(inner.list);
+            inner.dispose();
+        }
+        if(!removed.isEmpty()) {
+            nextRemove(flatFrom, removed);
+        }
+
+        List<Inner> newInners = new ArrayList<>(added.size());
+        int[] newSizes = new int[added.size()];
+        int addedSize = 0;
+        for(int k = 0; k < newSizes.length; ++k) {
+            Inner inner = new Inner(from + k, mapper.apply(added.get(k)));
+            newInners.add(inner);
+            newSizes[k] = inner.list.size();
+            addedSize += newSizes[k];
+        }
+
+        List<Inner> range = inners.subList(from, to);
+        range.clear();
+        range.addAll(newInners);
+        if(newSizes.length != to - from) {
+            for(int g = from + newSizes.length; g < inners.size(); ++g) {
+                inners.get(g).index = g;
+            }
+        }
+        sizes.replace(from, to, newSizes, newSizes.length);
+
+        if(addedSize > 0) {
+            nextAdd(flatFrom, flatFrom + addedSize);
+        }
+    }
+
+    private void innerChanged(Inner inner, Change<? extends E> c) {
+        int off = sizes.prefixSum(inner.index);
+        beginChange();
+        while(c.next()) {
+            int from = c.getFrom();
+            if(c.wasPermutated()) {
+                int to = c.getTo();
+                int[] perm = new int[to - from];
+                for(int i = from; i < to; ++i) {
+                    perm[i - from] = off + c.getPermutation(i);
+                }
+                nextPermutation(off + from, off + to, perm);
+            } else if(c.wasUpdated()) {
+                for(int i = from; i < c.getTo(); ++i) {
+                    nextUpdate(off + i);
+                }
+            } else {
+                if(c.wasRemoved()) {
+                    nextRemove(off + from, c.getRemoved());
+                }
+                if(c.wasAdded()) {
+                    nextAdd(off + from, off + from + c.getAddedSize());
+                }
+            }
+        }
+        sizes.set(inner.index, inner.list.size());
+        endChange();
+    }
+
+    private class Inner {
+        final ObservableList<? extends E> list;
+        final ListChangeListener<E> listener = ch -> innerChanged(this, ch);
+        final WeakListChangeListener<E> weakListener = new WeakListChangeListener<>(listener);
+        int index;
+
+        Inner(int index, ObservableList<? extends E> list) {
+            this.index = index;
+            if(list != null) {
+                this.list = list;
+                list.addListener(weakListener);
+            } else {
+                this.list = FXCollections.emptyObservableList();
+            }
+        }
+
+        void dispose() {
+            list.removeListener(weakListener);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.fxmisc.easybind;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes length-prefixed frames to a channel. The content of a frame is
+ * written to {@link #data()} and then sent at once by {@link #sendFrame()}.
+ */
+class FrameOutput {
+
+    private static class Buffer extends ByteArrayOutputStream {
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    private final WritableByteChannel channel;
+    private final Buffer buffer = new Buffer();
+    private final DataOutputStream data = new DataOutputStream(buffer);
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(5);
+
+    FrameOutput(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    DataOutputStream data() {
+        return data;
+    }
+
+    /**
+     * Sends the data written so far without a length prefix.
+     */
+    void sendRaw() throws IOException {
+        data.flush();
+        writeFully(buffer.toByteBuffer());
+        buffer.reset();
+    }
+
+    /**
+     * Sends the data written so far as a frame.
+     */
+    void sendFrame() throws IOException {
+        data.flush();
+        int length = buffer.size();
+        lengthBuffer.clear();
+        while((length & ~0x7f) != 0) {
+            lengthBuffer.put((byte) ((length & 0x7f) | 0x80));
+            length >>>= 7;
+        }
+        lengthBuffer.put((byte) length);
+        lengthBuffer.flip();
+        writeFully(lengthBuffer);
+        writeFully(buffer.toByteBuffer());
+        buffer.reset();
+    }
+
+    /**
+     * Discards the data written since the last frame.
+     */
+    void discard() {
+        buffer.reset();
+    }
+
+    private void writeFully(ByteBuffer buf) throws IOException {
+        while(buf.hasRemaining()) {
+            channel.write(buf);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.fxmisc.easybind;
+
+import java.util.concurrent.Executor;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Scheduler that runs due actions on each pulse of the JavaFX application
+ * thread. A single animation timer serves all the actions and is stopped
+ * whenever there is nothing to run.
+ */
+class FxScheduler extends QueueScheduler {
+    static final FxScheduler INSTANCE = new FxScheduler();
+
+    /**
+     * Executor, usable from any thread, that runs actions on the next
+     * pulse of the JavaFX application thread.
+     */
+    static final Executor NEXT_PULSE = nextTick(Platform::runLater, INSTANCE);
+
+    private AnimationTimer timer = null;
+
+    private FxScheduler() {}
+
+    @Override
+    public long now() {
+        return System.nanoTime();
+    }
+
+    @Override
+    protected void becameNonEmpty() {
+        if(timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    runDue(System.nanoTime());
+                }
+            };
+        }
+        timer.start();
+    }
+
+    @Override
+    protected void becameEmpty() {
+        if(timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Returns an executor, usable from any thread, that hands actions over
+     * to the thread of {@code scheduler} by {@code handOff}, where they are
+     * scheduled to run on the next tick. An action executed from within a
+     * tick is handed over after that tick, so it runs on a later one.
+     */
+    static Executor nextTick(Executor handOff, Scheduler scheduler) {
+        return action -> handOff.execute(() -> scheduler.schedule(0, action));
+    }
+}
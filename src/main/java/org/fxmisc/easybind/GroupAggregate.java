@@ -0,0 +1,23 @@
+package org.fxmisc.easybind;
+
+/**
+ * Incrementally maintained aggregate of the elements of one group created
+ * by {@link EasyBind#groupBy(javafx.collections.ObservableList,
+ * java.util.function.Function, java.util.function.Function)}.
+ * The grouping notifies the aggregate of every element that enters or
+ * leaves the group, so that aggregates such as totals can be maintained
+ * in time proportional to the number of changes, rather than the size of
+ * the group. When a group becomes empty, it is removed together with its
+ * aggregate.
+ */
+public interface GroupAggregate<T> {
+    void added(T elem);
+    void removed(T elem);
+
+    /**
+     * Called when an element of the group was updated in place, as reported
+     * by source lists with an extractor. The default implementation does
+     * nothing.
+     */
+    default void updated(T elem) {}
+}
@@ -0,0 +1,555 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+/**
+ * Map from keys to the groups of source elements with that key, maintained
+ * incrementally from the source list changes. Each group lists its elements
+ * in source order. Each source element is tracked by an {@link Entry} that
+ * knows its current source index, so that its position within its group
+ * can be found by binary search.
+ *
+ * <p>Keys are either computed by a plain function, or are the values of
+ * observable values, in which case elements are moved between groups as
+ * the keys change.
+ */
+class GroupingMap<K, T> extends ObservableMapBase<K, ObservableList<T>> {
+    private final ObservableList<? extends T> source;
+    private final Function<? super T, ? extends K> keyFn;
+    private final Function<? super T, ? extends ObservableValue<? extends K>> dynamicKeyFn;
+    private final Function<? super K, ? extends GroupAggregate<? super T>> aggregateFactory;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final ListChangeListener<T> sourceListener = this::sourceChanged;
+
+    // source indices of entries added or removed by the batch being applied
+    private static final int ADDED = -1;
+    private static final int REMOVED = -2;
+
+    private List<Entry> entries = new ArrayList<>();
+    private final Map<K, Group> groups = new HashMap<>();
+
+    // groups modified in the current batch
+    private final List<Group> touched = new ArrayList<>();
+
+    private GroupingMap(
+            ObservableList<? extends T> source,
+            Function<? super T, ? extends K> keyFn,
+            Function<? super T, ? extends ObservableValue<? extends K>> dynamicKeyFn,
+            Function<? super K, ? extends GroupAggregate<? super T>> aggregateFactory) {
+        this.source = source;
+        this.keyFn = keyFn;
+        this.dynamicKeyFn = dynamicKeyFn;
+        this.aggregateFactory = aggregateFactory;
+
+        for(int i = 0; i < source.size(); ++i) {
+            Entry e = new Entry(source.get(i), i);
+            entries.add(e);
+            group(e.key).append(e);
+        }
+        groups.forEach(this::putEntry);
+        source.addListener(new WeakListChangeListener<>(sourceListener));
+    }
+
+    static <K, T> GroupingMap<K, T> byKey(
+            ObservableList<? extends T> source,
+            Function<? super T, ? extends K> keyFn,
+            Function<? super K, ? extends GroupAggregate<? super T>> aggregateFactory) {
+        return new GroupingMap<>(source, keyFn, null, aggregateFactory);
+    }
+
+    static <K, T> GroupingMap<K, T> byObservableKey(
+            ObservableList<? extends T> source,
+            Function<? super T, ? extends ObservableValue<? extends K>> keyFn,
+            Function<? super K, ? extends GroupAggregate<? super T>> aggregateFactory) {
+        return new GroupingMap<>(source, null, keyFn, aggregateFactory);
+    }
+
+    private Group group(K key) {
+        Group g = groups.get(key);
+        if(g == null) {
+            g = new Group(key);
+            groups.put(key, g);
+        }
+        return g;
+    }
+
+    private void sourceChanged(Change<? extends T> c) {
+        Batch batch = null;
+        while(c.next()) {
+            if(c.wasPermutated()) {
+                if(batch != null) {
+                    batch.apply();
+                    batch = null;
+                }
+                permutated(c);
+            } else {
+                if(batch == null) {
+                    batch = new Batch();
+                }
+                if(c.wasUpdated()) {
+                    batch.updated(c.getFrom(), c.getTo());
+                } else {
+                    batch.removed(c.getFrom(), c.getRemovedSize());
+                    batch.added(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        }
+        if(batch != null) {
+            batch.apply();
+        }
+        finishBatch();
+    }
+
+    private void permutated(Change<? extends T> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        List<Entry> permuted = new ArrayList<>(entries.subList(from, to));
+        for(int i = from; i < to; ++i) {
+            Entry e = permuted.get(i - from);
+            e.index = c.getPermutation(i);
+            entries.set(e.index, e);
+            e.group.touch().needsResort = true;
+        }
+        for(Group g: touched) {
+            g.resortIfNeeded();
+        }
+    }
+
+    /**
+     * Consecutive sub-changes other than permutations. The new source
+     * order is built as the sub-changes come. Each touched group is then
+     * compacted once to drop the removed entries, and merged once with
+     * the added ones, instead of shifting its entries for each element.
+     */
+    private final class Batch {
+        private final List<Entry> next = new ArrayList<>(entries.size());
+        private final List<Entry> added = new ArrayList<>();
+        private final List<Entry> updated = new ArrayList<>();
+        private int oldPos = 0;
+
+        /**
+         * Copies unchanged entries, so that {@code next} holds the first
+         * {@code index} elements of the source as of the current sub-change.
+         */
+        private void copyUpTo(int index) {
+            while(next.size() < index) {
+                next.add(entries.get(oldPos++));
+            }
+        }
+
+        void removed(int from, int count) {
+            if(count == 0) {
+                return;
+            }
+            copyUpTo(from + count);
+            List<Entry> removed = next.subList(from, from + count);
+            for(Entry e: removed) {
+                e.dispose();
+                if(e.index != ADDED) {
+                    e.group.leave(e);
+                }
+                e.index = REMOVED;
+            }
+            removed.clear();
+        }
+
+        void added(int from, List<? extends T> elems) {
+            if(elems.isEmpty()) {
+                return;
+            }
+            copyUpTo(from);
+            List<Entry> addedEntries = new ArrayList<>(elems.size());
+            for(T elem: elems) {
+                addedEntries.add(new Entry(elem, ADDED));
+            }
+            next.addAll(from, addedEntries);
+            added.addAll(addedEntries);
+        }
+
+        void updated(int from, int to) {
+            copyUpTo(to);
+            for(int i = from; i < to; ++i) {
+                Entry e = next.get(i);
+                if(e.index == ADDED) {
+                    // not in a group yet
+                    e.recomputeKey();
+                } else {
+                    updated.add(e);
+                }
+            }
+        }
+
+        void apply() {
+            while(oldPos < entries.size()) {
+                next.add(entries.get(oldPos++));
+            }
+
+            // entries whose key changed leave their group like removed ones
+            List<Entry> inserted = new ArrayList<>();
+            List<Entry> updatedInPlace = new ArrayList<>();
+            for(Entry e: updated) {
+                if(e.index == REMOVED) {
+                    continue;
+                }
+                K oldKey = e.key;
+                e.recomputeKey();
+                if(Objects.equals(oldKey, e.key)) {
+                    updatedInPlace.add(e);
+                } else {
+                    e.group.leave(e);
+                    inserted.add(e);
+                }
+            }
+            for(Group g: touched) {
+                g.compact();
+            }
+
+            // renumbering keeps the relative order of the entries in each group
+            entries = next;
+            for(int i = 0; i < entries.size(); ++i) {
+                entries.get(i).index = i;
+            }
+            for(Entry e: added) {
+                if(e.index != REMOVED) {
+                    inserted.add(e);
+                }
+            }
+            for(Entry e: inserted) {
+                group(e.key).touch().join(e);
+            }
+            for(Group g: touched) {
+                g.mergeJoined();
+            }
+            for(Entry e: updatedInPlace) {
+                e.group.touch().update(e);
+            }
+        }
+    }
+
+    /**
+     * Publishes the changes of the touched groups and updates the map
+     * with the groups that were created or emptied.
+     */
+    private void finishBatch() {
+        List<Group> batch = new ArrayList<>(touched);
+        touched.clear();
+        for(Group g: batch) {
+            g.finish();
+        }
+        for(Group g: batch) {
+            boolean published = containsKey(g.key) && get(g.key) == g;
+            if(g.entries.isEmpty()) {
+                if(groups.get(g.key) == g) {
+                    groups.remove(g.key);
+                }
+                if(published) {
+                    removeEntry(g.key);
+                }
+            } else if(!published) {
+                putEntry(g.key, g);
+            }
+        }
+    }
+
+    private class Entry implements InvalidationListener {
+        final T elem;
+        int index;
+        K key;
+        Group group;
+
+        private ObservableValue<? extends K> keyObs = null;
+        private InvalidationListener weakListener = null;
+
+        Entry(T elem, int index) {
+            this.elem = elem;
+            this.index = index;
+            this.key = computeKey();
+        }
+
+        private K computeKey() {
+            if(dynamicKeyFn == null) {
+                return keyFn.apply(elem);
+            }
+            keyObs = dynamicKeyFn.apply(elem);
+            if(keyObs == null) {
+                return null;
+            }
+            if(weakListener == null) {
+                weakListener = new WeakInvalidationListener(this);
+            }
+            keyObs.addListener(weakListener);
+            // reading the value also revalidates the observable
+            return keyObs.getValue();
+        }
+
+        void dispose() {
+            if(keyObs != null) {
+                keyObs.removeListener(weakListener);
+                keyObs = null;
+            }
+        }
+
+        /**
+         * The element was updated in place, re-extract the key.
+         */
+        void recomputeKey() {
+            dispose();
+            key = computeKey();
+        }
+
+        @Override
+        public void invalidated(Observable obs) {
+            rekey(keyObs.getValue());
+            finishBatch();
+        }
+
+        private void rekey(K newKey) {
+            if(Objects.equals(key, newKey)) {
+                group.touch().update(this);
+            } else {
+                group.touch().remove(this);
+                key = newKey;
+                group(newKey).touch().insert(this);
+            }
+        }
+    }
+
+    private class Group extends ObservableListBase<T> {
+        final K key;
+        final ArrayList<Entry> entries = new ArrayList<>();
+        final GroupAggregate<? super T> aggregate;
+
+        boolean inBatch = false;
+        boolean needsResort = false;
+
+        // entries that left this group, and entries to join it, in the
+        // batch being applied
+        private int left = 0;
+        private List<Entry> joining = null;
+
+        Group(K key) {
+            this.key = key;
+            this.aggregate = aggregateFactory != null ? aggregateFactory.apply(key) : null;
+        }
+
+        @Override
+        public T get(int index) {
+            return entries.get(index).elem;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        Group touch() {
+            if(!inBatch) {
+                inBatch = true;
+                beginChange();
+                touched.add(this);
+            }
+            return this;
+        }
+
+        void finish() {
+            inBatch = false;
+            endChange();
+        }
+
+        /**
+         * Adds an entry known to come after all the current entries,
+         * without firing a change.
+         */
+        void append(Entry e) {
+            e.group = this;
+            entries.add(e);
+            if(aggregate != null) {
+                aggregate.added(e.elem);
+            }
+        }
+
+        void insert(Entry e) {
+            int pos = position(e.index);
+            e.group = this;
+            entries.add(pos, e);
+            nextAdd(pos, pos + 1);
+            if(aggregate != null) {
+                aggregate.added(e.elem);
+            }
+        }
+
+        void remove(Entry e) {
+            int pos = position(e.index);
+            entries.remove(pos);
+            e.group = null;
+            nextRemove(pos, e.elem);
+            if(aggregate != null) {
+                aggregate.removed(e.elem);
+            }
+        }
+
+        /**
+         * Marks an entry as leaving this group. It is dropped by the next
+         * {@link #compact()}.
+         */
+        void leave(Entry e) {
+            touch();
+            e.group = null;
+            ++left;
+        }
+
+        /**
+         * Drops the entries that left this group in a single pass,
+         * reporting each run of consecutive dropped entries as one removal.
+         */
+        void compact() {
+            if(left == 0) {
+                return;
+            }
+            left = 0;
+            int w = 0;
+            List<T> run = null;
+            for(int r = 0; r < entries.size(); ++r) {
+                Entry e = entries.get(r);
+                if(e.group != this) {
+                    if(run == null) {
+                        run = new ArrayList<>();
+                    }
+                    run.add(e.elem);
+                    if(aggregate != null) {
+                        aggregate.removed(e.elem);
+                    }
+                } else {
+                    if(run != null) {
+                        nextRemove(w, run);
+                        run = null;
+                    }
+                    entries.set(w++, e);
+                }
+            }
+            if(run != null) {
+                nextRemove(w, run);
+            }
+            entries.subList(w, entries.size()).clear();
+        }
+
+        /**
+         * Adds an entry by the next {@link #mergeJoined()}.
+         */
+        void join(Entry e) {
+            if(joining == null) {
+                joining = new ArrayList<>();
+            }
+            joining.add(e);
+        }
+
+        /**
+         * Merges the joining entries in source order in a single pass,
+         * reporting each run of consecutive new entries as one addition.
+         */
+        void mergeJoined() {
+            if(joining == null) {
+                return;
+            }
+            List<Entry> added = joining;
+            joining = null;
+            added.sort((a, b) -> Integer.compare(a.index, b.index));
+            List<Entry> merged = new ArrayList<>(entries.size() + added.size());
+            int i = 0;
+            int j = 0;
+            int runStart = -1;
+            while(i < entries.size() || j < added.size()) {
+                boolean takeNew = j < added.size()
+                        && (i == entries.size() || added.get(j).index < entries.get(i).index);
+                if(takeNew) {
+                    if(runStart < 0) {
+                        runStart = merged.size();
+                    }
+                    Entry e = added.get(j++);
+                    e.group = this;
+                    merged.add(e);
+                    if(aggregate != null) {
+                        aggregate.added(e.elem);
+                    }
+                } else {
+                    if(runStart >= 0) {
+                        nextAdd(runStart, merged.size());
+                        runStart = -1;
+                    }
+                    merged.add(entries.get(i++));
+                }
+            }
+            if(runStart >= 0) {
+                nextAdd(runStart, merged.size());
+            }
+            entries.clear();
+            entries.addAll(merged);
+        }
+
+        void update(Entry e) {
+            nextUpdate(position(e.index));
+            if(aggregate != null) {
+                aggregate.updated(e.elem);
+            }
+        }
+
+        void resortIfNeeded() {
+            if(!needsResort) {
+                return;
+            }
+            needsResort = false;
+            int n = entries.size();
+            List<Entry> old = new ArrayList<>(entries);
+            Collections.sort(entries, (a, b) -> Integer.compare(a.index, b.index));
+            // entries are distinct objects; find each old entry's new position
+            Map<Entry, Integer> newPos = new HashMap<>(n * 2);
+            for(int i = 0; i < n; ++i) {
+                newPos.put(entries.get(i), i);
+            }
+            int[] perm = new int[n];
+            boolean identity = true;
+            for(int i = 0; i < n; ++i) {
+                perm[i] = newPos.get(old.get(i));
+                identity &= perm[i] == i;
+            }
+            if(!identity) {
+                nextPermutation(0, n, perm);
+            }
+        }
+
+        /**
+         * Position of the entry with the given source index, or the position
+         * at which it would be inserted.
+         */
+        private int position(int sourceIndex) {
+            int lo = 0;
+            int hi = entries.size();
+            while(lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if(entries.get(mid).index < sourceIndex) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
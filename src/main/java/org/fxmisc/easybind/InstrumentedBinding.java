@@ -0,0 +1,36 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.Observable;
+
+/**
+ * {@link PreboundBinding} created by EasyBind. Its recomputes are
+ * counted and timed by {@link BindingMetrics} and {@link JfrEvents} in
+ * {@link #computeValue()}, whether they are triggered by {@code get()}
+ * or {@code getValue()}. Subclasses compute the value in {@link #compute()}.
+ */
+abstract class InstrumentedBinding<T> extends PreboundBinding<T> {
+
+    InstrumentedBinding(Observable... dependencies) {
+        super(dependencies);
+    }
+
+    protected abstract T compute();
+
+    @Override
+    protected final T computeValue() {
+        Object event = JfrEvents.beginRecompute();
+        long start = BindingMetrics.isEnabled() ? System.nanoTime() : 0;
+        T value = compute();
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordRecompute(this, System.nanoTime() - start);
+        }
+        JfrEvents.endRecompute(event, this);
+        return value;
+    }
+
+    // recomputes are already recorded by computeValue()
+    @Override
+    public final T getValue() {
+        return get();
+    }
+}
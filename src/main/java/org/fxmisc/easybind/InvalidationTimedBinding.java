@@ -0,0 +1,28 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Base class for timed bindings that only need to know that the source
+ * has been invalidated, not every value it passed through.
+ */
+abstract class InvalidationTimedBinding<T> extends TimedBinding<T> {
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final InvalidationListener srcListener = obs -> srcInvalidated();
+    private final InvalidationListener weakSrcListener = new WeakInvalidationListener(srcListener);
+
+    InvalidationTimedBinding(ObservableValue<T> src, Scheduler scheduler) {
+        super(src, scheduler);
+        src.addListener(weakSrcListener);
+    }
+
+    @Override
+    public void dispose() {
+        src.removeListener(weakSrcListener);
+        super.dispose();
+    }
+
+    protected abstract void srcInvalidated();
+}
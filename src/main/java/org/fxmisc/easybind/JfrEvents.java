@@ -0,0 +1,68 @@
+package org.fxmisc.easybind;
+
+/**
+ * Hooks through which bindings report to Java Flight Recorder. This is
+ * the Java 8 version, which does nothing; on Java 11 and later the
+ * multi-release jar provides a version that emits the events
+ * {@code org.fxmisc.easybind.Recompute},
+ * {@code org.fxmisc.easybind.InvalidationCascade},
+ * {@code org.fxmisc.easybind.MappedListChange} and
+ * {@code org.fxmisc.easybind.ListBind}.
+ *
+ * <p>A recompute is recorded when it takes longer than the event's
+ * threshold (1 ms by default). An invalidation cascade is recorded when
+ * a single invalidation of a source invalidates at least
+ * {@code org.fxmisc.easybind.jfr.cascadeThreshold} (default 100) bindings
+ * created by EasyBind. Events carry the binding's label, as given by
+ * {@link BindingMetrics#name(Object, String)}, and the class of the
+ * binding or list they are about.
+ */
+public final class JfrEvents {
+
+    private JfrEvents() {}
+
+    /**
+     * Whether the events are emitted at all, i.e. whether this is the
+     * Java 11 version of this class.
+     */
+    public static boolean isAvailable() {
+        return false;
+    }
+
+    /**
+     * Called by a binding before it recomputes its value.
+     * @return token to pass to {@link #endRecompute(Object, Object)}.
+     */
+    public static Object beginRecompute() {
+        return null;
+    }
+
+    public static void endRecompute(Object token, Object binding) {}
+
+    /**
+     * Called by a binding's listener before it invalidates the binding.
+     * @return token to pass to {@link #cascadeExit(Object)}.
+     */
+    public static Object cascadeEnter(Object binding) {
+        return null;
+    }
+
+    public static void cascadeExit(Object token) {}
+
+    /**
+     * Called by a binding when it is invalidated.
+     */
+    public static void invalidated() {}
+
+    static Object beginMappedListChange() {
+        return null;
+    }
+
+    static void endMappedListChange(Object token, Object list, Object source) {}
+
+    static Object beginListBind() {
+        return null;
+    }
+
+    static void endListBind(Object token, Object source, Object target, int changes) {}
+}
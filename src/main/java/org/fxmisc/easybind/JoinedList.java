@@ -0,0 +1,448 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+/**
+ * Inner join of two lists on equal keys. The result lists, for each left
+ * element in left order, the combinations with its matching right
+ * elements in right order. Elements of both sides are hashed by key into
+ * buckets, and the number of matches of each left element is kept in a
+ * {@link FenwickTree}, so that a change on either side only visits the
+ * matching elements of the other side, and locates each affected result
+ * in O(log n). Like {@link MappedList}, results are combined on access.
+ */
+class JoinedList<L, R, K, O> extends ObservableListBase<O> {
+
+    private final class Entry<T> {
+        final T elem;
+        K key;
+        int index;
+
+        Entry(T elem, K key, int index) {
+            this.elem = elem;
+            this.key = key;
+            this.index = index;
+        }
+    }
+
+    private final class Bucket {
+        final List<Entry<L>> lefts = new ArrayList<>();
+        final List<Entry<R>> rights = new ArrayList<>();
+    }
+
+    // right entries of one key added or removed by a change
+    private final class Run {
+        final Bucket bucket;
+        final K key;
+        final int pos;
+        final List<Entry<R>> entries = new ArrayList<>();
+
+        Run(Bucket bucket, K key, int pos) {
+            this.bucket = bucket;
+            this.key = key;
+            this.pos = pos;
+        }
+    }
+
+    private final Function<? super L, ? extends K> leftKey;
+    private final Function<? super R, ? extends K> rightKey;
+    private final BiFunction<? super L, ? super R, ? extends O> combiner;
+
+    // need to retain strong references to listeners, so that they don't get garbage collected
+    private final ListChangeListener<L> leftListener = this::leftChanged;
+    private final ListChangeListener<R> rightListener = this::rightChanged;
+
+    private final List<Entry<L>> lefts = new ArrayList<>();
+    private final List<Entry<R>> rights = new ArrayList<>();
+    private final Map<K, Bucket> buckets = new HashMap<>();
+
+    // number of matches of each left element, in left order
+    private final FenwickTree matches;
+
+    public JoinedList(
+            ObservableList<? extends L> left,
+            ObservableList<? extends R> right,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey,
+            BiFunction<? super L, ? super R, ? extends O> combiner) {
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.combiner = combiner;
+        for(int i = 0; i < right.size(); ++i) {
+            R elem = right.get(i);
+            Entry<R> e = new Entry<>(elem, rightKey.apply(elem), i);
+            rights.add(e);
+            bucket(e.key).rights.add(e);
+        }
+        int[] counts = new int[left.size()];
+        for(int i = 0; i < left.size(); ++i) {
+            L elem = left.get(i);
+            Entry<L> e = new Entry<>(elem, leftKey.apply(elem), i);
+            lefts.add(e);
+            Bucket b = bucket(e.key);
+            b.lefts.add(e);
+            counts[i] = b.rights.size();
+        }
+        matches = new FenwickTree(counts.length);
+        matches.setAll(counts, counts.length);
+        left.addListener(new WeakListChangeListener<>(leftListener));
+        right.addListener(new WeakListChangeListener<>(rightListener));
+    }
+
+    @Override
+    public O get(int index) {
+        int li = matches.indexOf(index);
+        Entry<L> l = lefts.get(li);
+        Entry<R> r = buckets.get(l.key).rights.get(index - matches.prefixSum(li));
+        return combiner.apply(l.elem, r.elem);
+    }
+
+    @Override
+    public int size() {
+        return matches.total();
+    }
+
+    private Bucket bucket(K key) {
+        return buckets.computeIfAbsent(key, k -> new Bucket());
+    }
+
+    private void releaseIfEmpty(Bucket b, K key) {
+        if(b.lefts.isEmpty() && b.rights.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Position of the entry with the given index in a list of entries
+     * sorted by index, or the insertion point {@code -1 - pos} if absent.
+     */
+    private int position(List<? extends Entry<?>> entries, int index) {
+        int lo = 0;
+        int hi = entries.size() - 1;
+        while(lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midIndex = entries.get(mid).index;
+            if(midIndex < index) {
+                lo = mid + 1;
+            } else if(midIndex > index) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1 - lo;
+    }
+
+    private List<O> combinations(Entry<L> l) {
+        Bucket b = buckets.get(l.key);
+        List<O> res = new ArrayList<>(b.rights.size());
+        for(Entry<R> r: b.rights) {
+            res.add(combiner.apply(l.elem, r.elem));
+        }
+        return res;
+    }
+
+    private void reindex(List<? extends Entry<?>> entries, int from, int offset) {
+        for(int i = from; i < entries.size(); ++i) {
+            entries.get(i).index = i + offset;
+        }
+    }
+
+    /* ********************************************************************
+     * Left side                                                          *
+     * ********************************************************************/
+
+    private void leftChanged(Change<? extends L> c) {
+        beginChange();
+        while(c.next()) {
+            if(c.wasPermutated()) {
+                leftPermutated(c);
+            } else if(c.wasUpdated()) {
+                for(int i = c.getFrom(); i < c.getTo(); ++i) {
+                    leftUpdated(lefts.get(i));
+                }
+            } else {
+                leftReplaced(c.getFrom(), c.getRemovedSize(), c.getAddedSubList());
+            }
+        }
+        endChange();
+    }
+
+    private void leftReplaced(int from, int removedSize, List<? extends L> added) {
+        int offset = matches.prefixSum(from);
+        if(removedSize > 0) {
+            List<Entry<L>> removed = lefts.subList(from, from + removedSize);
+            List<O> removedResults = new ArrayList<>();
+            for(Entry<L> e: removed) {
+                removedResults.addAll(combinations(e));
+                Bucket b = buckets.get(e.key);
+                b.lefts.remove(position(b.lefts, e.index));
+                releaseIfEmpty(b, e.key);
+            }
+            removed.clear();
+            matches.remove(from, from + removedSize);
+            if(!removedResults.isEmpty()) {
+                nextRemove(offset, removedResults);
+            }
+        }
+
+        int addedSize = added.size();
+        reindex(lefts, from, addedSize);
+        if(addedSize > 0) {
+            List<Entry<L>> addedEntries = new ArrayList<>(addedSize);
+            int[] counts = new int[addedSize];
+            int total = 0;
+            for(int k = 0; k < addedSize; ++k) {
+                L elem = added.get(k);
+                Entry<L> e = new Entry<>(elem, leftKey.apply(elem), from + k);
+                addedEntries.add(e);
+                Bucket b = bucket(e.key);
+                b.lefts.add(-1 - position(b.lefts, e.index), e);
+                counts[k] = b.rights.size();
+                total += counts[k];
+            }
+            lefts.addAll(from, addedEntries);
+            matches.insert(from, counts, addedSize);
+            if(total > 0) {
+                nextAdd(offset, offset + total);
+            }
+        }
+    }
+
+    private void leftUpdated(Entry<L> e) {
+        K newKey = leftKey.apply(e.elem);
+        int offset = matches.prefixSum(e.index);
+        int count = matches.get(e.index);
+        if(Objects.equals(newKey, e.key)) {
+            for(int k = 0; k < count; ++k) {
+                nextUpdate(offset + k);
+            }
+        } else {
+            if(count > 0) {
+                nextRemove(offset, combinations(e));
+            }
+            Bucket b = buckets.get(e.key);
+            b.lefts.remove(position(b.lefts, e.index));
+            releaseIfEmpty(b, e.key);
+            e.key = newKey;
+            b = bucket(newKey);
+            b.lefts.add(-1 - position(b.lefts, e.index), e);
+            matches.set(e.index, b.rights.size());
+            if(!b.rights.isEmpty()) {
+                nextAdd(offset, offset + b.rights.size());
+            }
+        }
+    }
+
+    private void leftPermutated(Change<? extends L> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        int base = matches.prefixSum(from);
+        int end = matches.prefixSum(to);
+        int[] oldOffsets = new int[to - from];
+        int[] counts = new int[to - from];
+        for(int i = from; i < to; ++i) {
+            oldOffsets[i - from] = matches.prefixSum(i);
+            counts[c.getPermutation(i) - from] = matches.get(i);
+        }
+
+        List<Entry<L>> old = new ArrayList<>(lefts.subList(from, to));
+        Set<Bucket> touched = new LinkedHashSet<>();
+        for(Entry<L> e: old) {
+            e.index = c.getPermutation(e.index);
+            lefts.set(e.index, e);
+            touched.add(buckets.get(e.key));
+        }
+        for(Bucket b: touched) {
+            b.lefts.sort((x, y) -> Integer.compare(x.index, y.index));
+        }
+        matches.replace(from, to, counts, counts.length);
+
+        if(end > base) {
+            int[] perm = new int[end - base];
+            for(int i = from; i < to; ++i) {
+                int newOffset = matches.prefixSum(c.getPermutation(i));
+                int count = matches.get(c.getPermutation(i));
+                for(int k = 0; k < count; ++k) {
+                    perm[oldOffsets[i - from] + k - base] = newOffset + k;
+                }
+            }
+            nextPermutation(base, end, perm);
+        }
+    }
+
+    /* ********************************************************************
+     * Right side                                                         *
+     * ********************************************************************/
+
+    private void rightChanged(Change<? extends R> c) {
+        beginChange();
+        while(c.next()) {
+            if(c.wasPermutated()) {
+                rightPermutated(c);
+            } else if(c.wasUpdated()) {
+                for(int i = c.getFrom(); i < c.getTo(); ++i) {
+                    rightUpdated(rights.get(i));
+                }
+            } else {
+                rightReplaced(c.getFrom(), c.getRemovedSize(), c.getAddedSubList());
+            }
+        }
+        endChange();
+    }
+
+    private void rightReplaced(int from, int removedSize, List<? extends R> added) {
+        List<Entry<R>> removed = rights.subList(from, from + removedSize);
+        removeRights(removed);
+        removed.clear();
+
+        int addedSize = added.size();
+        reindex(rights, from, addedSize);
+        List<Entry<R>> addedEntries = new ArrayList<>(addedSize);
+        for(int k = 0; k < addedSize; ++k) {
+            R elem = added.get(k);
+            addedEntries.add(new Entry<>(elem, rightKey.apply(elem), from + k));
+        }
+        rights.addAll(from, addedEntries);
+        insertRights(addedEntries);
+    }
+
+    /**
+     * Removes right entries with consecutive indices from their buckets.
+     * Each matching left element loses one contiguous range of results,
+     * and the ranges are reported in descending order, so that reporting
+     * one does not shift the others.
+     */
+    private void removeRights(List<Entry<R>> entries) {
+        Map<K, Run> runs = runs(entries);
+        for(Entry<L> l: affectedLefts(runs)) {
+            Run run = runs.get(l.key);
+            List<O> removed = new ArrayList<>(run.entries.size());
+            for(Entry<R> r: run.entries) {
+                removed.add(combiner.apply(l.elem, r.elem));
+            }
+            nextRemove(matches.prefixSum(l.index) + run.pos, removed);
+            matches.set(l.index, matches.get(l.index) - run.entries.size());
+        }
+        for(Run run: runs.values()) {
+            run.bucket.rights.subList(run.pos, run.pos + run.entries.size()).clear();
+            releaseIfEmpty(run.bucket, run.key);
+        }
+    }
+
+    /**
+     * Inserts right entries with consecutive indices into their buckets,
+     * reporting one contiguous range of results per matching left
+     * element, in descending order.
+     */
+    private void insertRights(List<Entry<R>> entries) {
+        Map<K, Run> runs = runs(entries);
+        for(Run run: runs.values()) {
+            run.bucket.rights.addAll(run.pos, run.entries);
+        }
+        for(Entry<L> l: affectedLefts(runs)) {
+            Run run = runs.get(l.key);
+            int offset = matches.prefixSum(l.index) + run.pos;
+            matches.set(l.index, matches.get(l.index) + run.entries.size());
+            nextAdd(offset, offset + run.entries.size());
+        }
+    }
+
+    /**
+     * Groups right entries with consecutive indices by key. Since buckets
+     * are sorted by index, the entries of each key take, or are to take,
+     * consecutive positions in their bucket.
+     */
+    private Map<K, Run> runs(List<Entry<R>> entries) {
+        Map<K, Run> runs = new HashMap<>();
+        for(Entry<R> e: entries) {
+            Run run = runs.get(e.key);
+            if(run == null) {
+                Bucket b = bucket(e.key);
+                int pos = position(b.rights, e.index);
+                run = new Run(b, e.key, pos >= 0 ? pos : -1 - pos);
+                runs.put(e.key, run);
+            }
+            run.entries.add(e);
+        }
+        return runs;
+    }
+
+    private List<Entry<L>> affectedLefts(Map<K, Run> runs) {
+        List<Entry<L>> res = new ArrayList<>();
+        for(Run run: runs.values()) {
+            res.addAll(run.bucket.lefts);
+        }
+        res.sort((x, y) -> Integer.compare(y.index, x.index));
+        return res;
+    }
+
+    private void rightUpdated(Entry<R> e) {
+        K newKey = rightKey.apply(e.elem);
+        if(Objects.equals(newKey, e.key)) {
+            Bucket b = buckets.get(e.key);
+            int pos = position(b.rights, e.index);
+            for(Entry<L> l: b.lefts) {
+                nextUpdate(matches.prefixSum(l.index) + pos);
+            }
+        } else {
+            List<Entry<R>> single = Collections.singletonList(e);
+            removeRights(single);
+            e.key = newKey;
+            insertRights(single);
+        }
+    }
+
+    private void rightPermutated(Change<? extends R> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        List<Entry<R>> old = new ArrayList<>(rights.subList(from, to));
+        Set<Bucket> touched = new LinkedHashSet<>();
+        for(Entry<R> e: old) {
+            e.index = c.getPermutation(e.index);
+            rights.set(e.index, e);
+            touched.add(buckets.get(e.key));
+        }
+
+        // ListChangeBuilder does not compose permutations of disjoint
+        // ranges, so the reordered blocks are reported as one permutation
+        int[] perm = null;
+        for(Bucket b: touched) {
+            List<Entry<R>> before = new ArrayList<>(b.rights);
+            b.rights.sort((x, y) -> Integer.compare(x.index, y.index));
+            for(int k = 0; k < before.size(); ++k) {
+                int pos = position(b.rights, before.get(k).index);
+                if(pos != k) {
+                    if(perm == null) {
+                        perm = new int[size()];
+                        for(int i = 0; i < perm.length; ++i) {
+                            perm[i] = i;
+                        }
+                    }
+                    for(Entry<L> l: b.lefts) {
+                        int offset = matches.prefixSum(l.index);
+                        perm[offset + k] = offset + pos;
+                    }
+                }
+            }
+        }
+        if(perm != null) {
+            nextPermutation(0, perm.length, perm);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+/**
+ * Number of elements of a list per key, maintained from the list changes
+ * in time proportional to the size of each change. The counts are
+ * primitive. After each change of the list, the keys whose count changed
+ * are reported once each, with the count before and after the change.
+ */
+final class KeyCounts<T, K> implements ListChangeListener<T> {
+
+    @FunctionalInterface
+    interface CountListener<K> {
+        void countChanged(K key, int oldCount, int newCount);
+    }
+
+    private final ObservableList<? extends T> source;
+    private final Function<? super T, ? extends K> keyFn;
+    private final CountListener<? super K> listener;
+    private final ObjectIntMap<K> counts;
+
+    // key of each source element, in source order; only needed when
+    // the key of an updated element may change
+    private final List<K> keys;
+
+    // keys touched by the change being processed, with their count + 1
+    // before the change
+    private final ObjectIntMap<K> before = new ObjectIntMap<>();
+    private final List<K> touched = new ArrayList<>();
+
+    /**
+     * @param keyFn key of each element, or {@code null} to count the
+     * elements themselves.
+     */
+    @SuppressWarnings("unchecked")
+    public KeyCounts(
+            ObservableList<? extends T> source,
+            Function<? super T, ? extends K> keyFn,
+            CountListener<? super K> listener) {
+        this.source = source;
+        this.keyFn = keyFn != null ? keyFn : t -> (K) t;
+        this.listener = listener;
+        this.counts = new ObjectIntMap<>(source.size());
+        this.keys = keyFn != null ? new ArrayList<>(source.size()) : null;
+        for(T elem: source) {
+            K key = this.keyFn.apply(elem);
+            counts.add(key, 1);
+            if(keys != null) {
+                keys.add(key);
+            }
+        }
+        source.addListener(new WeakListChangeListener<>(this));
+    }
+
+    public ObjectIntMap<K> counts() {
+        return counts;
+    }
+
+    @Override
+    public void onChanged(Change<? extends T> c) {
+        while(c.next()) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            if(keys == null) {
+                if(!c.wasPermutated() && !c.wasUpdated()) {
+                    for(T elem: c.getRemoved()) {
+                        adjust(keyFn.apply(elem), -1);
+                    }
+                    for(T elem: c.getAddedSubList()) {
+                        adjust(keyFn.apply(elem), 1);
+                    }
+                }
+            } else if(c.wasPermutated()) {
+                List<K> permuted = new ArrayList<>(keys.subList(from, to));
+                for(int i = from; i < to; ++i) {
+                    keys.set(c.getPermutation(i), permuted.get(i - from));
+                }
+            } else if(c.wasUpdated()) {
+                for(int i = from; i < to; ++i) {
+                    K oldKey = keys.get(i);
+                    K newKey = keyFn.apply(source.get(i));
+                    if(!Objects.equals(oldKey, newKey)) {
+                        adjust(oldKey, -1);
+                        adjust(newKey, 1);
+                        keys.set(i, newKey);
+                    }
+                }
+            } else {
+                List<K> removedKeys = keys.subList(from, from + c.getRemovedSize());
+                for(K key: removedKeys) {
+                    adjust(key, -1);
+                }
+                removedKeys.clear();
+                List<K> addedKeys = new ArrayList<>(c.getAddedSize());
+                for(T elem: c.getAddedSubList()) {
+                    K key = keyFn.apply(elem);
+                    adjust(key, 1);
+                    addedKeys.add(key);
+                }
+                keys.addAll(from, addedKeys);
+            }
+        }
+
+        // the counts are final now; reset the bookkeeping before reporting
+        // them, in case a listener modifies the list
+        int n = touched.size();
+        Object[] changedKeys = touched.toArray();
+        int[] oldCounts = new int[n];
+        for(int i = 0; i < n; ++i) {
+            K key = touched.get(i);
+            oldCounts[i] = before.get(key) - 1;
+            before.add(key, -before.get(key));
+        }
+        touched.clear();
+        for(int i = 0; i < n; ++i) {
+            @SuppressWarnings("unchecked")
+            K key = (K) changedKeys[i];
+            int newCount = counts.get(key);
+            if(oldCounts[i] != newCount) {
+                listener.countChanged(key, oldCounts[i], newCount);
+            }
+        }
+    }
+
+    private void adjust(K key, int delta) {
+        if(!before.containsKey(key)) {
+            before.add(key, counts.get(key) + 1);
+            touched.add(key);
+        }
+        counts.add(key, delta);
+    }
+}
@@ -0,0 +1,11 @@
+package org.fxmisc.easybind;
+
+import javafx.collections.ObservableMap;
+
+/**
+ * Read-only map from keys to the elements of an observable list, kept in
+ * sync with the list until unsubscribed.
+ *
+ * @see EasyBind#index(javafx.collections.ObservableList, java.util.function.Function)
+ */
+public interface KeyIndex<K, T> extends ObservableMap<K, T>, Subscription {}
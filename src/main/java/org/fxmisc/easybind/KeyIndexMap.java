@@ -0,0 +1,122 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+/**
+ * Index of the elements of a list by key, maintained incrementally from the
+ * list changes. The key of each element is remembered, so that the element
+ * can be removed from the index even if its key has changed since.
+ * When several elements have the same key, the one that was indexed first
+ * is in the map, the others wait in line.
+ */
+class KeyIndexMap<K, T> extends ObservableMapBase<K, T> implements KeyIndex<K, T> {
+    private final ObservableList<? extends T> source;
+    private final Function<? super T, ? extends K> keyFn;
+    private final ListChangeListener<T> listener = this::sourceChanged;
+
+    // key of each source element, in source order
+    private final List<K> keys = new ArrayList<>();
+
+    // elements whose key is already taken, in order of indexing
+    private final Map<K, List<T>> waiting = new HashMap<>();
+
+    public KeyIndexMap(
+            ObservableList<? extends T> source,
+            Function<? super T, ? extends K> keyFn) {
+        this.source = source;
+        this.keyFn = keyFn;
+        for(T elem: source) {
+            K key = keyFn.apply(elem);
+            keys.add(key);
+            index(key, elem);
+        }
+        source.addListener(listener);
+    }
+
+    @Override
+    public void unsubscribe() {
+        source.removeListener(listener);
+    }
+
+    private void sourceChanged(Change<? extends T> c) {
+        while(c.next()) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            if(c.wasPermutated()) {
+                List<K> permuted = new ArrayList<>(keys.subList(from, to));
+                for(int i = from; i < to; ++i) {
+                    keys.set(c.getPermutation(i), permuted.get(i - from));
+                }
+            } else if(c.wasUpdated()) {
+                for(int i = from; i < to; ++i) {
+                    T elem = source.get(i);
+                    K oldKey = keys.get(i);
+                    K newKey = keyFn.apply(elem);
+                    if(!Objects.equals(oldKey, newKey)) {
+                        unindex(oldKey, elem);
+                        keys.set(i, newKey);
+                        index(newKey, elem);
+                    }
+                }
+            } else {
+                List<? extends T> removed = c.getRemoved();
+                List<K> removedKeys = keys.subList(from, from + removed.size());
+                for(int k = 0; k < removed.size(); ++k) {
+                    unindex(removedKeys.get(k), removed.get(k));
+                }
+                removedKeys.clear();
+
+                List<? extends T> added = c.getAddedSubList();
+                List<K> addedKeys = new ArrayList<>(added.size());
+                for(T elem: added) {
+                    K key = keyFn.apply(elem);
+                    addedKeys.add(key);
+                    index(key, elem);
+                }
+                keys.addAll(from, addedKeys);
+            }
+        }
+    }
+
+    private void index(K key, T elem) {
+        if(!containsKey(key)) {
+            putEntry(key, elem);
+        } else {
+            waiting.computeIfAbsent(key, k -> new ArrayList<>(1)).add(elem);
+        }
+    }
+
+    private void unindex(K key, T elem) {
+        List<T> queue = waiting.get(key);
+        if(get(key) == elem) {
+            if(queue == null) {
+                removeEntry(key);
+            } else {
+                T next = queue.remove(0);
+                if(queue.isEmpty()) {
+                    waiting.remove(key);
+                }
+                putEntry(key, next);
+            }
+        } else if(queue != null) {
+            for(int i = 0; i < queue.size(); ++i) {
+                if(queue.get(i) == elem) {
+                    queue.remove(i);
+                    break;
+                }
+            }
+            if(queue.isEmpty()) {
+                waiting.remove(key);
+            }
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package org.fxmisc.easybind;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
@@ -38,9 +42,39 @@ class ListCombinationBinding<T, U> extends ObjectBinding<U> implements
 
     @Override
     protected U computeValue() {
+        Object event = JfrEvents.beginRecompute();
+        long start = BindingMetrics.isEnabled() ? System.nanoTime() : 0;
+        U value = combine();
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordRecompute(this, System.nanoTime() - start);
+        }
+        JfrEvents.endRecompute(event, this);
+        return value;
+    }
+
+    @Override
+    protected void onInvalidating() {
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordInvalidation(this);
+        }
+        JfrEvents.invalidated();
+    }
+
+    private U combine() {
         return combiner.apply(source.stream().map(obs -> obs.getValue()));
     }
 
+    /**
+     * Returns the list and its elements, which this binding listens to.
+     */
+    @Override
+    public ObservableList<?> getDependencies() {
+        List<Observable> deps = new ArrayList<>(source.size() + 1);
+        deps.add(source);
+        deps.addAll(source);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(deps));
+    }
+
     @Override
     public void dispose() {
         source.forEach(elem -> elem.removeListener(weakElemListener));
@@ -49,14 +83,24 @@ class ListCombinationBinding<T, U> extends ObjectBinding<U> implements
 
     private void sourceChanged(
             Change<? extends ObservableValue<? extends T>> ch) {
-        while(ch.next()) {
-            ch.getRemoved().forEach(elem -> elem.removeListener(weakElemListener));
-            ch.getAddedSubList().forEach(elem -> elem.addListener(weakElemListener));
-            invalidate();
+        Object cascade = JfrEvents.cascadeEnter(this);
+        try {
+            while(ch.next()) {
+                ch.getRemoved().forEach(elem -> elem.removeListener(weakElemListener));
+                ch.getAddedSubList().forEach(elem -> elem.addListener(weakElemListener));
+                invalidate();
+            }
+        } finally {
+            JfrEvents.cascadeExit(cascade);
         }
     }
 
     private void elementInvalidated() {
-        invalidate();
+        Object cascade = JfrEvents.cascadeEnter(this);
+        try {
+            invalidate();
+        } finally {
+            JfrEvents.cascadeExit(cascade);
+        }
     }
 }
@@ -0,0 +1,151 @@
+package org.fxmisc.easybind;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import org.fxmisc.easybind.ChangeLog.ElementReader;
+
+/**
+ * Read-only observable list that mirrors the source list of
+ * {@link EasyBind#mirrorTo(javafx.collections.ObservableList, java.nio.channels.WritableByteChannel, ChangeLog.ElementWriter, int)}
+ * on the sending side. Each delta is decoded completely before it is
+ * applied, as a single list change with the same sub-changes as on the
+ * sending side, including permutations and updates.
+ *
+ * <p>Frames are read by {@link #receive()}, which works with blocking as
+ * well as non-blocking channels: it applies all the complete frames that
+ * are available and keeps an incomplete frame for the next call. On a
+ * non-blocking channel, it can be called periodically on the JavaFX
+ * application thread.
+ *
+ * <p>Every frame has a sequence number. When a frame is missing, or when a
+ * delta does not apply to the current contents, the mirror is out of sync:
+ * the following deltas are skipped, leaving the contents unchanged, until
+ * the next snapshot, which replaces the contents.
+ *
+ * @see EasyBind#mirrorFrom(ReadableByteChannel, ChangeLog.ElementReader)
+ */
+public final class ListMirrorReceiver<T> extends ChangeLogList<T> implements Closeable {
+    private static final int HEADER_SIZE = 6;
+
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(4096);
+    private boolean headerRead = false;
+    private boolean synced = false;
+    private long sequence = -1;
+
+    ListMirrorReceiver(ReadableByteChannel channel, ElementReader<? extends T> reader) {
+        super(reader);
+        this.channel = channel;
+    }
+
+    /**
+     * Sequence number of the last frame received, or -1 if none.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Whether this list currently mirrors the source, as of the last
+     * frame received.
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Reads the available bytes from the channel and applies the complete
+     * frames among them. On a blocking channel, blocks until at least one
+     * byte is available.
+     * @return the number of frames received, or -1 if the end of the
+     * stream was reached.
+     */
+    public int receive() throws IOException {
+        if(!buffer.hasRemaining()) {
+            ByteBuffer bigger = ByteBuffer.allocate(2 * buffer.capacity());
+            buffer.flip();
+            bigger.put(buffer);
+            buffer = bigger;
+        }
+        boolean eof = channel.read(buffer) < 0;
+        buffer.flip();
+        int received = 0;
+        try {
+            if(!headerRead) {
+                if(buffer.remaining() < HEADER_SIZE) {
+                    return eof ? -1 : 0;
+                }
+                ChangeLog.readHeader(frameInput(HEADER_SIZE), ChangeLog.KIND_MIRROR);
+                headerRead = true;
+            }
+            while(true) {
+                int start = buffer.position();
+                int length = readLength();
+                if(length < 0 || buffer.remaining() < length) {
+                    buffer.position(start);
+                    break;
+                }
+                apply(frameInput(length));
+                ++received;
+            }
+        } finally {
+            buffer.compact();
+        }
+        return received == 0 && eof ? -1 : received;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns a stream over the next {@code length} bytes of the buffer
+     * and skips them.
+     */
+    private DataInputStream frameInput(int length) {
+        int pos = buffer.position();
+        buffer.position(pos + length);
+        return new DataInputStream(new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + pos, length));
+    }
+
+    /**
+     * Reads a frame length, or returns -1 if it is not complete yet.
+     */
+    private int readLength() throws IOException {
+        int value = 0;
+        for(int shift = 0; shift < 32; shift += 7) {
+            if(!buffer.hasRemaining()) {
+                return -1;
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if(b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed frame length");
+    }
+
+    private void apply(DataInputStream in) throws IOException {
+        long seq = ChangeLog.readVarLong(in);
+        byte type = in.readByte();
+        boolean inSequence = seq == sequence + 1;
+        sequence = seq;
+        if(type == ListMirrorSender.SNAPSHOT) {
+            applySnapshot(in, ChangeLog.readVarInt(in));
+            synced = true;
+        } else if(type != ListMirrorSender.DELTA) {
+            throw new IOException("unknown frame type: " + type);
+        } else if(synced && inSequence) {
+            synced = applyChange(in);
+        } else {
+            synced = false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.fxmisc.easybind;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.fxmisc.easybind.ChangeLog.ElementWriter;
+
+/**
+ * Sends the contents of an observable list to a {@link ListMirrorReceiver}
+ * over a channel. After a header, every frame holds a sequence number and
+ * either a snapshot of the whole list or a delta, which encodes a single
+ * list change like a {@link ChangeLog} frame. The first frame is a
+ * snapshot, and every {@code snapshotInterval} deltas another snapshot is
+ * sent in place of a delta, so that a receiver that lost track of the
+ * source resynchronizes. A snapshot is also sent after a change that
+ * could not be encoded. I/O errors are rethrown from the listener as
+ * {@link UncheckedIOException}. The channel is not closed on unsubscribe.
+ */
+class ListMirrorSender<T> implements Subscription {
+    static final byte SNAPSHOT = 0;
+    static final byte DELTA = 1;
+
+    private final ObservableList<T> source;
+    private final ElementWriter<? super T> writer;
+    private final int snapshotInterval;
+    private final FrameOutput output;
+    private final ListChangeListener<T> listener = this::sourceChanged;
+    private long sequence = 0;
+    private int deltasSinceSnapshot = 0;
+    private boolean snapshotDue = false;
+
+    ListMirrorSender(
+            ObservableList<T> source,
+            WritableByteChannel channel,
+            ElementWriter<? super T> writer,
+            int snapshotInterval) throws IOException {
+        this.source = source;
+        this.writer = writer;
+        this.snapshotInterval = snapshotInterval;
+        this.output = new FrameOutput(channel);
+        ChangeLog.writeHeader(output.data(), ChangeLog.KIND_MIRROR);
+        output.sendRaw();
+        sendSnapshot();
+        source.addListener(listener);
+    }
+
+    @Override
+    public void unsubscribe() {
+        source.removeListener(listener);
+    }
+
+    private void sourceChanged(Change<? extends T> ch) {
+        try {
+            if(snapshotDue || (snapshotInterval > 0 && deltasSinceSnapshot >= snapshotInterval)) {
+                sendSnapshot();
+            } else {
+                DataOutputStream out = beginFrame(DELTA);
+                try {
+                    ChangeLog.writeListChange(out, ch, writer);
+                } catch(IOException | RuntimeException e) {
+                    // the receiver will miss this change, so it needs a snapshot
+                    output.discard();
+                    snapshotDue = true;
+                    throw e;
+                }
+                output.sendFrame();
+                ++deltasSinceSnapshot;
+            }
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sendSnapshot() throws IOException {
+        DataOutputStream out = beginFrame(SNAPSHOT);
+        try {
+            ChangeLog.writeVarLong(out, source.size());
+            for(T elem: source) {
+                ChangeLog.writeElement(out, elem, writer);
+            }
+        } catch(IOException | RuntimeException e) {
+            output.discard();
+            snapshotDue = true;
+            throw e;
+        }
+        output.sendFrame();
+        deltasSinceSnapshot = 0;
+        snapshotDue = false;
+    }
+
+    private DataOutputStream beginFrame(byte type) throws IOException {
+        DataOutputStream out = output.data();
+        ChangeLog.writeVarLong(out, sequence++);
+        out.writeByte(type);
+        return out;
+    }
+}
@@ -0,0 +1,77 @@
+package org.fxmisc.easybind;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+import org.fxmisc.easybind.ChangeLog.ElementReader;
+
+/**
+ * Read-only observable list that replays a change log recorded by
+ * {@link EasyBind#record(javafx.collections.ObservableList, java.nio.channels.WritableByteChannel, ChangeLog.ElementWriter)}.
+ * The list initially holds the recorded initial contents. Each recorded
+ * change is replayed as a single list change with the same sub-changes,
+ * including permutations and updates.
+ *
+ * <p>Changes are replayed either one at a time by {@link #step()}, at
+ * maximum speed by {@link #replay()}, or at the recorded speed by
+ * {@link #replayTimed()}, which blocks the calling thread between changes.
+ *
+ * @see EasyBind#replayList(ReadableByteChannel, ChangeLog.ElementReader)
+ */
+public final class ListReplay<E> extends ChangeLogList<E> implements Closeable {
+    private final ChangeLogReader reader;
+
+    ListReplay(ReadableByteChannel channel, ElementReader<? extends E> elementReader) throws IOException {
+        super(elementReader);
+        this.reader = new ChangeLogReader(channel, ChangeLog.KIND_LIST);
+        DataInputStream snapshot = reader.next();
+        if(snapshot == null) {
+            throw new IOException("change log has no snapshot");
+        }
+        apply(snapshot);
+    }
+
+    /**
+     * Replays the next recorded change.
+     * @return {@code false} if the end of the log was reached.
+     */
+    public boolean step() throws IOException {
+        DataInputStream frame = reader.next();
+        if(frame == null) {
+            return false;
+        }
+        apply(frame);
+        return true;
+    }
+
+    /**
+     * Replays all remaining changes, without delay.
+     */
+    public void replay() throws IOException {
+        while(step()) {}
+    }
+
+    /**
+     * Replays all remaining changes at the speed they were recorded.
+     */
+    public void replayTimed() throws IOException {
+        DataInputStream frame;
+        while((frame = reader.next()) != null) {
+            reader.awaitOffset();
+            apply(frame);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void apply(DataInputStream frame) throws IOException {
+        if(!applyChange(frame)) {
+            throw new IOException("change does not apply to the replayed list");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.fxmisc.easybind;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * Invalidation and change listeners of an observable collection, with
+ * change listeners of type {@code L}.
+ */
+final class ListenerHelper<L> {
+    private static final Object[] NO_LISTENERS = new Object[0];
+
+    // copy-on-write, so that listeners can be removed while being notified
+    private Object[] invalidationListeners = NO_LISTENERS;
+    private Object[] changeListeners = NO_LISTENERS;
+
+    void addInvalidationListener(InvalidationListener listener) {
+        invalidationListeners = add(invalidationListeners, listener);
+    }
+
+    void removeInvalidationListener(InvalidationListener listener) {
+        invalidationListeners = remove(invalidationListeners, listener);
+    }
+
+    void addChangeListener(L listener) {
+        changeListeners = add(changeListeners, listener);
+    }
+
+    void removeChangeListener(L listener) {
+        changeListeners = remove(changeListeners, listener);
+    }
+
+    /**
+     * Notifies the invalidation listeners, then passes the change created
+     * by {@code change} to the change listeners. The change is only
+     * created if there are change listeners. Listeners added or removed
+     * meanwhile are only taken into account for the next change.
+     */
+    @SuppressWarnings("unchecked")
+    <C> void fire(Observable source, Supplier<? extends C> change, BiConsumer<? super L, ? super C> notify) {
+        Object[] invListeners = invalidationListeners;
+        Object[] chListeners = changeListeners;
+        for(Object l: invListeners) {
+            ((InvalidationListener) l).invalidated(source);
+        }
+        if(chListeners.length > 0) {
+            C ch = change.get();
+            for(Object l: chListeners) {
+                notify.accept((L) l, ch);
+            }
+        }
+    }
+
+    private static Object[] add(Object[] listeners, Object listener) {
+        Object[] res = Arrays.copyOf(listeners, listeners.length + 1);
+        res[listeners.length] = listener;
+        return res;
+    }
+
+    private static Object[] remove(Object[] listeners, Object listener) {
+        for(int i = 0; i < listeners.length; ++i) {
+            if(listeners[i].equals(listener)) {
+                Object[] res = new Object[listeners.length - 1];
+                System.arraycopy(listeners, 0, res, 0, i);
+                System.arraycopy(listeners, i + 1, res, i, res.length - i);
+                return res;
+            }
+        }
+        return listeners;
+    }
+}
@@ -0,0 +1,276 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+/**
+ * Index of the elements of an observable list by a primitive {@code long}
+ * key, kept in sync with the list until unsubscribed. Unlike
+ * {@link KeyIndex}, neither the keys nor the entries are boxed: the index
+ * is an open-addressing hash table with linear probing, and the key of
+ * each element is remembered in a {@code long[]}.
+ *
+ * <p>When several elements have the same key, {@link #get(long)} returns
+ * the one that was indexed first. The index is invalidated whenever a
+ * change of the source list modifies it. {@code null} elements are not
+ * permitted.
+ *
+ * @see EasyBind#indexByLong(ObservableList, ToLongFunction)
+ */
+public final class LongKeyIndex<T> implements Observable, Subscription {
+
+    // marks a slot holding several elements with the same key
+    private static final class Several {
+        final List<Object> elems = new ArrayList<>(2);
+
+        Several(Object first, Object second) {
+            elems.add(first);
+            elems.add(second);
+        }
+    }
+
+    private static final Object[] NO_LISTENERS = new Object[0];
+
+    private final ObservableList<? extends T> source;
+    private final ToLongFunction<? super T> keyFn;
+    private final ListChangeListener<T> listener = this::sourceChanged;
+
+    // key of each source element, in source order
+    private long[] keyOf;
+    private int count = 0;
+
+    // hash table; a null value marks an empty slot
+    private long[] tableKeys;
+    private Object[] tableValues;
+    private int mask;
+    private int size = 0;
+
+    private Object[] invalidationListeners = NO_LISTENERS;
+
+    LongKeyIndex(ObservableList<? extends T> source, ToLongFunction<? super T> keyFn) {
+        this.source = source;
+        this.keyFn = keyFn;
+        int n = source.size();
+        keyOf = new long[Math.max(n, 8)];
+        int capacity = Integer.highestOneBit(Math.max(n, 8) * 2 - 1) << 1;
+        tableKeys = new long[capacity];
+        tableValues = new Object[capacity];
+        mask = capacity - 1;
+        for(T elem: source) {
+            long key = keyFn.applyAsLong(elem);
+            keyOf[count++] = key;
+            add(key, elem);
+        }
+        source.addListener(listener);
+    }
+
+    /**
+     * Returns the element with the given key, or {@code null} if there is
+     * no such element.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long key) {
+        int i = find(key);
+        if(i < 0) {
+            return null;
+        }
+        Object v = tableValues[i];
+        return (T) (v instanceof Several ? ((Several) v).elems.get(0) : v);
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Number of distinct keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void unsubscribe() {
+        source.removeListener(listener);
+    }
+
+    @Override
+    public void addListener(InvalidationListener l) {
+        Object[] ls = Arrays.copyOf(invalidationListeners, invalidationListeners.length + 1);
+        ls[ls.length - 1] = l;
+        invalidationListeners = ls;
+    }
+
+    @Override
+    public void removeListener(InvalidationListener l) {
+        Object[] ls = invalidationListeners;
+        for(int i = 0; i < ls.length; ++i) {
+            if(ls[i].equals(l)) {
+                Object[] res = new Object[ls.length - 1];
+                System.arraycopy(ls, 0, res, 0, i);
+                System.arraycopy(ls, i + 1, res, i, res.length - i);
+                invalidationListeners = res;
+                return;
+            }
+        }
+    }
+
+    private void sourceChanged(Change<? extends T> c) {
+        boolean modified = false;
+        while(c.next()) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            if(c.wasPermutated()) {
+                long[] permuted = Arrays.copyOfRange(keyOf, from, to);
+                for(int i = from; i < to; ++i) {
+                    keyOf[c.getPermutation(i)] = permuted[i - from];
+                }
+            } else if(c.wasUpdated()) {
+                for(int i = from; i < to; ++i) {
+                    T elem = source.get(i);
+                    long newKey = keyFn.applyAsLong(elem);
+                    if(newKey != keyOf[i]) {
+                        remove(keyOf[i], elem);
+                        keyOf[i] = newKey;
+                        add(newKey, elem);
+                        modified = true;
+                    }
+                }
+            } else {
+                List<? extends T> removed = c.getRemoved();
+                for(int k = 0; k < removed.size(); ++k) {
+                    remove(keyOf[from + k], removed.get(k));
+                }
+                List<? extends T> added = c.getAddedSubList();
+                int delta = added.size() - removed.size();
+                if(count + delta > keyOf.length) {
+                    keyOf = Arrays.copyOf(keyOf, Math.max(count + delta, keyOf.length * 3 / 2));
+                }
+                int tail = from + removed.size();
+                System.arraycopy(keyOf, tail, keyOf, tail + delta, count - tail);
+                count += delta;
+                for(int k = 0; k < added.size(); ++k) {
+                    T elem = added.get(k);
+                    long key = keyFn.applyAsLong(elem);
+                    keyOf[from + k] = key;
+                    add(key, elem);
+                }
+                modified |= !removed.isEmpty() || !added.isEmpty();
+            }
+        }
+        if(modified) {
+            for(Object l: invalidationListeners) {
+                ((InvalidationListener) l).invalidated(this);
+            }
+        }
+    }
+
+    private int home(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private int find(long key) {
+        for(int i = home(key); tableValues[i] != null; i = (i + 1) & mask) {
+            if(tableKeys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void add(long key, T elem) {
+        if(elem == null) {
+            throw new NullPointerException("null elements are not permitted");
+        }
+        int i = home(key);
+        for(; tableValues[i] != null; i = (i + 1) & mask) {
+            if(tableKeys[i] == key) {
+                Object v = tableValues[i];
+                if(v instanceof Several) {
+                    ((Several) v).elems.add(elem);
+                } else {
+                    tableValues[i] = new Several(v, elem);
+                }
+                return;
+            }
+        }
+        tableKeys[i] = key;
+        tableValues[i] = elem;
+        if(++size * 2 > tableValues.length) {
+            grow();
+        }
+    }
+
+    private void remove(long key, T elem) {
+        int i = find(key);
+        if(i < 0) {
+            return;
+        }
+        Object v = tableValues[i];
+        if(v instanceof Several) {
+            List<Object> several = ((Several) v).elems;
+            for(int k = 0; k < several.size(); ++k) {
+                if(several.get(k) == elem) {
+                    several.remove(k);
+                    break;
+                }
+            }
+            if(several.size() == 1) {
+                tableValues[i] = several.get(0);
+            }
+        } else if(v == elem) {
+            deleteSlot(i);
+            --size;
+        }
+    }
+
+    /**
+     * Backward-shift deletion, keeps the probe sequences intact
+     * without tombstones.
+     */
+    private void deleteSlot(int i) {
+        int j = i;
+        while(true) {
+            j = (j + 1) & mask;
+            if(tableValues[j] == null) {
+                break;
+            }
+            int k = home(tableKeys[j]);
+            // move the entry at j to i if its home is not in (i, j]
+            boolean between = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+            if(!between) {
+                tableKeys[i] = tableKeys[j];
+                tableValues[i] = tableValues[j];
+                i = j;
+            }
+        }
+        tableValues[i] = null;
+    }
+
+    private void grow() {
+        long[] oldKeys = tableKeys;
+        Object[] oldValues = tableValues;
+        tableKeys = new long[oldKeys.length * 2];
+        tableValues = new Object[oldValues.length * 2];
+        mask = tableValues.length - 1;
+        for(int i = 0; i < oldValues.length; ++i) {
+            if(oldValues[i] != null) {
+                int j = home(oldKeys[i]);
+                while(tableValues[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                tableKeys[j] = oldKeys[i];
+                tableValues[j] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.fxmisc.easybind;
+
+import javafx.util.Duration;
+
+/**
+ * Scheduler with a manually advanced clock. Actions run on the thread
+ * that advances the clock. Useful for deterministic tests and benchmarks
+ * of time-based bindings that do not start the JavaFX toolkit.
+ */
+public final class ManualScheduler extends QueueScheduler {
+    private long now = 0;
+
+    @Override
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Advances the clock by {@code delta}, running all actions that become
+     * due, in order. While an action runs, {@link #now()} returns the
+     * action's due time.
+     */
+    public void advance(Duration delta) {
+        advanceNanos(Scheduler.toNanos(delta));
+    }
+
+    public void advanceNanos(long deltaNanos) {
+        if(deltaNanos < 0) {
+            throw new IllegalArgumentException("Cannot go back in time: " + deltaNanos);
+        }
+        long target = now + deltaNanos;
+        runDue(target);
+        now = target;
+    }
+
+    /**
+     * Runs the actions that are due now without advancing the clock,
+     * such as those scheduled with zero delay.
+     */
+    public void runPending() {
+        runDue(now);
+    }
+
+    @Override
+    protected void beforeRun(long due) {
+        if(due > now) {
+            now = due;
+        }
+    }
+}
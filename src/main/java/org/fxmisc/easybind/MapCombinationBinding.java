@@ -0,0 +1,63 @@
+package org.fxmisc.easybind;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.collections.WeakMapChangeListener;
+
+import org.fxmisc.easybind.monadic.MonadicBinding;
+
+class MapCombinationBinding<K, T, U> extends ObjectBinding<U> implements
+        MonadicBinding<U> {
+
+    private final MapChangeListener<K, ObservableValue<? extends T>> mapListener = ch -> sourceChanged(ch);
+    private final InvalidationListener elemListener = obs -> elementInvalidated();
+
+    private final WeakMapChangeListener<K, ObservableValue<? extends T>> weakMapListener = new WeakMapChangeListener<>(mapListener);
+    private final WeakInvalidationListener weakElemListener = new WeakInvalidationListener(elemListener);
+
+    private final ObservableMap<K, ? extends ObservableValue<? extends T>> source;
+    private final Function<? super Stream<T>, ? extends U> combiner;
+
+    public MapCombinationBinding(
+            ObservableMap<K, ? extends ObservableValue<? extends T>> map,
+            Function<? super Stream<T>, ? extends U> f) {
+        source = map;
+        combiner = f;
+
+        source.addListener(weakMapListener);
+        source.values().forEach(elem -> elem.addListener(weakElemListener));
+    }
+
+    @Override
+    protected U computeValue() {
+        return combiner.apply(source.values().stream().map(obs -> obs.getValue()));
+    }
+
+    @Override
+    public void dispose() {
+        source.values().forEach(elem -> elem.removeListener(weakElemListener));
+        source.removeListener(weakMapListener);
+    }
+
+    private void sourceChanged(
+            MapChangeListener.Change<? extends K, ? extends ObservableValue<? extends T>> ch) {
+        if(ch.wasRemoved()) {
+            ch.getValueRemoved().removeListener(weakElemListener);
+        }
+        if(ch.wasAdded()) {
+            ch.getValueAdded().addListener(weakElemListener);
+        }
+        invalidate();
+    }
+
+    private void elementInvalidated() {
+        invalidate();
+    }
+}
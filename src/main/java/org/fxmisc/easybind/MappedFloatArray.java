@@ -0,0 +1,87 @@
+package org.fxmisc.easybind;
+
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+import javafx.collections.ObservableFloatArray;
+
+import org.fxmisc.easybind.EasyBind.FloatUnaryOperator;
+
+/**
+ * Read-only view of an {@link ObservableFloatArray} with each element
+ * mapped by a function. Like {@link MappedList}, elements are mapped on
+ * access; bulk copies copy the source range and map it in place. Changes
+ * of the source are forwarded with the same range.
+ */
+class MappedFloatArray extends ObservableArrayBase<ObservableFloatArray> implements ObservableFloatArray {
+    private final ObservableFloatArray source;
+    private final FloatUnaryOperator f;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final ArrayChangeListener<ObservableFloatArray> sourceListener =
+            (arr, sizeChanged, from, to) -> fireChange(sizeChanged, from, to);
+
+    public MappedFloatArray(ObservableFloatArray source, FloatUnaryOperator f) {
+        this.source = source;
+        this.f = f;
+        source.addListener(new WeakArrayChangeListener<>(sourceListener));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public float get(int index) {
+        return f.applyAsFloat(source.get(index));
+    }
+
+    @Override
+    public void copyTo(int srcIndex, float[] dest, int destIndex, int length) {
+        source.copyTo(srcIndex, dest, destIndex, length);
+        for(int i = destIndex; i < destIndex + length; ++i) {
+            dest[i] = f.applyAsFloat(dest[i]);
+        }
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableFloatArray dest, int destIndex, int length) {
+        float[] buf = new float[length];
+        copyTo(srcIndex, buf, 0, length);
+        dest.set(destIndex, buf, 0, length);
+    }
+
+    @Override
+    public float[] toArray(float[] dest) {
+        return toArray(0, dest, size());
+    }
+
+    @Override
+    public float[] toArray(int srcIndex, float[] dest, int length) {
+        if(dest == null || dest.length < length) {
+            dest = new float[length];
+        }
+        copyTo(srcIndex, dest, 0, length);
+        return dest;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("mapped array is read-only");
+    }
+
+    @Override public void resize(int size) { throw readOnly(); }
+    @Override public void ensureCapacity(int capacity) { throw readOnly(); }
+    @Override public void trimToSize() { throw readOnly(); }
+    @Override public void clear() { throw readOnly(); }
+    @Override public void addAll(float... elements) { throw readOnly(); }
+    @Override public void addAll(ObservableFloatArray src) { throw readOnly(); }
+    @Override public void addAll(float[] src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void addAll(ObservableFloatArray src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void setAll(float... elements) { throw readOnly(); }
+    @Override public void setAll(float[] src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void setAll(ObservableFloatArray src) { throw readOnly(); }
+    @Override public void setAll(ObservableFloatArray src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void set(int destIndex, float[] src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void set(int destIndex, ObservableFloatArray src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void set(int index, float value) { throw readOnly(); }
+}
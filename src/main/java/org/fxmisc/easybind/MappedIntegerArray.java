@@ -0,0 +1,87 @@
+package org.fxmisc.easybind;
+
+import java.util.function.IntUnaryOperator;
+
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+import javafx.collections.ObservableIntegerArray;
+
+/**
+ * Read-only view of an {@link ObservableIntegerArray} with each element
+ * mapped by a function. Like {@link MappedList}, elements are mapped on
+ * access; bulk copies copy the source range and map it in place. Changes
+ * of the source are forwarded with the same range.
+ */
+class MappedIntegerArray extends ObservableArrayBase<ObservableIntegerArray> implements ObservableIntegerArray {
+    private final ObservableIntegerArray source;
+    private final IntUnaryOperator f;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final ArrayChangeListener<ObservableIntegerArray> sourceListener =
+            (arr, sizeChanged, from, to) -> fireChange(sizeChanged, from, to);
+
+    public MappedIntegerArray(ObservableIntegerArray source, IntUnaryOperator f) {
+        this.source = source;
+        this.f = f;
+        source.addListener(new WeakArrayChangeListener<>(sourceListener));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public int get(int index) {
+        return f.applyAsInt(source.get(index));
+    }
+
+    @Override
+    public void copyTo(int srcIndex, int[] dest, int destIndex, int length) {
+        source.copyTo(srcIndex, dest, destIndex, length);
+        for(int i = destIndex; i < destIndex + length; ++i) {
+            dest[i] = f.applyAsInt(dest[i]);
+        }
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableIntegerArray dest, int destIndex, int length) {
+        int[] buf = new int[length];
+        copyTo(srcIndex, buf, 0, length);
+        dest.set(destIndex, buf, 0, length);
+    }
+
+    @Override
+    public int[] toArray(int[] dest) {
+        return toArray(0, dest, size());
+    }
+
+    @Override
+    public int[] toArray(int srcIndex, int[] dest, int length) {
+        if(dest == null || dest.length < length) {
+            dest = new int[length];
+        }
+        copyTo(srcIndex, dest, 0, length);
+        return dest;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("mapped array is read-only");
+    }
+
+    @Override public void resize(int size) { throw readOnly(); }
+    @Override public void ensureCapacity(int capacity) { throw readOnly(); }
+    @Override public void trimToSize() { throw readOnly(); }
+    @Override public void clear() { throw readOnly(); }
+    @Override public void addAll(int... elements) { throw readOnly(); }
+    @Override public void addAll(ObservableIntegerArray src) { throw readOnly(); }
+    @Override public void addAll(int[] src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void addAll(ObservableIntegerArray src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void setAll(int... elements) { throw readOnly(); }
+    @Override public void setAll(int[] src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void setAll(ObservableIntegerArray src) { throw readOnly(); }
+    @Override public void setAll(ObservableIntegerArray src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void set(int destIndex, int[] src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void set(int destIndex, ObservableIntegerArray src, int srcIndex, int length) { throw readOnly(); }
+    @Override public void set(int index, int value) { throw readOnly(); }
+}
@@ -22,6 +22,12 @@ class MappedList<E, F> extends TransformationList<E, F> {
         return index;
     }
 
+    // declared abstract by TransformationList as of JavaFX 9, so not an
+    // override when compiled against JavaFX 8
+    public int getViewIndex(int index) {
+        return index;
+    }
+
     @Override
     public E get(int index) {
         return mapper.apply(getSource().get(index));
@@ -34,6 +40,7 @@ class MappedList<E, F> extends TransformationList<E, F> {
 
     @Override
     protected void sourceChanged(Change<? extends F> c) {
+        Object event = JfrEvents.beginMappedListChange();
         fireChange(new Change<E>(this) {
 
             @Override
@@ -104,5 +111,6 @@ class MappedList<E, F> extends TransformationList<E, F> {
                 c.reset();
             }
         });
+        JfrEvents.endMappedListChange(event, this, getSource());
     }
 }
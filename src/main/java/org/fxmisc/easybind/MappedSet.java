@@ -0,0 +1,59 @@
+package org.fxmisc.easybind;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+import javafx.collections.WeakSetChangeListener;
+
+/**
+ * Set of the images of the elements of a source set. Since the mapping
+ * need not be injective, each image is counted, and is only removed when
+ * the last element that maps to it is removed. As in {@link MappedList},
+ * removed elements are mapped again to find their image.
+ */
+class MappedSet<E, F> extends ObservableSetBase<E> {
+    private final Function<? super F, ? extends E> mapper;
+    private final ObjectIntMap<E> counts;
+    private final SetChangeListener<F> sourceListener = this::sourceChanged;
+
+    public MappedSet(ObservableSet<? extends F> source, Function<? super F, ? extends E> mapper) {
+        this.mapper = mapper;
+        this.counts = new ObjectIntMap<>(source.size());
+        for(F elem: source) {
+            counts.add(mapper.apply(elem), 1);
+        }
+        source.addListener(new WeakSetChangeListener<>(sourceListener));
+    }
+
+    private void sourceChanged(SetChangeListener.Change<? extends F> c) {
+        if(c.wasRemoved()) {
+            E image = mapper.apply(c.getElementRemoved());
+            if(counts.add(image, -1) == 0) {
+                fireChange(image, false);
+            }
+        }
+        if(c.wasAdded()) {
+            E image = mapper.apply(c.getElementAdded());
+            if(counts.add(image, 1) == 1) {
+                fireChange(image, true);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return counts.containsKey(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return counts.slotIterator(counts::keyAt);
+    }
+
+    @Override
+    public int size() {
+        return counts.size();
+    }
+}
@@ -0,0 +1,82 @@
+package org.fxmisc.easybind;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.collections.WeakMapChangeListener;
+
+/**
+ * View of a map with the values mapped by a function. Like
+ * {@link MappedList}, values are mapped on access and not cached, and the
+ * removed value of a change is mapped again.
+ */
+class MappedValuesMap<K, V, U> extends AbstractObservableMap<K, U> {
+    private final ObservableMap<K, ? extends V> source;
+    private final Function<? super V, ? extends U> mapper;
+    private final MapChangeListener<K, V> sourceListener = this::sourceChanged;
+
+    private final Set<Map.Entry<K, U>> entrySet = new AbstractSet<Map.Entry<K, U>>() {
+        @Override
+        public Iterator<Map.Entry<K, U>> iterator() {
+            Iterator<? extends Map.Entry<K, ? extends V>> it = source.entrySet().iterator();
+            return new Iterator<Map.Entry<K, U>>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, U> next() {
+                    Map.Entry<K, ? extends V> e = it.next();
+                    return new SimpleImmutableEntry<>(e.getKey(), mapper.apply(e.getValue()));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    };
+
+    public MappedValuesMap(
+            ObservableMap<K, ? extends V> source,
+            Function<? super V, ? extends U> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+        source.addListener(new WeakMapChangeListener<>(sourceListener));
+    }
+
+    private void sourceChanged(MapChangeListener.Change<? extends K, ? extends V> c) {
+        fireChange(
+                c.getKey(),
+                c.wasRemoved(), c.wasRemoved() ? mapper.apply(c.getValueRemoved()) : null,
+                c.wasAdded(), c.wasAdded() ? mapper.apply(c.getValueAdded()) : null);
+    }
+
+    @Override
+    public Set<Map.Entry<K, U>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public U get(Object key) {
+        return source.containsKey(key) ? mapper.apply(source.get(key)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return source.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -0,0 +1,143 @@
+package org.fxmisc.easybind;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded least-recently-used cache of function results, used by
+ * {@link EasyBind#mapMemo(javafx.beans.value.ObservableValue, Function, MemoCache)}
+ * and {@link EasyBind#flatMapMemo(javafx.beans.value.ObservableValue, Function, MemoCache)}
+ * to avoid recomputing the mapping of recurring values.
+ *
+ * <p>The cache is bounded either by the number of entries, or by the total
+ * weight of the cached values. When the bound is exceeded, the least
+ * recently used entries are evicted. A single cache instance may be shared
+ * by several bindings that use the same function.
+ *
+ * <p>The cache is not thread-safe.
+ */
+public final class MemoCache<K, V> {
+
+    /**
+     * Creates a cache that holds at most {@code maxSize} entries.
+     */
+    public static <K, V> MemoCache<K, V> ofSize(int maxSize) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        return new MemoCache<>(maxSize, v -> 1);
+    }
+
+    /**
+     * Creates a cache whose values, as measured by {@code weigher}, weigh at
+     * most {@code maxWeight} in total. The most recently computed value is
+     * always retained, even if it alone exceeds {@code maxWeight}.
+     */
+    public static <K, V> MemoCache<K, V> ofWeight(long maxWeight, ToLongFunction<? super V> weigher) {
+        if(maxWeight < 1) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        return new MemoCache<>(maxWeight, weigher);
+    }
+
+    private final LinkedHashMap<K, Weighted<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+
+    private long weight = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    private MemoCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, or computes it using
+     * {@code f}, caches and returns it if there is none.
+     */
+    public V get(K key, Function<? super K, ? extends V> f) {
+        Weighted<V> cached = map.get(key);
+        if(cached != null) {
+            hits += 1;
+            return cached.value;
+        }
+
+        misses += 1;
+        V value = f.apply(key);
+        long w = weigher.applyAsLong(value);
+        map.put(key, new Weighted<>(value, w));
+        weight += w;
+        evict();
+        return value;
+    }
+
+    /**
+     * Removes all entries from the cache. Counters are not reset.
+     */
+    public void clear() {
+        map.clear();
+        weight = 0;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters to zero.
+     */
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoCache[size=" + map.size() + ", weight=" + weight
+                + ", hits=" + hits + ", misses=" + misses
+                + ", evictions=" + evictions + "]";
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<K, Weighted<V>>> it = map.entrySet().iterator();
+        while(weight > maxWeight && map.size() > 1) {
+            Weighted<V> eldest = it.next().getValue();
+            it.remove();
+            weight -= eldest.weight;
+            evictions += 1;
+        }
+    }
+
+    private static final class Weighted<V> {
+        final V value;
+        final long weight;
+
+        Weighted(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -9,7 +9,7 @@ import javafx.beans.value.ObservableValue;
 import org.fxmisc.easybind.monadic.MonadicBinding;
 import org.fxmisc.easybind.monadic.PropertyBinding;
 
-class MonadicWrapper<T> extends PreboundBinding<T> {
+class MonadicWrapper<T> extends InstrumentedBinding<T> {
     private final ObservableValue<T> delegate;
 
     public MonadicWrapper(ObservableValue<T> delegate) {
@@ -18,7 +18,7 @@ class MonadicWrapper<T> extends PreboundBinding<T> {
     }
 
     @Override
-    protected T computeValue() {
+    protected T compute() {
         return delegate.getValue();
     }
 
@@ -53,6 +53,22 @@ class MonadicWrapper<T> extends PreboundBinding<T> {
         return EasyBind.flatMap(delegate, f);
     }
 
+    // More efficient than the default, eliminates this wrapper from the chain.
+    @Override
+    public <U> MonadicBinding<U> mapMemo(
+            Function<? super T, ? extends U> f,
+            MemoCache<T, U> cache) {
+        return EasyBind.mapMemo(delegate, f, cache);
+    }
+
+    // More efficient than the default, eliminates this wrapper from the chain.
+    @Override
+    public <U> MonadicBinding<U> flatMapMemo(
+            Function<? super T, ? extends ObservableValue<U>> f,
+            MemoCache<T, ObservableValue<U>> cache) {
+        return EasyBind.flatMapMemo(delegate, f, cache);
+    }
+
     // More efficient than the default, eliminates this wrapper from the chain.
     @Override
     public <U> PropertyBinding<U> selectProperty(
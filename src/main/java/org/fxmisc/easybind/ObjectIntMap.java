@@ -0,0 +1,174 @@
+package org.fxmisc.easybind;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Hash map from objects to non-zero {@code int} values, without boxing.
+ * Open addressing with linear probing and backward-shift deletion.
+ * A key whose value drops to 0 is removed.
+ */
+final class ObjectIntMap<K> {
+    private static final Object NULL_KEY = new Object();
+
+    private Object[] keys;
+    private int[] values;
+    private int mask;
+    private int size = 0;
+
+    public ObjectIntMap() {
+        this(16);
+    }
+
+    public ObjectIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+        keys = new Object[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public K keyAt(int slot) {
+        Object k = keys[slot];
+        return k == NULL_KEY ? null : (K) k;
+    }
+
+    public int valueAt(int slot) {
+        return values[slot];
+    }
+
+    public boolean containsKey(Object key) {
+        return find(mask(key)) >= 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or 0 if absent.
+     */
+    public int get(Object key) {
+        int i = find(mask(key));
+        return i < 0 ? 0 : values[i];
+    }
+
+    /**
+     * Adds {@code delta} to the value of {@code key}, removing the key if
+     * the result is 0.
+     * @return the new value.
+     */
+    public int add(K key, int delta) {
+        Object k = mask(key);
+        int i = home(k);
+        for(; keys[i] != null; i = (i + 1) & mask) {
+            if(Objects.equals(keys[i], k)) {
+                int v = values[i] + delta;
+                if(v == 0) {
+                    delete(i);
+                } else {
+                    values[i] = v;
+                }
+                return v;
+            }
+        }
+        if(delta != 0) {
+            keys[i] = k;
+            values[i] = delta;
+            if(++size * 2 > keys.length) {
+                grow();
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Iterates over the used slots, mapped by {@code f}. The map must not be
+     * modified during iteration.
+     */
+    public <R> Iterator<R> slotIterator(IntFunction<R> f) {
+        return new Iterator<R>() {
+            private int next = advance(0);
+
+            private int advance(int i) {
+                while(i < keys.length && keys[i] == null) {
+                    ++i;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < keys.length;
+            }
+
+            @Override
+            public R next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                R res = f.apply(next);
+                next = advance(next + 1);
+                return res;
+            }
+        };
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private int home(Object k) {
+        int h = k.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private int find(Object k) {
+        for(int i = home(k); keys[i] != null; i = (i + 1) & mask) {
+            if(Objects.equals(keys[i], k)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void delete(int i) {
+        --size;
+        int j = i;
+        while(true) {
+            j = (j + 1) & mask;
+            if(keys[j] == null) {
+                break;
+            }
+            int k = home(keys[j]);
+            // move the entry at j to i if its home is not in (i, j]
+            boolean between = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+            if(!between) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = null;
+    }
+
+    private void grow() {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new Object[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for(int i = 0; i < oldKeys.length; ++i) {
+            if(oldKeys[i] != null) {
+                int j = home(oldKeys[i]);
+                while(keys[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.fxmisc.easybind;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class for read-only observable maps whose content is maintained by
+ * the subclass. Subclasses modify the content via {@link #putEntry} and
+ * {@link #removeEntry}, which notify the listeners.
+ */
+abstract class ObservableMapBase<K, V> extends AbstractObservableMap<K, V> {
+    private final Map<K, V> map = new HashMap<>();
+    private final Set<Map.Entry<K, V>> entrySet = Collections.unmodifiableMap(map).entrySet();
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Maps {@code key} to {@code value} and notifies listeners.
+     * @return the previous value mapped to {@code key}, if any.
+     */
+    protected final V putEntry(K key, V value) {
+        boolean existed = map.containsKey(key);
+        V old = map.put(key, value);
+        fireChange(key, existed, old, true, value);
+        return old;
+    }
+
+    /**
+     * Removes the mapping for {@code key}, if any, and notifies listeners.
+     * @return the removed value.
+     */
+    protected final V removeEntry(K key) {
+        if(map.containsKey(key)) {
+            V old = map.remove(key);
+            fireChange(key, true, old, false, null);
+            return old;
+        } else {
+            return null;
+        }
+    }
+}
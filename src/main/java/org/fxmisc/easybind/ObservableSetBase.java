@@ -0,0 +1,64 @@
+package org.fxmisc.easybind;
+
+import java.util.AbstractSet;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * Listener management for read-only observable sets whose content is
+ * maintained by the subclass. Subclasses provide the content and call
+ * {@link #fireChange} after each modification.
+ */
+abstract class ObservableSetBase<E> extends AbstractSet<E> implements ObservableSet<E> {
+    private final ListenerHelper<SetChangeListener<? super E>> listeners = new ListenerHelper<>();
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.addInvalidationListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.removeInvalidationListener(listener);
+    }
+
+    @Override
+    public void addListener(SetChangeListener<? super E> listener) {
+        listeners.addChangeListener(listener);
+    }
+
+    @Override
+    public void removeListener(SetChangeListener<? super E> listener) {
+        listeners.removeChangeListener(listener);
+    }
+
+    /**
+     * Notifies listeners that {@code elem} was added to or removed from
+     * this set.
+     */
+    protected final void fireChange(E elem, boolean wasAdded) {
+        listeners.fire(this, () -> new SetChangeListener.Change<E>(this) {
+            @Override
+            public boolean wasAdded() {
+                return wasAdded;
+            }
+
+            @Override
+            public boolean wasRemoved() {
+                return !wasAdded;
+            }
+
+            @Override
+            public E getElementAdded() {
+                return wasAdded ? elem : null;
+            }
+
+            @Override
+            public E getElementRemoved() {
+                return wasAdded ? null : elem;
+            }
+        }, (l, ch) -> l.onChanged(ch));
+    }
+}
@@ -1,7 +1,12 @@
 package org.fxmisc.easybind;
 
+import java.lang.ref.WeakReference;
+
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.binding.ObjectBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 
 import org.fxmisc.easybind.monadic.MonadicBinding;
 
@@ -10,15 +15,78 @@ import org.fxmisc.easybind.monadic.MonadicBinding;
  * and unbinds from them on dispose.
  */
 public abstract class PreboundBinding<T> extends ObjectBinding<T> implements MonadicBinding<T> {
+
+    /**
+     * Weak listener on the dependencies, in place of the one installed by
+     * {@link #bind(Observable...)}, so that invalidations can be reported
+     * to {@link JfrEvents}.
+     */
+    private static final class DependencyObserver extends WeakReference<PreboundBinding<?>> implements InvalidationListener {
+
+        DependencyObserver(PreboundBinding<?> binding) {
+            super(binding);
+        }
+
+        @Override
+        public void invalidated(Observable obs) {
+            PreboundBinding<?> binding = get();
+            if(binding == null) {
+                obs.removeListener(this);
+            } else {
+                Object cascade = JfrEvents.cascadeEnter(binding);
+                try {
+                    binding.invalidate();
+                } finally {
+                    JfrEvents.cascadeExit(cascade);
+                }
+            }
+        }
+    }
+
     private final Observable[] dependencies;
+    private final DependencyObserver observer = new DependencyObserver(this);
 
     public PreboundBinding(Observable... dependencies) {
         this.dependencies = dependencies;
-        bind(dependencies);
+        for(Observable dep: dependencies) {
+            dep.addListener(observer);
+        }
     }
 
     @Override
     public void dispose() {
-        unbind(dependencies);
+        for(Observable dep: dependencies) {
+            dep.removeListener(observer);
+        }
+    }
+
+    @Override
+    public ObservableList<?> getDependencies() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+    }
+
+    // get() is final, so the recomputes of subclasses outside EasyBind can
+    // only be recorded here; see InstrumentedBinding for those of EasyBind
+    @Override
+    public T getValue() {
+        if(isValid()) {
+            return get();
+        }
+        Object event = JfrEvents.beginRecompute();
+        long start = BindingMetrics.isEnabled() ? System.nanoTime() : 0;
+        T value = get();
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordRecompute(this, System.nanoTime() - start);
+        }
+        JfrEvents.endRecompute(event, this);
+        return value;
+    }
+
+    @Override
+    protected void onInvalidating() {
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordInvalidation(this);
+        }
+        JfrEvents.invalidated();
     }
 }
@@ -0,0 +1,21 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Takes over the latest source value at most once per scheduler tick,
+ * which for the JavaFX scheduler is once per pulse.
+ */
+class PulseConflatedBinding<T> extends InvalidationTimedBinding<T> {
+
+    PulseConflatedBinding(ObservableValue<T> src, Scheduler scheduler) {
+        super(src, scheduler);
+    }
+
+    @Override
+    protected void srcInvalidated() {
+        if(!isScheduled()) {
+            schedule(0, this::emit);
+        }
+    }
+}
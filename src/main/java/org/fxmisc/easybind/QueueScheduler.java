@@ -0,0 +1,86 @@
+package org.fxmisc.easybind;
+
+import java.util.PriorityQueue;
+
+/**
+ * Scheduler that keeps pending actions in a single priority queue ordered
+ * by due time. Subclasses supply the clock and decide when to run the due
+ * actions.
+ */
+abstract class QueueScheduler implements Scheduler {
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private long seq = 0;
+
+    @Override
+    public Subscription schedule(long delayNanos, Runnable action) {
+        if(delayNanos < 0) {
+            throw new IllegalArgumentException("Negative delay: " + delayNanos);
+        }
+        Task task = new Task(now() + delayNanos, seq++, action);
+        queue.add(task);
+        if(queue.size() == 1) {
+            becameNonEmpty();
+        }
+        return task;
+    }
+
+    /**
+     * Number of actions scheduled and not yet run or cancelled.
+     */
+    public int pendingCount() {
+        int n = 0;
+        for(Task t: queue) {
+            if(!t.cancelled) {
+                ++n;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Runs all actions due at or before {@code time}, including the ones
+     * scheduled by the actions being run.
+     */
+    protected void runDue(long time) {
+        Task head;
+        while((head = queue.peek()) != null && head.due <= time) {
+            queue.poll();
+            if(!head.cancelled) {
+                beforeRun(head.due);
+                head.action.run();
+            }
+        }
+        if(queue.isEmpty()) {
+            becameEmpty();
+        }
+    }
+
+    protected void beforeRun(long due) {}
+    protected void becameNonEmpty() {}
+    protected void becameEmpty() {}
+
+    private static final class Task implements Comparable<Task>, Subscription {
+        final long due;
+        final long seq;
+        final Runnable action;
+        boolean cancelled = false;
+
+        Task(long due, long seq, Runnable action) {
+            this.due = due;
+            this.seq = seq;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(Task that) {
+            int c = Long.compare(this.due, that.due);
+            return c != 0 ? c : Long.compare(this.seq, that.seq);
+        }
+
+        @Override
+        public void unsubscribe() {
+            cancelled = true;
+        }
+    }
+}
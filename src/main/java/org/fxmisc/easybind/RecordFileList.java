@@ -0,0 +1,153 @@
+package org.fxmisc.easybind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * Read-only observable list of the fixed-width records of a file. The file
+ * is memory-mapped, and a record is only decoded when it is accessed, so
+ * that opening a file of any size is immediate and the heap only holds the
+ * records in use. The most recently decoded records are kept in a small
+ * direct-mapped cache.
+ *
+ * <p>This list is meant as the source of lazy views, such as
+ * {@link EasyBind#map(javafx.collections.ObservableList, java.util.function.Function)}
+ * and {@link EasyBind#window(javafx.collections.ObservableList, javafx.beans.value.ObservableValue, javafx.beans.value.ObservableValue)}.
+ * The file may grow: records appended since the last call to
+ * {@link #refresh()} are reported as added by that call. A trailing
+ * incomplete record is ignored until it is complete. The file must not
+ * shrink or be modified in place.
+ *
+ * @see EasyBind#fromRecordFile(Path, int, Decoder)
+ * @see EasyBind#fromRecordFile(Path, int, ByteOrder, Decoder)
+ */
+public final class RecordFileList<E> extends ObservableListBase<E> implements Closeable {
+
+    /**
+     * Decodes the record that starts at the given offset of the buffer.
+     * Implementations must use absolute reads only (such as
+     * {@link ByteBuffer#getInt(int)}), since the buffer is shared.
+     */
+    @FunctionalInterface
+    public interface Decoder<E> {
+        E decode(ByteBuffer buffer, int offset);
+    }
+
+    private static final int CACHE_SIZE = 256;
+
+    private final FileChannel channel;
+    private final int recordSize;
+    private final ByteOrder order;
+    private final Decoder<? extends E> decoder;
+
+    // the file is mapped in segments of whole records, each below 2GB
+    private final int segmentRecords;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private int size = 0;
+
+    // direct-mapped cache of decoded records, indexed by record index mod CACHE_SIZE
+    private final Object[] cached = new Object[CACHE_SIZE];
+    private final int[] cachedIndex = new int[CACHE_SIZE];
+
+    RecordFileList(Path file, int recordSize, ByteOrder order, Decoder<? extends E> decoder) throws IOException {
+        if(recordSize <= 0) {
+            throw new IllegalArgumentException("recordSize must be positive: " + recordSize);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.recordSize = recordSize;
+        this.order = order;
+        this.decoder = decoder;
+        this.segmentRecords = Integer.MAX_VALUE / recordSize;
+        Arrays.fill(cachedIndex, -1);
+        map(recordCount());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + " not in [0, " + size + ")");
+        }
+        int slot = index & (CACHE_SIZE - 1);
+        if(cachedIndex[slot] == index) {
+            return (E) cached[slot];
+        }
+        ByteBuffer segment = segments.get(index / segmentRecords);
+        E elem = decoder.decode(segment, (index % segmentRecords) * recordSize);
+        cached[slot] = elem;
+        cachedIndex[slot] = index;
+        return elem;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Maps the records appended to the file since the last refresh and
+     * reports them as added.
+     * @throws IllegalStateException if the file has shrunk.
+     */
+    public void refresh() throws IOException {
+        int oldSize = size;
+        int newSize = recordCount();
+        if(newSize < oldSize) {
+            throw new IllegalStateException("file shrank from " + oldSize + " to " + newSize + " records");
+        } else if(newSize > oldSize) {
+            map(newSize);
+            beginChange();
+            nextAdd(oldSize, newSize);
+            endChange();
+        }
+    }
+
+    /**
+     * Closes the file. The records mapped so far remain accessible,
+     * but the list can no longer be refreshed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int recordCount() throws IOException {
+        long count = channel.size() / recordSize;
+        if(count > Integer.MAX_VALUE) {
+            throw new IOException("too many records: " + count);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Maps the records up to {@code newSize}, remapping the last segment
+     * if it was incomplete.
+     */
+    private void map(int newSize) throws IOException {
+        int first = size / segmentRecords;
+        if(first < segments.size()) {
+            // last segment is incomplete, it is mapped again
+            segments.remove(first);
+        }
+        for(int s = first; s * (long) segmentRecords < newSize; ++s) {
+            long start = s * (long) segmentRecords;
+            long count = Math.min(segmentRecords, newSize - start);
+            MappedByteBuffer segment = channel.map(MapMode.READ_ONLY, start * recordSize, count * recordSize);
+            segment.order(order);
+            segments.add(segment);
+        }
+        size = newSize;
+    }
+}
@@ -0,0 +1,30 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+
+/**
+ * Takes over the latest source value on ticks of a fixed-rate clock,
+ * if the source has been invalidated since the previous tick.
+ */
+class SampleBinding<T> extends InvalidationTimedBinding<T> {
+    private final long periodNanos;
+    private final long origin;
+
+    SampleBinding(ObservableValue<T> src, Duration period, Scheduler scheduler) {
+        super(src, scheduler);
+        this.periodNanos = Scheduler.toNanos(period);
+        this.origin = scheduler.now();
+        if(periodNanos <= 0) {
+            throw new IllegalArgumentException("Sampling period must be positive: " + period);
+        }
+    }
+
+    @Override
+    protected void srcInvalidated() {
+        if(!isScheduled()) {
+            long sinceOrigin = scheduler.now() - origin;
+            schedule(periodNanos - sinceOrigin % periodNanos, this::emit);
+        }
+    }
+}
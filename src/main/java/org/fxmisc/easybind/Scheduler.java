@@ -0,0 +1,48 @@
+package org.fxmisc.easybind;
+
+import javafx.util.Duration;
+
+/**
+ * Schedules actions to run after a delay. Used by the time-based operators
+ * of {@link org.fxmisc.easybind.monadic.MonadicObservableValue}, such as
+ * {@code debounce} and {@code throttle}.
+ *
+ * <p>Implementations run the scheduled actions on a single thread, which,
+ * for the default {@link #fx()} scheduler, is the JavaFX application thread.
+ * Actions with the same due time run in the order they were scheduled.
+ */
+public interface Scheduler {
+
+    /**
+     * Current time of this scheduler's clock, in nanoseconds. The origin is
+     * arbitrary, only differences between two values are meaningful.
+     */
+    long now();
+
+    /**
+     * Schedules {@code action} to run {@code delayNanos} nanoseconds from
+     * {@link #now()}. A delay of zero means as soon as possible, which for
+     * the {@link #fx()} scheduler is the next pulse.
+     * @return a subscription that cancels the action, if it has not run yet.
+     */
+    Subscription schedule(long delayNanos, Runnable action);
+
+    default Subscription schedule(Duration delay, Runnable action) {
+        return schedule(toNanos(delay), action);
+    }
+
+    /**
+     * Returns the shared scheduler that runs actions on the JavaFX
+     * application thread. All time-based bindings that use this scheduler
+     * are served by a single animation timer, which only runs while there
+     * are pending actions. Must only be used from the JavaFX application
+     * thread.
+     */
+    static Scheduler fx() {
+        return FxScheduler.INSTANCE;
+    }
+
+    static long toNanos(Duration duration) {
+        return (long) (duration.toMillis() * 1_000_000);
+    }
+}
@@ -0,0 +1,21 @@
+package org.fxmisc.easybind;
+
+import org.fxmisc.easybind.monadic.MonadicObservableValue;
+
+/**
+ * Handle to a binding obtained from {@link SharedBindings}. Multiple handles
+ * may refer to the same underlying binding. The underlying binding is
+ * disposed when the last handle referring to it is unsubscribed.
+ *
+ * <p>Listeners added through a handle are removed from the underlying
+ * binding when that handle is unsubscribed. Listeners added through a
+ * handle that is already unsubscribed are ignored.
+ */
+public interface SharedBinding<T> extends MonadicObservableValue<T>, Subscription {
+
+    /**
+     * Returns {@code true} if {@link #unsubscribe()} has not been called on
+     * this handle yet.
+     */
+    boolean isActive();
+}
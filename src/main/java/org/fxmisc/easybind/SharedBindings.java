@@ -0,0 +1,236 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import org.fxmisc.easybind.monadic.MonadicBinding;
+
+/**
+ * Registry of bindings shared by reference counting. Requesting a binding
+ * for a key that already has a live binding returns a new handle to the
+ * existing binding instead of creating a new one, so that the sources are
+ * observed only once no matter how many times the binding is requested.
+ *
+ * <p>The registry is not thread-safe. Like JavaFX bindings themselves, it
+ * is meant to be used from a single thread.
+ */
+public final class SharedBindings {
+
+    private final Map<Object, Entry<?>> entries = new HashMap<>();
+
+    /**
+     * Shared version of {@link EasyBind#map(ObservableValue, Function)}.
+     * The binding is keyed by the identity of {@code src} and {@code f}.
+     */
+    public <T, U> SharedBinding<U> map(
+            ObservableValue<T> src,
+            Function<? super T, ? extends U> f) {
+        return intern(new IdentityKey("map", src, f), () -> EasyBind.map(src, f));
+    }
+
+    /**
+     * Shared version of {@link EasyBind#flatMap(ObservableValue, Function)}.
+     * The binding is keyed by the identity of {@code src} and {@code f}.
+     */
+    public <T, U> SharedBinding<U> flatMap(
+            ObservableValue<T> src,
+            Function<? super T, ? extends ObservableValue<U>> f) {
+        return intern(new IdentityKey("flatMap", src, f), () -> EasyBind.flatMap(src, f));
+    }
+
+    /**
+     * Shared version of {@link EasyBind#filter(ObservableValue, Predicate)}.
+     * The binding is keyed by the identity of {@code src} and {@code p}.
+     */
+    public <T> SharedBinding<T> filter(
+            ObservableValue<T> src,
+            Predicate<? super T> p) {
+        return intern(new IdentityKey("filter", src, p), () -> EasyBind.filter(src, p));
+    }
+
+    /**
+     * Returns a handle to the live binding registered under {@code key}.
+     * If there is no such binding, one is created using {@code factory}.
+     * Keys are compared using {@link Object#equals(Object)}. Use this method
+     * to share bindings that cannot be keyed by identity, such as selection
+     * chains or mappings by lambdas created anew on each call.
+     *
+     * <pre>
+     * {@code
+     * SharedBinding<String> name = EasyBind.shared().intern(
+     *         Arrays.asList(root, "name"),
+     *         () -> EasyBind.select(root).select(A::bProperty).selectObject(B::nameProperty));
+     * }</pre>
+     */
+    public <T> SharedBinding<T> intern(
+            Object key,
+            Supplier<? extends MonadicBinding<T>> factory) {
+        @SuppressWarnings("unchecked")
+        Entry<T> entry = (Entry<T>) entries.get(key);
+        if(entry == null) {
+            entry = new Entry<>(key, factory.get());
+            entries.put(key, entry);
+        }
+        entry.refCount += 1;
+        return new Handle<>(entry);
+    }
+
+    /**
+     * Returns the number of live shared bindings in this registry.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void release(Entry<?> entry) {
+        entry.refCount -= 1;
+        if(entry.refCount == 0) {
+            entries.remove(entry.key);
+            entry.binding.dispose();
+        }
+    }
+
+    private static final class Entry<T> {
+        final Object key;
+        final MonadicBinding<T> binding;
+        int refCount = 0;
+
+        Entry(Object key, MonadicBinding<T> binding) {
+            this.key = key;
+            this.binding = binding;
+        }
+    }
+
+    private static final class IdentityKey {
+        private final Object[] parts;
+
+        IdentityKey(Object... parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object[] that = ((IdentityKey) other).parts;
+            if(that.length != parts.length) {
+                return false;
+            }
+            for(int i = 0; i < parts.length; ++i) {
+                if(parts[i] != that[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            for(Object part: parts) {
+                h = 31 * h + System.identityHashCode(part);
+            }
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            return "IdentityKey" + Arrays.toString(parts);
+        }
+    }
+
+    private final class Handle<T> implements SharedBinding<T> {
+        private final Entry<T> entry;
+
+        // listeners added through this handle, removed on unsubscribe
+        private List<InvalidationListener> invalidationListeners = null;
+        private List<ChangeListener<? super T>> changeListeners = null;
+        private boolean active = true;
+
+        Handle(Entry<T> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public T get() {
+            return entry.binding.getValue();
+        }
+
+        @Override
+        public T getValue() {
+            return entry.binding.getValue();
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            if(!active) {
+                return;
+            }
+            entry.binding.addListener(listener);
+            if(invalidationListeners == null) {
+                invalidationListeners = new ArrayList<>(1);
+            }
+            invalidationListeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            entry.binding.removeListener(listener);
+            if(invalidationListeners != null) {
+                invalidationListeners.remove(listener);
+            }
+        }
+
+        @Override
+        public void addListener(ChangeListener<? super T> listener) {
+            if(!active) {
+                return;
+            }
+            entry.binding.addListener(listener);
+            if(changeListeners == null) {
+                changeListeners = new ArrayList<>(1);
+            }
+            changeListeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super T> listener) {
+            entry.binding.removeListener(listener);
+            if(changeListeners != null) {
+                changeListeners.remove(listener);
+            }
+        }
+
+        @Override
+        public boolean isActive() {
+            return active;
+        }
+
+        @Override
+        public void unsubscribe() {
+            if(active) {
+                active = false;
+                if(invalidationListeners != null) {
+                    invalidationListeners.forEach(entry.binding::removeListener);
+                    invalidationListeners = null;
+                }
+                if(changeListeners != null) {
+                    changeListeners.forEach(entry.binding::removeListener);
+                    changeListeners = null;
+                }
+                release(entry);
+            }
+        }
+    }
+}
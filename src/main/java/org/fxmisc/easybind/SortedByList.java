@@ -0,0 +1,394 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Sorted view of a list, ordered by a key extracted once per element.
+ * Elements with equal keys are kept in source order, so that the order is
+ * total and each element's view index can be found by binary search.
+ * A few added elements are inserted one by one by binary search; many are
+ * sorted (in parallel, for large batches) and merged in a single pass.
+ * Elements whose key changed on an update are moved by a permutation.
+ */
+class SortedByList<E, K> extends TransformationList<E, E> {
+
+    private static final int MERGE_THRESHOLD = 8;
+
+    private static final class Entry<E, K> {
+        final E elem;
+        K key;
+        int sourceIndex;
+
+        Entry(E elem, K key, int sourceIndex) {
+            this.elem = elem;
+            this.key = key;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+
+    // source index of an entry, while a batch is pending, that was
+    // removed, or added by the batch
+    private static final int REMOVED = -1;
+    private static final int ADDED = -2;
+
+    private final Function<? super E, ? extends K> keyFn;
+    private final Comparator<? super K> keyComparator;
+    private final Comparator<Entry<E, K>> order;
+
+    private List<Entry<E, K>> bySource;
+    private final List<Entry<E, K>> sorted;
+
+    public SortedByList(
+            ObservableList<? extends E> source,
+            Function<? super E, ? extends K> keyFn,
+            Comparator<? super K> keyComparator) {
+        super(source);
+        this.keyFn = keyFn;
+        this.keyComparator = keyComparator;
+        this.order = (a, b) -> {
+            int c = keyComparator.compare(a.key, b.key);
+            return c != 0 ? c : Integer.compare(a.sourceIndex, b.sourceIndex);
+        };
+        this.bySource = new ArrayList<>(source.size());
+        for(int i = 0; i < source.size(); ++i) {
+            E elem = source.get(i);
+            bySource.add(new Entry<>(elem, keyFn.apply(elem), i));
+        }
+        this.sorted = new ArrayList<>(sortedCopy(bySource));
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sorted.get(index).sourceIndex;
+    }
+
+    public int getViewIndex(int index) {
+        return viewIndexOf(bySource.get(index));
+    }
+
+    @Override
+    public E get(int index) {
+        return sorted.get(index).elem;
+    }
+
+    @Override
+    public int size() {
+        return sorted.size();
+    }
+
+    private List<Entry<E, K>> sortedCopy(List<Entry<E, K>> entries) {
+        @SuppressWarnings("unchecked")
+        Entry<E, K>[] arr = (Entry<E, K>[]) entries.toArray(new Entry<?, ?>[entries.size()]);
+        Arrays.parallelSort(arr, order);
+        return Arrays.asList(arr);
+    }
+
+    private int viewIndexOf(Entry<E, K> entry) {
+        return Collections.binarySearch(sorted, entry, order);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        Batch batch = null;
+        while(c.next()) {
+            if(c.wasPermutated()) {
+                if(batch != null) {
+                    batch.apply();
+                    batch = null;
+                }
+                permutated(c);
+            } else {
+                if(batch == null) {
+                    batch = new Batch();
+                }
+                if(c.wasUpdated()) {
+                    batch.updated(c.getFrom(), c.getTo());
+                } else {
+                    batch.removed(c.getFrom(), c.getRemovedSize());
+                    batch.added(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        }
+        if(batch != null) {
+            batch.apply();
+        }
+        endChange();
+    }
+
+    /**
+     * Consecutive sub-changes other than permutations. The new source
+     * order is built as the sub-changes come, and the view is compacted,
+     * renumbered and merged into once for all of them.
+     */
+    private final class Batch {
+        private final List<Entry<E, K>> next = new ArrayList<>(bySource.size());
+        private final List<Entry<E, K>> added = new ArrayList<>();
+        private final List<Entry<E, K>> updated = new ArrayList<>();
+        private int oldPos = 0;
+        private int removedCount = 0;
+
+        /**
+         * Copies unchanged entries, so that {@code next} holds the first
+         * {@code index} elements of the source as of the current sub-change.
+         */
+        private void copyUpTo(int index) {
+            while(next.size() < index) {
+                next.add(bySource.get(oldPos++));
+            }
+        }
+
+        void removed(int from, int count) {
+            if(count == 0) {
+                return;
+            }
+            copyUpTo(from + count);
+            List<Entry<E, K>> removed = next.subList(from, from + count);
+            for(Entry<E, K> entry: removed) {
+                if(entry.sourceIndex != ADDED) {
+                    ++removedCount;
+                }
+                entry.sourceIndex = REMOVED;
+            }
+            removed.clear();
+        }
+
+        void added(int from, List<? extends E> elems) {
+            if(elems.isEmpty()) {
+                return;
+            }
+            copyUpTo(from);
+            List<Entry<E, K>> entries = new ArrayList<>(elems.size());
+            for(E elem: elems) {
+                entries.add(new Entry<>(elem, keyFn.apply(elem), ADDED));
+            }
+            next.addAll(from, entries);
+            added.addAll(entries);
+        }
+
+        void updated(int from, int to) {
+            copyUpTo(to);
+            for(int i = from; i < to; ++i) {
+                Entry<E, K> entry = next.get(i);
+                if(entry.sourceIndex == ADDED) {
+                    // not in the view yet
+                    entry.key = keyFn.apply(entry.elem);
+                } else {
+                    updated.add(entry);
+                }
+            }
+        }
+
+        void apply() {
+            while(oldPos < bySource.size()) {
+                next.add(bySource.get(oldPos++));
+            }
+            if(removedCount > 0) {
+                compact();
+            }
+            // renumbering keeps the relative order of the entries in the view
+            bySource = next;
+            for(int i = 0; i < bySource.size(); ++i) {
+                bySource.get(i).sourceIndex = i;
+            }
+            List<Entry<E, K>> inserted = new ArrayList<>(added.size());
+            for(Entry<E, K> entry: added) {
+                if(entry.sourceIndex != REMOVED) {
+                    inserted.add(entry);
+                }
+            }
+            insert(inserted);
+            for(Entry<E, K> entry: updated) {
+                if(entry.sourceIndex != REMOVED) {
+                    SortedByList.this.updated(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the removed entries from the view in a single pass, reporting
+     * each run of consecutive removed entries as one removal.
+     */
+    private void compact() {
+        int w = 0;
+        List<E> run = null;
+        for(int r = 0; r < sorted.size(); ++r) {
+            Entry<E, K> entry = sorted.get(r);
+            if(entry.sourceIndex == REMOVED) {
+                if(run == null) {
+                    run = new ArrayList<>();
+                }
+                run.add(entry.elem);
+            } else {
+                if(run != null) {
+                    nextRemove(w, run);
+                    run = null;
+                }
+                sorted.set(w++, entry);
+            }
+        }
+        if(run != null) {
+            nextRemove(w, run);
+        }
+        sorted.subList(w, sorted.size()).clear();
+    }
+
+    private void insert(List<Entry<E, K>> added) {
+        if(added.size() < MERGE_THRESHOLD) {
+            for(Entry<E, K> entry: added) {
+                int i = -1 - viewIndexOf(entry);
+                sorted.add(i, entry);
+                nextAdd(i, i + 1);
+            }
+        } else {
+            merge(sortedCopy(added));
+        }
+    }
+
+    /**
+     * Merges sorted new entries into the view, reporting each run of
+     * consecutive new entries as one addition.
+     */
+    private void merge(List<Entry<E, K>> added) {
+        List<Entry<E, K>> merged = new ArrayList<>(sorted.size() + added.size());
+        int i = 0;
+        int j = 0;
+        int runStart = -1;
+        while(i < sorted.size() || j < added.size()) {
+            boolean takeNew = j < added.size()
+                    && (i == sorted.size() || order.compare(added.get(j), sorted.get(i)) < 0);
+            if(takeNew) {
+                if(runStart < 0) {
+                    runStart = merged.size();
+                }
+                merged.add(added.get(j++));
+            } else {
+                if(runStart >= 0) {
+                    nextAdd(runStart, merged.size());
+                    runStart = -1;
+                }
+                merged.add(sorted.get(i++));
+            }
+        }
+        if(runStart >= 0) {
+            nextAdd(runStart, merged.size());
+        }
+        sorted.clear();
+        sorted.addAll(merged);
+    }
+
+    /**
+     * A source permutation only changes the relative order of elements
+     * with equal keys, so only the runs of equal keys that contain a
+     * permuted element are re-sorted.
+     */
+    private void permutated(Change<? extends E> c) {
+        int from = c.getFrom();
+        int to = c.getTo();
+        int[] viewIndices = new int[to - from];
+        for(int i = from; i < to; ++i) {
+            viewIndices[i - from] = viewIndexOf(bySource.get(i));
+        }
+        List<Entry<E, K>> old = new ArrayList<>(bySource.subList(from, to));
+        for(int i = from; i < to; ++i) {
+            Entry<E, K> entry = old.get(i - from);
+            int j = c.getPermutation(i);
+            entry.sourceIndex = j;
+            bySource.set(j, entry);
+        }
+
+        Arrays.sort(viewIndices);
+        List<int[]> runs = new ArrayList<>();
+        int covered = 0;
+        for(int v: viewIndices) {
+            if(v < covered) {
+                continue;
+            }
+            K key = sorted.get(v).key;
+            int runStart = v;
+            while(runStart > 0 && keyComparator.compare(key, sorted.get(runStart - 1).key) == 0) {
+                --runStart;
+            }
+            int runEnd = v + 1;
+            while(runEnd < sorted.size() && keyComparator.compare(key, sorted.get(runEnd).key) == 0) {
+                ++runEnd;
+            }
+            covered = runEnd;
+            if(runEnd - runStart > 1) {
+                runs.add(new int[] { runStart, runEnd });
+            }
+        }
+        if(runs.isEmpty()) {
+            return;
+        }
+
+        // ListChangeBuilder does not combine separate permutations within
+        // one change, so a single permutation spans all re-sorted runs
+        int permFrom = runs.get(0)[0];
+        int permTo = runs.get(runs.size() - 1)[1];
+        int[] perm = new int[permTo - permFrom];
+        for(int k = 0; k < perm.length; ++k) {
+            perm[k] = permFrom + k;
+        }
+        boolean moved = false;
+        for(int[] run: runs) {
+            moved |= resortRun(run[0], run[1], perm, permFrom);
+        }
+        if(moved) {
+            nextPermutation(permFrom, permTo, perm);
+        }
+    }
+
+    /**
+     * Re-sorts a run of equal keys and records the new positions of its
+     * elements in {@code perm}, which starts at view index
+     * {@code permFrom}.
+     * @return whether any element of the run moved.
+     */
+    private boolean resortRun(int runStart, int runEnd, int[] perm, int permFrom) {
+        List<Entry<E, K>> run = sorted.subList(runStart, runEnd);
+        List<Entry<E, K>> before = new ArrayList<>(run);
+        run.sort(order);
+        boolean moved = false;
+        for(int k = 0; k < before.size(); ++k) {
+            Entry<E, K> entry = before.get(k);
+            if(run.get(k) != entry) {
+                perm[runStart + k - permFrom] = runStart + Collections.binarySearch(run, entry, order);
+                moved = true;
+            }
+        }
+        return moved;
+    }
+
+    private void updated(Entry<E, K> entry) {
+        K newKey = keyFn.apply(entry.elem);
+        int i = viewIndexOf(entry);
+        sorted.remove(i);
+        entry.key = newKey;
+        int j = -1 - viewIndexOf(entry);
+        sorted.add(j, entry);
+        if(i != j) {
+            // move from i to j, shifting the elements in between by one
+            int lo = Math.min(i, j);
+            int hi = Math.max(i, j);
+            int[] perm = new int[hi - lo + 1];
+            int step = i < j ? -1 : 1;
+            for(int p = lo; p <= hi; ++p) {
+                perm[p - lo] = p + step;
+            }
+            perm[i - lo] = j;
+            nextPermutation(lo, hi + 1, perm);
+        }
+        nextUpdate(j);
+    }
+}
@@ -0,0 +1,38 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+
+/**
+ * Takes over the source value immediately, then at most once per period,
+ * taking over the latest value at the end of a period in which the source
+ * was invalidated.
+ */
+class ThrottleBinding<T> extends InvalidationTimedBinding<T> {
+    private final long periodNanos;
+
+    private boolean dirty = false;
+
+    ThrottleBinding(ObservableValue<T> src, Duration period, Scheduler scheduler) {
+        super(src, scheduler);
+        this.periodNanos = Scheduler.toNanos(period);
+    }
+
+    @Override
+    protected void srcInvalidated() {
+        if(isScheduled()) {
+            dirty = true;
+        } else {
+            emit();
+            schedule(periodNanos, this::periodEnded);
+        }
+    }
+
+    private void periodEnded() {
+        if(dirty) {
+            dirty = false;
+            emit();
+            schedule(periodNanos, this::periodEnded);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.fxmisc.easybind;
+
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+
+import org.fxmisc.easybind.monadic.MonadicBinding;
+
+/**
+ * Base class for bindings that take over the value of their source
+ * observable value with a delay determined by a {@link Scheduler}.
+ */
+abstract class TimedBinding<T> extends ObjectBinding<T> implements MonadicBinding<T> {
+    protected final ObservableValue<T> src;
+    protected final Scheduler scheduler;
+
+    private T latest;
+    private Subscription pending = null;
+
+    TimedBinding(ObservableValue<T> src, Scheduler scheduler) {
+        this.src = src;
+        this.scheduler = scheduler;
+        this.latest = src.getValue();
+    }
+
+    @Override
+    protected final T computeValue() {
+        return latest;
+    }
+
+    @Override
+    public void dispose() {
+        cancel();
+    }
+
+    /**
+     * Takes over the current value of the source.
+     */
+    protected final void emit() {
+        latest = src.getValue();
+        invalidate();
+    }
+
+    protected final void schedule(long delayNanos, Runnable action) {
+        pending = scheduler.schedule(delayNanos, () -> {
+            pending = null;
+            action.run();
+        });
+    }
+
+    protected final boolean isScheduled() {
+        return pending != null;
+    }
+
+    protected final void cancel() {
+        if(pending != null) {
+            pending.unsubscribe();
+            pending = null;
+        }
+    }
+}
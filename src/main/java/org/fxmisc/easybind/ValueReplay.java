@@ -0,0 +1,80 @@
+package org.fxmisc.easybind;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+import javafx.beans.value.ObservableValueBase;
+
+import org.fxmisc.easybind.ChangeLog.ElementReader;
+
+/**
+ * Observable value that replays a change log recorded by
+ * {@link EasyBind#record(javafx.beans.value.ObservableValue, java.nio.channels.WritableByteChannel, ChangeLog.ElementWriter)}.
+ * It initially holds the recorded initial value. See {@link ListReplay}
+ * for the replay methods.
+ *
+ * @see EasyBind#replayValue(ReadableByteChannel, ChangeLog.ElementReader)
+ */
+public final class ValueReplay<T> extends ObservableValueBase<T> implements Closeable {
+    private final ChangeLogReader reader;
+    private final ElementReader<? extends T> elementReader;
+    private T value;
+
+    ValueReplay(ReadableByteChannel channel, ElementReader<? extends T> elementReader) throws IOException {
+        this.reader = new ChangeLogReader(channel, ChangeLog.KIND_VALUE);
+        this.elementReader = elementReader;
+        DataInputStream snapshot = reader.next();
+        if(snapshot == null) {
+            throw new IOException("change log has no snapshot");
+        }
+        value = ChangeLog.readElement(snapshot, elementReader);
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Replays the next recorded value.
+     * @return {@code false} if the end of the log was reached.
+     */
+    public boolean step() throws IOException {
+        DataInputStream frame = reader.next();
+        if(frame == null) {
+            return false;
+        }
+        apply(frame);
+        return true;
+    }
+
+    /**
+     * Replays all remaining values, without delay.
+     */
+    public void replay() throws IOException {
+        while(step()) {}
+    }
+
+    /**
+     * Replays all remaining values at the speed they were recorded.
+     */
+    public void replayTimed() throws IOException {
+        DataInputStream frame;
+        while((frame = reader.next()) != null) {
+            reader.awaitOffset();
+            apply(frame);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void apply(DataInputStream in) throws IOException {
+        value = ChangeLog.readElement(in, elementReader);
+        fireValueChangedEvent();
+    }
+}
@@ -0,0 +1,35 @@
+package org.fxmisc.easybind;
+
+import java.lang.ref.WeakReference;
+
+import javafx.beans.WeakListener;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArray;
+
+/**
+ * Array counterpart of {@link javafx.collections.WeakListChangeListener},
+ * which JavaFX does not provide. Removes itself from the observed array
+ * on the first change after the wrapped listener was garbage collected.
+ */
+final class WeakArrayChangeListener<T extends ObservableArray<T>> implements ArrayChangeListener<T>, WeakListener {
+    private final WeakReference<ArrayChangeListener<T>> ref;
+
+    public WeakArrayChangeListener(ArrayChangeListener<T> listener) {
+        this.ref = new WeakReference<>(listener);
+    }
+
+    @Override
+    public boolean wasGarbageCollected() {
+        return ref.get() == null;
+    }
+
+    @Override
+    public void onChanged(T array, boolean sizeChanged, int from, int to) {
+        ArrayChangeListener<T> listener = ref.get();
+        if(listener != null) {
+            listener.onChanged(array, sizeChanged, from, to);
+        } else {
+            array.removeListener(this);
+        }
+    }
+}
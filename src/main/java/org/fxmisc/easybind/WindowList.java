@@ -0,0 +1,229 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * View of the range {@code [from, from + size)} of a list, clipped to the
+ * bounds of the list. Only the elements in the window are tracked: on a
+ * source change, the source positions of the shown elements are followed
+ * through the sub-changes, so that elements that stay in the window are not
+ * reported, and elements entering or leaving the window (because the window
+ * moved, or because of changes before it) are reported where they enter or
+ * leave. The cost of a change is proportional to the window size, not to
+ * the size of the list.
+ */
+class WindowList<E> extends TransformationList<E, E> {
+    private final ObservableValue<? extends Number> from;
+    private final ObservableValue<? extends Number> length;
+
+    // need to retain strong reference to listener, so that it doesn't get garbage collected
+    private final InvalidationListener rangeListener = obs -> rangeInvalidated();
+    private final InvalidationListener weakRangeListener = new WeakInvalidationListener(rangeListener);
+
+    // copy of the elements in the window, needed to report removals
+    private final List<E> shown = new ArrayList<>();
+    private int start;
+
+    public WindowList(
+            ObservableList<? extends E> source,
+            ObservableValue<? extends Number> from,
+            ObservableValue<? extends Number> length) {
+        super(source);
+        this.from = from;
+        this.length = length;
+        start = windowStart();
+        shown.addAll(source.subList(start, windowEnd(start)));
+        from.addListener(weakRangeListener);
+        length.addListener(weakRangeListener);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index + " not in [0, " + size() + ")");
+        }
+        return start + index;
+    }
+
+    public int getViewIndex(int index) {
+        return index >= start && index - start < size() ? index - start : -1;
+    }
+
+    @Override
+    public E get(int index) {
+        return shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown.size();
+    }
+
+    private int windowStart() {
+        Number f = from.getValue();
+        int s = f == null ? 0 : f.intValue();
+        return Math.max(0, Math.min(s, getSource().size()));
+    }
+
+    private int windowEnd(int start) {
+        Number l = length.getValue();
+        long len = l == null ? 0 : Math.max(0, l.intValue());
+        return (int) Math.min(start + len, getSource().size());
+    }
+
+    private int[] shownPositions() {
+        int[] positions = new int[shown.size()];
+        for(int i = 0; i < positions.length; ++i) {
+            positions[i] = start + i;
+        }
+        return positions;
+    }
+
+    private void rangeInvalidated() {
+        beginChange();
+        moveTo(shownPositions(), new int[0], 0);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        // source positions of the shown and of the updated elements,
+        // followed through the sub-changes
+        int[] positions = shownPositions();
+        int[] updated = new int[4];
+        int updatedCount = 0;
+
+        while(c.next()) {
+            int cFrom = c.getFrom();
+            int cTo = c.getTo();
+            if(c.wasPermutated()) {
+                permute(positions, positions.length, c);
+                permute(updated, updatedCount, c);
+            } else if(c.wasUpdated()) {
+                for(int p = cFrom; p < cTo; ++p) {
+                    if(updatedCount == updated.length) {
+                        updated = Arrays.copyOf(updated, updatedCount * 2);
+                    }
+                    updated[updatedCount++] = p;
+                }
+            } else {
+                int removedEnd = cFrom + c.getRemovedSize();
+                int delta = c.getAddedSize() - c.getRemovedSize();
+                shift(positions, positions.length, cFrom, removedEnd, delta);
+                shift(updated, updatedCount, cFrom, removedEnd, delta);
+            }
+        }
+
+        beginChange();
+        moveTo(positions, updated, updatedCount);
+        endChange();
+    }
+
+    private static void permute(int[] positions, int n, Change<?> c) {
+        for(int i = 0; i < n; ++i) {
+            int p = positions[i];
+            if(p >= c.getFrom() && p < c.getTo()) {
+                positions[i] = c.getPermutation(p);
+            }
+        }
+    }
+
+    private static void shift(int[] positions, int n, int from, int removedEnd, int delta) {
+        for(int i = 0; i < n; ++i) {
+            int p = positions[i];
+            if(p >= removedEnd) {
+                positions[i] = p + delta;
+            } else if(p >= from) {
+                positions[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * Moves the window to its current range, given the current source
+     * positions of the previously shown elements ({@code -1} for removed
+     * ones) and of the updated elements.
+     */
+    private void moveTo(int[] positions, int[] updated, int updatedCount) {
+        int newStart = windowStart();
+        int newEnd = windowEnd(newStart);
+
+        // kept elements are normally still in the same order
+        boolean inOrder = true;
+        int last = -1;
+        for(int p: positions) {
+            if(p >= newStart && p < newEnd) {
+                if(p < last) {
+                    inOrder = false;
+                    break;
+                }
+                last = p;
+            }
+        }
+
+        List<E> old = new ArrayList<>(shown);
+        shown.clear();
+        shown.addAll(getSource().subList(newStart, newEnd));
+        start = newStart;
+
+        if(inOrder) {
+            // walk the old window, adding what entered before each kept element
+            int j = 0;
+            for(int i = 0; i < positions.length; ++i) {
+                int p = positions[i];
+                if(p >= newStart && p < newEnd) {
+                    int target = p - newStart;
+                    if(target > j) {
+                        nextAdd(j, target);
+                        j = target;
+                    }
+                    ++j;
+                } else {
+                    nextRemove(j, old.get(i));
+                }
+            }
+            if(shown.size() > j) {
+                nextAdd(j, shown.size());
+            }
+        } else {
+            reordered(positions, old);
+        }
+
+        for(int k = 0; k < updatedCount; ++k) {
+            int p = updated[k];
+            if(p >= newStart && p < newEnd) {
+                nextUpdate(p - newStart);
+            }
+        }
+    }
+
+    /**
+     * Elements were reordered within the window. Reports a permutation
+     * if the window still holds the same elements, a replacement otherwise.
+     */
+    private void reordered(int[] positions, List<E> old) {
+        int n = positions.length;
+        boolean sameElements = n == shown.size();
+        for(int i = 0; sameElements && i < n; ++i) {
+            sameElements = positions[i] >= start && positions[i] < start + n;
+        }
+        if(sameElements) {
+            int[] perm = new int[n];
+            for(int i = 0; i < n; ++i) {
+                perm[i] = positions[i] - start;
+            }
+            nextPermutation(0, n, perm);
+        } else {
+            nextReplace(0, shown.size(), old);
+        }
+    }
+}
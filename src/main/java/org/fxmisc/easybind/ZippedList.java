@@ -0,0 +1,99 @@
+package org.fxmisc.easybind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+/**
+ * Index-wise combination of two lists, as long as the shorter one.
+ * Both lists are mirrored, so that the pairs before each change can be
+ * reported as removed. A change that replaces elements one for one only
+ * affects the pairs at those indices; a change that inserts or removes
+ * elements misaligns, and therefore replaces, all pairs after it.
+ * Like {@link MappedList}, pairs are combined on access.
+ */
+class ZippedList<A, B, R> extends ObservableListBase<R> {
+    private final BiFunction<? super A, ? super B, ? extends R> f;
+    private final List<A> as;
+    private final List<B> bs;
+
+    // need to retain strong references to listeners, so that they don't get garbage collected
+    private final ListChangeListener<A> aListener = this::aChanged;
+    private final ListChangeListener<B> bListener = this::bChanged;
+
+    public ZippedList(
+            ObservableList<? extends A> as,
+            ObservableList<? extends B> bs,
+            BiFunction<? super A, ? super B, ? extends R> f) {
+        this.f = f;
+        this.as = new ArrayList<>(as);
+        this.bs = new ArrayList<>(bs);
+        as.addListener(new WeakListChangeListener<>(aListener));
+        bs.addListener(new WeakListChangeListener<>(bListener));
+    }
+
+    @Override
+    public R get(int index) {
+        return f.apply(as.get(index), bs.get(index));
+    }
+
+    @Override
+    public int size() {
+        return Math.min(as.size(), bs.size());
+    }
+
+    private List<R> pairs(int from, int to) {
+        List<R> res = new ArrayList<>(Math.max(0, to - from));
+        for(int i = from; i < to; ++i) {
+            res.add(get(i));
+        }
+        return res;
+    }
+
+    private void aChanged(Change<? extends A> c) {
+        sourceChanged(c, as);
+    }
+
+    private void bChanged(Change<? extends B> c) {
+        sourceChanged(c, bs);
+    }
+
+    private <X> void sourceChanged(Change<? extends X> c, List<X> mirror) {
+        beginChange();
+        while(c.next()) {
+            int from = c.getFrom();
+            int to = c.getTo();
+            int oldSize = size();
+            if(c.wasPermutated()) {
+                int end = Math.min(to, oldSize);
+                List<R> old = pairs(from, end);
+                mirror.subList(from, to).clear();
+                mirror.addAll(from, c.getList().subList(from, to));
+                if(from < end) {
+                    nextReplace(from, end, old);
+                }
+            } else if(c.wasUpdated()) {
+                for(int i = from; i < Math.min(to, oldSize); ++i) {
+                    nextUpdate(i);
+                }
+            } else {
+                boolean aligned = c.getAddedSize() == c.getRemovedSize();
+                int end = aligned ? Math.min(from + c.getRemovedSize(), oldSize) : oldSize;
+                List<R> old = pairs(from, end);
+                mirror.subList(from, from + c.getRemovedSize()).clear();
+                mirror.addAll(from, c.getAddedSubList());
+                int newEnd = aligned ? Math.min(from + c.getAddedSize(), size()) : size();
+                if(!old.isEmpty() || newEnd > from) {
+                    nextReplace(from, Math.max(from, newEnd), old);
+                }
+            }
+        }
+        endChange();
+    }
+}
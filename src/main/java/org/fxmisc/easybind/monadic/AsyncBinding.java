@@ -0,0 +1,21 @@
+package org.fxmisc.easybind.monadic;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+
+/**
+ * Binding whose value is computed asynchronously. The value of the binding
+ * is the result of the latest completed computation, and is retained while
+ * a newer computation is in progress.
+ */
+public interface AsyncBinding<T> extends MonadicBinding<T> {
+
+    /**
+     * {@code true} while a computation whose result has not yet been
+     * delivered is in progress.
+     */
+    ReadOnlyBooleanProperty pendingProperty();
+
+    default boolean isPending() {
+        return pendingProperty().get();
+    }
+}
@@ -2,17 +2,22 @@ package org.fxmisc.easybind.monadic;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.Property;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableObjectValue;
 import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
 
 import org.fxmisc.easybind.EasyBind;
+import org.fxmisc.easybind.MemoCache;
+import org.fxmisc.easybind.Scheduler;
 import org.fxmisc.easybind.Subscription;
 import org.fxmisc.easybind.select.SelectBuilder;
 
@@ -123,6 +128,33 @@ public interface MonadicObservableValue<T> extends ObservableObjectValue<T> {
         return EasyBind.map(this, f);
     }
 
+    /**
+     * Returns a new ObservableValue that holds a mapping of the value held
+     * by this ObservableValue, computed asynchronously on {@code executor}.
+     * When this ObservableValue changes while a computation is in progress,
+     * that computation is cancelled and only the latest result is delivered
+     * on the JavaFX application thread. Use
+     * {@link AsyncBinding#pendingProperty()} to indicate progress.
+     * @param f function to map the value held by this ObservableValue.
+     * @param executor executor to run {@code f} on.
+     */
+    default <U> AsyncBinding<U> mapAsync(
+            Function<? super T, ? extends U> f,
+            Executor executor) {
+        return mapAsync(f, executor, Platform::runLater);
+    }
+
+    /**
+     * Like {@link #mapAsync(Function, Executor)}, except that results are
+     * delivered using {@code deliveryExecutor}.
+     */
+    default <U> AsyncBinding<U> mapAsync(
+            Function<? super T, ? extends U> f,
+            Executor executor,
+            Executor deliveryExecutor) {
+        return EasyBind.mapAsync(this, f, executor, deliveryExecutor);
+    }
+
     /**
      * Returns a new ObservableValue that, when this ObservableValue holds
      * value {@code x}, holds the value held by {@code f(x)}, and is empty
@@ -133,6 +165,28 @@ public interface MonadicObservableValue<T> extends ObservableObjectValue<T> {
         return EasyBind.flatMap(this, f);
     }
 
+    /**
+     * Like {@link #map(Function)}, except that results of {@code f} are
+     * memoized in {@code cache}, keyed by the value of this ObservableValue.
+     */
+    default <U> MonadicBinding<U> mapMemo(
+            Function<? super T, ? extends U> f,
+            MemoCache<T, U> cache) {
+        return EasyBind.mapMemo(this, f, cache);
+    }
+
+    /**
+     * Like {@link #flatMap(Function)}, except that the ObservableValues
+     * returned by {@code f} are memoized in {@code cache}, keyed by the value
+     * of this ObservableValue. Only the currently selected ObservableValue is
+     * observed.
+     */
+    default <U> MonadicBinding<U> flatMapMemo(
+            Function<? super T, ? extends ObservableValue<U>> f,
+            MemoCache<T, ObservableValue<U>> cache) {
+        return EasyBind.flatMapMemo(this, f, cache);
+    }
+
     /**
      * Similar to {@link #flatMap(Function)}, except the returned Binding is
      * also a Property. This means you can call {@code setValue()} and
@@ -164,6 +218,73 @@ public interface MonadicObservableValue<T> extends ObservableObjectValue<T> {
         return SelectBuilder.startAt(this).select(selector);
     }
 
+    /**
+     * Returns a new ObservableValue that takes over the value of this
+     * ObservableValue only after it has not changed for {@code quietPeriod}.
+     * Useful to avoid recomputing expensive results, such as search results,
+     * on every keystroke.
+     */
+    default MonadicBinding<T> debounce(Duration quietPeriod) {
+        return debounce(quietPeriod, Scheduler.fx());
+    }
+
+    /**
+     * Like {@link #debounce(Duration)}, except that time is measured and the
+     * value is delivered by the given scheduler.
+     */
+    default MonadicBinding<T> debounce(Duration quietPeriod, Scheduler scheduler) {
+        return EasyBind.debounce(this, quietPeriod, scheduler);
+    }
+
+    /**
+     * Returns a new ObservableValue that takes over the value of this
+     * ObservableValue immediately when it changes, but then at most once
+     * per {@code period}.
+     */
+    default MonadicBinding<T> throttle(Duration period) {
+        return throttle(period, Scheduler.fx());
+    }
+
+    /**
+     * Like {@link #throttle(Duration)}, except that time is measured and the
+     * value is delivered by the given scheduler.
+     */
+    default MonadicBinding<T> throttle(Duration period, Scheduler scheduler) {
+        return EasyBind.throttle(this, period, scheduler);
+    }
+
+    /**
+     * Returns a new ObservableValue that takes over the latest value of this
+     * ObservableValue at fixed intervals of length {@code period}.
+     */
+    default MonadicBinding<T> sample(Duration period) {
+        return sample(period, Scheduler.fx());
+    }
+
+    /**
+     * Like {@link #sample(Duration)}, except that time is measured and the
+     * value is delivered by the given scheduler.
+     */
+    default MonadicBinding<T> sample(Duration period, Scheduler scheduler) {
+        return EasyBind.sample(this, period, scheduler);
+    }
+
+    /**
+     * Returns a new ObservableValue that takes over the latest value of this
+     * ObservableValue at most once per pulse.
+     */
+    default MonadicBinding<T> conflateOnPulse() {
+        return conflateOnPulse(Scheduler.fx());
+    }
+
+    /**
+     * Like {@link #conflateOnPulse()}, except that the value is delivered
+     * on the next tick of the given scheduler.
+     */
+    default MonadicBinding<T> conflateOnPulse(Scheduler scheduler) {
+        return EasyBind.conflateOnPulse(this, scheduler);
+    }
+
     /**
      * Adds an invalidation listener and returns a Subscription that can be
      * used to remove that listener.
@@ -0,0 +1,107 @@
+package org.fxmisc.easybind.reactive;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+
+/**
+ * Subscription to an observable that lives on a single thread (usually the
+ * JavaFX application thread). Demand may be signalled from any thread; all
+ * interaction with the observable and all signals to the subscriber happen
+ * on the observable's thread, via {@code observableExecutor}. Items that
+ * cannot be delivered for lack of demand are kept (and conflated) by the
+ * subclass until demand arrives.
+ */
+abstract class DrainingSubscription<T> implements org.reactivestreams.Subscription {
+    protected final Subscriber<? super T> subscriber;
+    private final Executor observableExecutor;
+    private final AtomicLong demand = new AtomicLong(0);
+
+    private volatile boolean cancelled = false;
+
+    // confined to the observable's thread
+    private boolean attached = false;
+    private boolean draining = false;
+    private boolean drainAgain = false;
+
+    DrainingSubscription(Subscriber<? super T> subscriber, Executor observableExecutor) {
+        this.subscriber = subscriber;
+        this.observableExecutor = observableExecutor;
+    }
+
+    /**
+     * Signals {@code onSubscribe} to the subscriber and starts observing.
+     */
+    final void start() {
+        subscriber.onSubscribe(this);
+        observableExecutor.execute(() -> {
+            if(!cancelled) {
+                attached = true;
+                attach();
+                drain();
+            }
+        });
+    }
+
+    @Override
+    public final void request(long n) {
+        if(n <= 0) {
+            observableExecutor.execute(() -> {
+                if(!cancelled) {
+                    cancelled = true;
+                    stop();
+                    subscriber.onError(new IllegalArgumentException(
+                            "Non-positive request: " + n));
+                }
+            });
+            return;
+        }
+        demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+        observableExecutor.execute(this::drain);
+    }
+
+    @Override
+    public final void cancel() {
+        if(!cancelled) {
+            cancelled = true;
+            observableExecutor.execute(this::stop);
+        }
+    }
+
+    /**
+     * Delivers pending items while there is demand. Must be called on the
+     * observable's thread, typically after new items become pending.
+     */
+    protected final void drain() {
+        if(draining) {
+            // called from onNext, the outer loop will pick up new items
+            drainAgain = true;
+            return;
+        }
+        draining = true;
+        try {
+            do {
+                drainAgain = false;
+                while(!cancelled && demand.get() > 0 && hasPending()) {
+                    demand.getAndUpdate(d -> d == Long.MAX_VALUE ? d : d - 1);
+                    subscriber.onNext(takePending());
+                }
+            } while(drainAgain);
+        } finally {
+            draining = false;
+        }
+    }
+
+    private void stop() {
+        if(attached) {
+            attached = false;
+            detach();
+        }
+    }
+
+    protected abstract void attach();
+    protected abstract void detach();
+    protected abstract boolean hasPending();
+    protected abstract T takePending();
+}
@@ -0,0 +1,88 @@
+package org.fxmisc.easybind.reactive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+
+/**
+ * Compact, immutable description of a change to a list: in the range
+ * starting at {@link #getFrom()}, {@link #getRemovedSize()} elements were
+ * replaced by the {@link #getAdded()} elements. Permutations and updates
+ * are described as replacements of the affected range.
+ *
+ * <p>A reset record ({@link #isReset()}) replaces the whole content of
+ * the list. It is emitted on subscription and in place of several
+ * records that were conflated for lack of demand.
+ */
+public final class ListChangeRecord<E> {
+
+    static <E> ListChangeRecord<E> reset(int removedSize, List<? extends E> content) {
+        return new ListChangeRecord<>(0, removedSize, new ArrayList<>(content), true);
+    }
+
+    /**
+     * Converts the current step of {@code change} to a record.
+     * {@link Change#next()} must have been called on {@code change}.
+     */
+    static <E> ListChangeRecord<E> of(Change<? extends E> change) {
+        int from = change.getFrom();
+        if(change.wasPermutated() || change.wasUpdated()) {
+            int to = change.getTo();
+            List<? extends E> range = change.getList().subList(from, to);
+            return new ListChangeRecord<>(from, to - from, new ArrayList<>(range), false);
+        } else {
+            return new ListChangeRecord<>(from, change.getRemovedSize(),
+                    new ArrayList<>(change.getAddedSubList()), false);
+        }
+    }
+
+    private final int from;
+    private final int removedSize;
+    private final List<E> added;
+    private final boolean reset;
+
+    private ListChangeRecord(int from, int removedSize, List<E> added, boolean reset) {
+        this.from = from;
+        this.removedSize = removedSize;
+        this.added = Collections.unmodifiableList(added);
+        this.reset = reset;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedSize() {
+        return removedSize;
+    }
+
+    public List<E> getAdded() {
+        return added;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    /**
+     * Applies this change to {@code target}, which is expected to hold the
+     * content of the source list before this change.
+     */
+    public void applyTo(List<? super E> target) {
+        if(reset) {
+            target.clear();
+            target.addAll(added);
+        } else {
+            target.subList(from, from + removedSize).clear();
+            target.addAll(from, added);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (reset ? "reset" : "change") + "[from=" + from
+                + ", removedSize=" + removedSize + ", added=" + added + "]";
+    }
+}
@@ -0,0 +1,87 @@
+package org.fxmisc.easybind.reactive;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+class ListPublisher<E> implements Publisher<ListChangeRecord<E>> {
+    private final ObservableList<? extends E> list;
+    private final int maxPending;
+    private final Executor observableExecutor;
+
+    ListPublisher(ObservableList<? extends E> list, int maxPending, Executor observableExecutor) {
+        if(maxPending < 1) {
+            throw new IllegalArgumentException("maxPending must be positive: " + maxPending);
+        }
+        this.list = list;
+        this.maxPending = maxPending;
+        this.observableExecutor = observableExecutor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ListChangeRecord<E>> subscriber) {
+        new ListSubscription<>(list, maxPending, subscriber, observableExecutor).start();
+    }
+
+    private static class ListSubscription<E> extends DrainingSubscription<ListChangeRecord<E>> {
+        private final ObservableList<? extends E> list;
+        private final int maxPending;
+        private final ListChangeListener<E> listener = this::listChanged;
+        private final ArrayDeque<ListChangeRecord<E>> pending = new ArrayDeque<>();
+
+        // size of the list as seen by the subscriber,
+        // i.e. after applying all the records delivered so far
+        private int deliveredSize = 0;
+
+        ListSubscription(
+                ObservableList<? extends E> list,
+                int maxPending,
+                Subscriber<? super ListChangeRecord<E>> subscriber,
+                Executor observableExecutor) {
+            super(subscriber, observableExecutor);
+            this.list = list;
+            this.maxPending = maxPending;
+        }
+
+        @Override
+        protected void attach() {
+            list.addListener(listener);
+            pending.add(ListChangeRecord.reset(0, list));
+        }
+
+        @Override
+        protected void detach() {
+            list.removeListener(listener);
+            pending.clear();
+        }
+
+        @Override
+        protected boolean hasPending() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        protected ListChangeRecord<E> takePending() {
+            ListChangeRecord<E> rec = pending.poll();
+            deliveredSize += rec.getAdded().size() - rec.getRemovedSize();
+            return rec;
+        }
+
+        private void listChanged(ListChangeListener.Change<? extends E> ch) {
+            while(ch.next()) {
+                pending.add(ListChangeRecord.of(ch));
+            }
+            if(pending.size() > maxPending) {
+                // conflate everything not yet delivered into a single reset
+                pending.clear();
+                pending.add(ListChangeRecord.reset(deliveredSize, list));
+            }
+            drain();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.fxmisc.easybind.reactive;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.beans.value.ObservableValueBase;
+
+import org.fxmisc.easybind.BackgroundValue;
+import org.fxmisc.easybind.EasyBind;
+import org.fxmisc.easybind.Subscription;
+import org.fxmisc.easybind.monadic.MonadicObservableValue;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Observable value that holds the latest item emitted by a
+ * {@link Publisher}. Items are requested in batches and delivered, with
+ * conflation, on the delivery executor (see {@link BackgroundValue}).
+ * Unsubscribing cancels the subscription to the publisher.
+ *
+ * @see ReactiveStreams#fromPublisher(Publisher, int, Executor)
+ */
+public final class PublisherValue<T> extends ObservableValueBase<T>
+implements MonadicObservableValue<T>, Subscription {
+
+    private final BackgroundValue<T> latest;
+    private final AtomicReference<org.reactivestreams.Subscription> upstream = new AtomicReference<>();
+    private final int batchSize;
+    private final int replenishAt;
+
+    private volatile Throwable error = null;
+    private volatile boolean completed = false;
+    private volatile boolean cancelled = false;
+
+    PublisherValue(Publisher<? extends T> publisher, int batchSize, Executor deliveryExecutor) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.replenishAt = Math.max(1, batchSize / 2);
+        this.latest = EasyBind.fromBackground(null, deliveryExecutor);
+        latest.addListener(obs -> fireValueChangedEvent());
+        publisher.subscribe(new LatestSubscriber());
+    }
+
+    @Override
+    public T get() {
+        return latest.getValue();
+    }
+
+    @Override
+    public T getValue() {
+        return latest.getValue();
+    }
+
+    /**
+     * Cancels the subscription to the publisher. The last received value
+     * is retained.
+     */
+    @Override
+    public void unsubscribe() {
+        cancelled = true;
+        org.reactivestreams.Subscription s = upstream.get();
+        if(s != null) {
+            s.cancel();
+        }
+    }
+
+    /**
+     * Number of items received from the publisher that were superseded by
+     * a later item before they could be delivered.
+     */
+    public long getConflatedCount() {
+        return latest.getConflatedCount();
+    }
+
+    /**
+     * Number of items received from the publisher.
+     */
+    public long getReceivedCount() {
+        return latest.getPushedCount();
+    }
+
+    /**
+     * The error the publisher terminated with, if any.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Whether the publisher terminated, either normally or with an error.
+     */
+    public boolean isTerminated() {
+        return completed || error != null;
+    }
+
+    private class LatestSubscriber implements Subscriber<T> {
+        // signals to a subscriber are serial, no need for synchronization
+        private int receivedSinceRequest = 0;
+
+        @Override
+        public void onSubscribe(org.reactivestreams.Subscription s) {
+            if(cancelled || !upstream.compareAndSet(null, s)) {
+                s.cancel();
+            } else {
+                s.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            latest.push(item);
+            if(++receivedSinceRequest == replenishAt) {
+                receivedSinceRequest = 0;
+                upstream.get().request(replenishAt);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
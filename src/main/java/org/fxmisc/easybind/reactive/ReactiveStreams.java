@@ -0,0 +1,97 @@
+package org.fxmisc.easybind.reactive;
+
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Bridges between observable values and lists and
+ * <a href="http://www.reactive-streams.org/">Reactive Streams</a>
+ * publishers. On Java 9+, use {@code org.reactivestreams.FlowAdapters}
+ * to convert to and from {@code java.util.concurrent.Flow}.
+ *
+ * <p>This is the only part of EasyBind that depends on the
+ * {@code org.reactivestreams:reactive-streams} artifact, which is therefore
+ * an optional dependency that needs to be added explicitly to use it.
+ */
+public final class ReactiveStreams {
+
+    // private constructor to prevent instantiation
+    private ReactiveStreams() {}
+
+    /**
+     * Returns a publisher of the values of {@code observable}, which lives
+     * on the JavaFX application thread. Each subscriber first receives the
+     * current value, then the subsequent values. Values that change while
+     * the subscriber has no outstanding demand are conflated, so that the
+     * subscriber receives the latest value as soon as it requests more.
+     * Since Reactive Streams do not permit {@code null} items, the times
+     * when {@code observable} is empty are skipped.
+     */
+    public static <T> Publisher<T> toPublisher(ObservableValue<T> observable) {
+        return toPublisher(observable, Platform::runLater);
+    }
+
+    /**
+     * Like {@link #toPublisher(ObservableValue)}, except that
+     * {@code observableExecutor} is used to access {@code observable} and
+     * to signal the subscribers.
+     */
+    public static <T> Publisher<T> toPublisher(
+            ObservableValue<T> observable,
+            Executor observableExecutor) {
+        return new ValuePublisher<>(observable, observableExecutor);
+    }
+
+    /**
+     * Returns a publisher of the changes of {@code list}, which lives on the
+     * JavaFX application thread. Each subscriber first receives a reset
+     * record with the current content of the list, then a record for each
+     * subsequent change. When more than {@code maxPending} records wait for
+     * demand, they are conflated into a single reset record.
+     */
+    public static <E> Publisher<ListChangeRecord<E>> toPublisher(
+            ObservableList<? extends E> list,
+            int maxPending) {
+        return toPublisher(list, maxPending, Platform::runLater);
+    }
+
+    /**
+     * Like {@link #toPublisher(ObservableList, int)}, except that
+     * {@code observableExecutor} is used to access {@code list} and to
+     * signal the subscribers.
+     */
+    public static <E> Publisher<ListChangeRecord<E>> toPublisher(
+            ObservableList<? extends E> list,
+            int maxPending,
+            Executor observableExecutor) {
+        return new ListPublisher<>(list, maxPending, observableExecutor);
+    }
+
+    /**
+     * Subscribes to {@code publisher} and returns an observable value that
+     * holds the latest item received. Items are requested in batches of
+     * {@code batchSize} and delivered on the JavaFX application thread;
+     * items received while a delivery is pending are coalesced into it.
+     */
+    public static <T> PublisherValue<T> fromPublisher(
+            Publisher<? extends T> publisher,
+            int batchSize) {
+        return fromPublisher(publisher, batchSize, Platform::runLater);
+    }
+
+    /**
+     * Like {@link #fromPublisher(Publisher, int)}, except that items are
+     * delivered using {@code deliveryExecutor}.
+     */
+    public static <T> PublisherValue<T> fromPublisher(
+            Publisher<? extends T> publisher,
+            int batchSize,
+            Executor deliveryExecutor) {
+        return new PublisherValue<>(publisher, batchSize, deliveryExecutor);
+    }
+}
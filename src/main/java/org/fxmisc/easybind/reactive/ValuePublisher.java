@@ -0,0 +1,70 @@
+package org.fxmisc.easybind.reactive;
+
+import java.util.concurrent.Executor;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+class ValuePublisher<T> implements Publisher<T> {
+    private final ObservableValue<T> observable;
+    private final Executor observableExecutor;
+
+    ValuePublisher(ObservableValue<T> observable, Executor observableExecutor) {
+        this.observable = observable;
+        this.observableExecutor = observableExecutor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        new ValueSubscription<>(observable, subscriber, observableExecutor).start();
+    }
+
+    private static class ValueSubscription<T> extends DrainingSubscription<T> {
+        private final ObservableValue<T> observable;
+        private final InvalidationListener listener = obs -> valueInvalidated();
+
+        // the latest value not yet delivered; older ones are conflated
+        private T pending = null;
+
+        ValueSubscription(
+                ObservableValue<T> observable,
+                Subscriber<? super T> subscriber,
+                Executor observableExecutor) {
+            super(subscriber, observableExecutor);
+            this.observable = observable;
+        }
+
+        @Override
+        protected void attach() {
+            observable.addListener(listener);
+            pending = observable.getValue();
+        }
+
+        @Override
+        protected void detach() {
+            observable.removeListener(listener);
+            pending = null;
+        }
+
+        @Override
+        protected boolean hasPending() {
+            return pending != null;
+        }
+
+        @Override
+        protected T takePending() {
+            T res = pending;
+            pending = null;
+            return res;
+        }
+
+        private void valueInvalidated() {
+            // reading the value also revalidates the observable
+            pending = observable.getValue();
+            drain();
+        }
+    }
+}
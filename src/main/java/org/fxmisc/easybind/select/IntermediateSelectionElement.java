@@ -1,8 +1,10 @@
 package org.fxmisc.easybind.select;
 
+import java.util.List;
 import java.util.function.Function;
 
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.value.ObservableValue;
 
 class IntermediateSelectionElement<T, U, V> implements NestedSelectionElement<T, V> {
@@ -63,6 +65,14 @@ class IntermediateSelectionElement<T, U, V> implements NestedSelectionElement<T,
         return nested.getValue();
     }
 
+    @Override
+    public void collectObservables(List<Observable> observables) {
+        if(isConnected()) {
+            observables.add(observable);
+            nested.collectObservables(observables);
+        }
+    }
+
     private void nestedInvalidated() {
         onInvalidation.run();
     }
@@ -1,8 +1,10 @@
 package org.fxmisc.easybind.select;
 
+import java.util.List;
 import java.util.function.Function;
 
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.value.ObservableValue;
 
 class LeafSelectionElement<T, U> implements NestedSelectionElement<T, U> {
@@ -49,6 +51,13 @@ class LeafSelectionElement<T, U> implements NestedSelectionElement<T, U> {
         return observable.getValue();
     }
 
+    @Override
+    public void collectObservables(List<Observable> observables) {
+        if(isConnected()) {
+            observables.add(observable);
+        }
+    }
+
     private void observableInvalidated() {
         onInvalidation.run();
     }
@@ -1,8 +1,18 @@
 package org.fxmisc.easybind.select;
 
+import java.util.List;
+
+import javafx.beans.Observable;
+
 interface NestedSelectionElement<T, U> {
     void connect(T baseVal);
     void disconnect();
     boolean isConnected();
     U getValue();
+
+    /**
+     * Adds the observables this element and its nested elements are
+     * connected to to {@code observables}.
+     */
+    void collectObservables(List<Observable> observables);
 }
\ No newline at end of file
@@ -1,9 +1,17 @@
 package org.fxmisc.easybind.select;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 
+import org.fxmisc.easybind.BindingMetrics;
+import org.fxmisc.easybind.JfrEvents;
 import org.fxmisc.easybind.monadic.MonadicBinding;
 
 class SelectObjectBinding<T, U> extends ObjectBinding<U> implements MonadicBinding<U> {
@@ -15,16 +23,49 @@ class SelectObjectBinding<T, U> extends ObjectBinding<U> implements MonadicBindi
             ObservableValue<T> root,
             NestedSelectionElementFactory<T, U> nestedSelectionFactory) {
         this.root = root;
-        nestedSelection = nestedSelectionFactory.create(this::invalidate);
+        nestedSelection = nestedSelectionFactory.create(this::nestedInvalidated);
         rootInvalidationListener = obs -> {
-            nestedSelection.disconnect();
-            invalidate();
+            Object cascade = JfrEvents.cascadeEnter(this);
+            try {
+                nestedSelection.disconnect();
+                invalidate();
+            } finally {
+                JfrEvents.cascadeExit(cascade);
+            }
         };
         root.addListener(rootInvalidationListener);
     }
 
     @Override
     protected U computeValue() {
+        Object event = JfrEvents.beginRecompute();
+        long start = BindingMetrics.isEnabled() ? System.nanoTime() : 0;
+        U value = select();
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordRecompute(this, System.nanoTime() - start);
+        }
+        JfrEvents.endRecompute(event, this);
+        return value;
+    }
+
+    @Override
+    protected void onInvalidating() {
+        if(BindingMetrics.isEnabled()) {
+            BindingMetrics.recordInvalidation(this);
+        }
+        JfrEvents.invalidated();
+    }
+
+    private void nestedInvalidated() {
+        Object cascade = JfrEvents.cascadeEnter(this);
+        try {
+            invalidate();
+        } finally {
+            JfrEvents.cascadeExit(cascade);
+        }
+    }
+
+    private U select() {
         if(!nestedSelection.isConnected()) {
             T rootVal = root.getValue();
             if(rootVal == null) {
@@ -35,6 +76,17 @@ class SelectObjectBinding<T, U> extends ObjectBinding<U> implements MonadicBindi
         return nestedSelection.getValue();
     }
 
+    /**
+     * Returns the root and the currently connected elements of the selection.
+     */
+    @Override
+    public ObservableList<?> getDependencies() {
+        List<Observable> deps = new ArrayList<>();
+        deps.add(root);
+        nestedSelection.collectObservables(deps);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(deps));
+    }
+
     @Override
     public void dispose() {
         root.removeListener(rootInvalidationListener);
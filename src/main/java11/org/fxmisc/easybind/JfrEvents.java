@@ -0,0 +1,190 @@
+package org.fxmisc.easybind;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Hooks through which bindings report to Java Flight Recorder. This is
+ * the Java 11 version, packaged in {@code META-INF/versions/11} of the
+ * multi-release jar. See the Java 8 version for a description of the
+ * events.
+ */
+public final class JfrEvents {
+
+    @Name("org.fxmisc.easybind.Recompute")
+    @Label("Binding Recompute")
+    @Description("Recompute of a binding's value")
+    @Category("EasyBind")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class RecomputeEvent extends Event {
+        @Label("Label") String label;
+        @Label("Source Class") Class<?> sourceClass;
+    }
+
+    @Name("org.fxmisc.easybind.InvalidationCascade")
+    @Label("Invalidation Cascade")
+    @Description("Invalidation that propagated to many bindings")
+    @Category("EasyBind")
+    static final class InvalidationCascadeEvent extends Event {
+        @Label("Label") String label;
+        @Label("Source Class") Class<?> sourceClass;
+        @Label("Invalidated Bindings") int nodes;
+    }
+
+    @Name("org.fxmisc.easybind.MappedListChange")
+    @Label("Mapped List Change")
+    @Description("Processing of a change by a mapped list and its listeners")
+    @Category("EasyBind")
+    @StackTrace(false)
+    static final class MappedListChangeEvent extends Event {
+        @Label("Label") String label;
+        @Label("Source Class") Class<?> sourceClass;
+    }
+
+    @Name("org.fxmisc.easybind.ListBind")
+    @Label("List Bind Apply")
+    @Description("Application of a source list change to a list bound by listBind")
+    @Category("EasyBind")
+    @StackTrace(false)
+    static final class ListBindEvent extends Event {
+        @Label("Label") String label;
+        @Label("Source Class") Class<?> sourceClass;
+        @Label("Target Class") Class<?> targetClass;
+        @Label("Changes") int changes;
+    }
+
+    private static final class Cascade {
+        int depth;
+        int nodes;
+        Object root;
+        InvalidationCascadeEvent event;
+    }
+
+    private static final int CASCADE_THRESHOLD = Integer.getInteger("org.fxmisc.easybind.jfr.cascadeThreshold", 100);
+
+    private static final EventType RECOMPUTE = EventType.getEventType(RecomputeEvent.class);
+    private static final EventType CASCADE = EventType.getEventType(InvalidationCascadeEvent.class);
+    private static final EventType MAPPED_LIST_CHANGE = EventType.getEventType(MappedListChangeEvent.class);
+    private static final EventType LIST_BIND = EventType.getEventType(ListBindEvent.class);
+
+    private static final ThreadLocal<Cascade> cascades = ThreadLocal.withInitial(Cascade::new);
+
+    private JfrEvents() {}
+
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    public static Object beginRecompute() {
+        if(!RECOMPUTE.isEnabled()) {
+            return null;
+        }
+        RecomputeEvent event = new RecomputeEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void endRecompute(Object token, Object binding) {
+        if(token != null) {
+            RecomputeEvent event = (RecomputeEvent) token;
+            event.end();
+            if(event.shouldCommit()) {
+                event.label = BindingMetrics.label(binding);
+                event.sourceClass = binding.getClass();
+                event.commit();
+            }
+        }
+    }
+
+    public static Object cascadeEnter(Object binding) {
+        if(!CASCADE.isEnabled()) {
+            return null;
+        }
+        Cascade cascade = cascades.get();
+        if(cascade.depth++ == 0) {
+            cascade.nodes = 0;
+            cascade.root = binding;
+            cascade.event = new InvalidationCascadeEvent();
+            cascade.event.begin();
+        }
+        return cascade;
+    }
+
+    public static void cascadeExit(Object token) {
+        if(token != null) {
+            Cascade cascade = (Cascade) token;
+            if(--cascade.depth == 0) {
+                InvalidationCascadeEvent event = cascade.event;
+                event.end();
+                if(cascade.nodes >= CASCADE_THRESHOLD && event.shouldCommit()) {
+                    event.label = BindingMetrics.label(cascade.root);
+                    event.sourceClass = cascade.root.getClass();
+                    event.nodes = cascade.nodes;
+                    event.commit();
+                }
+                cascade.root = null;
+                cascade.event = null;
+            }
+        }
+    }
+
+    public static void invalidated() {
+        if(CASCADE.isEnabled()) {
+            Cascade cascade = cascades.get();
+            if(cascade.depth > 0) {
+                cascade.nodes += 1;
+            }
+        }
+    }
+
+    static Object beginMappedListChange() {
+        if(!MAPPED_LIST_CHANGE.isEnabled()) {
+            return null;
+        }
+        MappedListChangeEvent event = new MappedListChangeEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endMappedListChange(Object token, Object list, Object source) {
+        if(token != null) {
+            MappedListChangeEvent event = (MappedListChangeEvent) token;
+            event.end();
+            if(event.shouldCommit()) {
+                event.label = BindingMetrics.label(list);
+                event.sourceClass = source.getClass();
+                event.commit();
+            }
+        }
+    }
+
+    static Object beginListBind() {
+        if(!LIST_BIND.isEnabled()) {
+            return null;
+        }
+        ListBindEvent event = new ListBindEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endListBind(Object token, Object source, Object target, int changes) {
+        if(token != null) {
+            ListBindEvent event = (ListBindEvent) token;
+            event.end();
+            if(event.shouldCommit()) {
+                event.label = BindingMetrics.label(source);
+                event.sourceClass = source.getClass();
+                event.targetClass = target.getClass();
+                event.changes = changes;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+
+import org.junit.Test;
+
+public class ArrayTest {
+
+    @Test
+    public void testMapArrayForwardsChangedRanges() {
+        ObservableFloatArray samples = FXCollections.observableFloatArray(1f, 2f, 3f, 4f);
+        ObservableFloatArray scaled = EasyBind.mapArray(samples, x -> x * 10);
+        assertEquals(20f, scaled.get(1), 0);
+        assertArrayEquals(new float[] { 10f, 20f, 30f, 40f }, scaled.toArray(null), 0);
+
+        List<String> changes = new ArrayList<>();
+        scaled.addListener((ArrayChangeListener<ObservableFloatArray>) (arr, sizeChanged, from, to) ->
+                changes.add(sizeChanged + ":" + from + "-" + to));
+        samples.set(2, 5f);
+        samples.addAll(6f);
+        assertEquals("[false:2-3, true:4-5]", changes.toString());
+
+        float[] target = new float[3];
+        scaled.copyTo(2, target, 1, 2);
+        assertArrayEquals(new float[] { 0f, 50f, 40f }, target, 0);
+
+        try {
+            scaled.set(0, 1f);
+            fail();
+        } catch(UnsupportedOperationException e) {
+            // expected
+        }
+
+        ObservableIntegerArray counts = FXCollections.observableIntegerArray(1, 2);
+        ObservableIntegerArray negated = EasyBind.mapArray(counts, i -> -i);
+        counts.set(0, 7);
+        assertArrayEquals(new int[] { -7, -2 }, negated.toArray(null));
+    }
+
+    @Test
+    public void testRangeBindings() {
+        ObservableIntegerArray values = FXCollections.observableIntegerArray(5, 1, 4, 2);
+        ArrayStats stats = EasyBind.stats(values);
+        IntegerProperty from = new SimpleIntegerProperty(1);
+        IntegerProperty to = new SimpleIntegerProperty(3);
+        Binding<Double> max = stats.maxBinding(from, to);
+        Binding<Double> sum = stats.sumBinding(from, to);
+        assertEquals(4.0, max.getValue(), 0);
+        assertEquals(5.0, sum.getValue(), 0);
+
+        values.set(2, 0);
+        assertEquals(1.0, max.getValue(), 0);
+        to.set(10);
+        assertEquals(2.0, max.getValue(), 0);
+        assertEquals(3.0, sum.getValue(), 0);
+        assertEquals(8.0, stats.sum(), 0);
+    }
+
+    @Test
+    public void testStatsAgainstReference() {
+        Random random = new Random(42);
+        ObservableFloatArray array = FXCollections.observableFloatArray();
+        ArrayStats stats = EasyBind.stats(array);
+        for(int step = 0; step < 2000; ++step) {
+            int n = array.size();
+            switch(random.nextInt(4)) {
+                case 0:
+                    float[] added = new float[random.nextInt(20)];
+                    for(int i = 0; i < added.length; ++i) {
+                        added[i] = random.nextInt(1000);
+                    }
+                    array.addAll(added);
+                    break;
+                case 1:
+                    array.resize(random.nextInt(n + 1));
+                    break;
+                default:
+                    if(n > 0) {
+                        int at = random.nextInt(n);
+                        int len = random.nextInt(n - at) + 1;
+                        float[] vals = new float[len];
+                        for(int i = 0; i < len; ++i) {
+                            vals[i] = random.nextInt(1000);
+                        }
+                        array.set(at, vals, 0, len);
+                    }
+            }
+
+            n = array.size();
+            assertEquals(n, stats.size());
+            int from = random.nextInt(n + 1);
+            int to = from + random.nextInt(n - from + 1);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double sum = 0;
+            for(int i = from; i < to; ++i) {
+                min = Math.min(min, array.get(i));
+                max = Math.max(max, array.get(i));
+                sum += array.get(i);
+            }
+            assertEquals(min, stats.min(from, to), 0);
+            assertEquals(max, stats.max(from, to), 0);
+            assertEquals(sum, stats.sum(from, to), 0);
+        }
+    }
+}
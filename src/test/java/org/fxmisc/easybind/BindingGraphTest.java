@@ -0,0 +1,113 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class BindingGraphTest {
+
+    private static class Node {
+        final ObjectProperty<Node> next = new SimpleObjectProperty<>();
+        final IntegerProperty value = new SimpleIntegerProperty();
+    }
+
+    @Test
+    public void testPreboundBinding() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        Binding<Integer> sum = EasyBind.combine(a, b, (x, y) -> x.intValue() + y.intValue());
+        Binding<Integer> twice = EasyBind.map(sum, x -> 2 * x);
+        Binding<Integer> both = EasyBind.combine(sum, a, (x, y) -> x + y.intValue());
+
+        BindingGraph graph = BindingGraph.of(twice, both);
+        assertEquals(5, graph.nodeCount());
+        assertEquals(5, graph.edgeCount());
+        assertEquals(2, graph.maxDepth());
+        BindingGraph.Node sumNode = graph.topByFanOut(1).get(0);
+        assertSame(sum, sumNode.getObservable());
+        assertEquals(2, sumNode.getFanIn());
+        assertEquals(2, sumNode.getFanOut());
+        assertEquals(1, sumNode.getDepth());
+    }
+
+    @Test
+    public void testFlatMapReportsCurrentTarget() {
+        Node n1 = new Node();
+        Node n2 = new Node();
+        ObjectProperty<Node> selected = new SimpleObjectProperty<>(n1);
+        Binding<Number> value = EasyBind.monadic(selected).flatMap(n -> n.value);
+
+        // target not selected until the value is computed
+        assertEquals(Arrays.asList(selected), value.getDependencies());
+        value.getValue();
+        assertEquals(Arrays.asList(selected, n1.value), value.getDependencies());
+        selected.set(n2);
+        value.getValue();
+        assertEquals(Arrays.asList(selected, n2.value), value.getDependencies());
+    }
+
+    @Test
+    public void testSelectReportsConnectedElements() {
+        Node head = new Node();
+        head.next.set(new Node());
+        ObjectProperty<Node> root = new SimpleObjectProperty<>(head);
+        Binding<Number> value = EasyBind.select(root).select(n -> n.next).selectObject(n -> n.value);
+
+        value.getValue();
+        assertEquals(Arrays.asList(root, head.next, head.next.get().value), value.getDependencies());
+        head.next.set(null);
+        value.getValue();
+        assertEquals(Arrays.asList(root, head.next), value.getDependencies());
+        assertEquals(3, BindingGraph.of(value).nodeCount());
+    }
+
+    @Test
+    public void testListCombinationAndMappedList() {
+        ObservableList<IntegerProperty> values = FXCollections.observableArrayList();
+        for(int i = 0; i < 10; ++i) {
+            values.add(new SimpleIntegerProperty(i));
+        }
+        Binding<Integer> sum = EasyBind.combine(values, s -> s.mapToInt(Number::intValue).sum());
+        ObservableList<Integer> doubled = EasyBind.map(values, v -> 2 * v.get());
+
+        BindingGraph graph = BindingGraph.of(sum, doubled);
+        // sum, doubled, values and its 10 elements
+        assertEquals(13, graph.nodeCount());
+        assertEquals(12, graph.edgeCount());
+        List<BindingGraph.Node> widest = graph.topByFanIn(1);
+        assertSame(sum, widest.get(0).getObservable());
+        assertEquals(11, widest.get(0).getFanIn());
+        assertSame(values, graph.topByFanOut(1).get(0).getObservable());
+    }
+
+    @Test
+    public void testExport() {
+        IntegerProperty src = new SimpleIntegerProperty();
+        BindingMetrics.name(src, "src \"quoted\"");
+        Binding<Integer> plusOne = BindingMetrics.name(EasyBind.map(src, x -> x.intValue() + 1), "plusOne");
+        BindingGraph graph = BindingGraph.of(plusOne);
+
+        String dot = graph.toDot();
+        assertTrue(dot, dot.startsWith("digraph easybind {\n"));
+        assertTrue(dot, dot.contains("n0 [label=\"plusOne\\nin 1, out 0, depth 1\"];"));
+        assertTrue(dot, dot.contains("n1 [label=\"src \\\"quoted\\\"\\nin 0, out 1, depth 0\"];"));
+        assertTrue(dot, dot.contains("n1 -> n0;"));
+
+        String json = graph.toJson();
+        assertTrue(json, json.startsWith("{\"nodeCount\":2,\"edgeCount\":1,\"maxDepth\":1,\"nodes\":["));
+        assertTrue(json, json.contains("{\"id\":0,\"label\":\"plusOne\",\"class\":\"" + plusOne.getClass().getName()
+                + "\",\"fanIn\":1,\"fanOut\":0,\"depth\":1,\"dependencies\":[1]}"));
+        assertTrue(json, json.contains("\"label\":\"src \\\"quoted\\\"\""));
+    }
+}
@@ -0,0 +1,140 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BindingMetricsTest {
+
+    @Before
+    public void setup() {
+        BindingMetrics.reset();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        // the metricsTest task runs this class with -Dorg.fxmisc.easybind.metrics=true
+        assumeFalse(BindingMetrics.isEnabled());
+        IntegerProperty src = new SimpleIntegerProperty();
+        Binding<Integer> b = EasyBind.map(src, x -> x.intValue() + 1);
+        b.getValue();
+        src.set(1);
+        b.getValue();
+        assertNull(BindingMetrics.get(b));
+        assertEquals(0, BindingMetrics.trackedBindings());
+    }
+
+    @Test
+    public void testRecomputesTriggeredByGet() {
+        assumeTrue(BindingMetrics.isEnabled());
+        IntegerProperty src = new SimpleIntegerProperty();
+        ObjectBinding<Integer> b = (ObjectBinding<Integer>) EasyBind.map(src, x -> x.intValue() + 1);
+        b.get();
+        src.set(1);
+        b.get();
+        b.get(); // valid, no recompute
+        src.set(2);
+        assertEquals(Integer.valueOf(3), b.get());
+
+        BindingMetrics.Entry entry = BindingMetrics.get(b);
+        assertEquals(2, entry.getInvalidations());
+        assertEquals(3, entry.getRecomputes());
+    }
+
+    @Test
+    public void testCountsInvalidationsAndRecomputes() {
+        assumeTrue(BindingMetrics.isEnabled());
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        Binding<Integer> sum = BindingMetrics.name(
+                EasyBind.combine(a, b, (x, y) -> x.intValue() + y.intValue()), "sum");
+        ObservableList<IntegerProperty> list = FXCollections.observableArrayList(a, b);
+        Binding<Integer> total = BindingMetrics.name(
+                EasyBind.combine(list, s -> s.mapToInt(Number::intValue).sum()), "total");
+        ObjectProperty<IntegerProperty> selected = new SimpleObjectProperty<>(a);
+        Binding<Number> flat = BindingMetrics.name(EasyBind.monadic(selected).flatMap(p -> p), "flat");
+        Binding<Number> select = BindingMetrics.name(EasyBind.select(selected).selectObject(p -> p), "select");
+
+        for(Binding<?> binding: Arrays.asList(sum, total, flat, select)) {
+            binding.getValue();
+        }
+        a.set(10);
+        a.set(20); // already invalid
+        assertEquals(Integer.valueOf(22), sum.getValue());
+        assertEquals(Integer.valueOf(22), total.getValue());
+        assertEquals(20, flat.getValue());
+        assertEquals(20, select.getValue());
+        for(Binding<?> binding: Arrays.asList(sum, total, flat, select)) {
+            binding.getValue(); // valid, no recompute
+        }
+
+        for(Binding<?> binding: Arrays.asList(sum, total, flat, select)) {
+            BindingMetrics.Entry entry = BindingMetrics.get(binding);
+            assertEquals(2, entry.getRecomputes());
+            assertEquals(1, entry.getInvalidations());
+        }
+        assertEquals("sum", BindingMetrics.get(sum).getName());
+
+        // untouched bindings are not tracked
+        assertNull(BindingMetrics.get(EasyBind.map(b, x -> x)));
+    }
+
+    @Test
+    public void testTopN() {
+        assumeTrue(BindingMetrics.isEnabled());
+        IntegerProperty src = new SimpleIntegerProperty();
+        Binding<Integer> hot = BindingMetrics.name(EasyBind.map(src, x -> x.intValue() + 1), "hot");
+        Binding<Integer> slow = BindingMetrics.name(EasyBind.map(src, x -> {
+            long end = System.nanoTime() + 50_000_000;
+            while(System.nanoTime() < end) {}
+            return x.intValue();
+        }), "slow");
+        slow.getValue();
+        for(int i = 0; i < 10; ++i) {
+            src.set(i);
+            hot.getValue();
+        }
+
+        List<BindingMetrics.Entry> byRecomputes = BindingMetrics.topByRecomputes(1);
+        assertEquals(1, byRecomputes.size());
+        assertEquals("hot", byRecomputes.get(0).getName());
+        assertEquals(10, byRecomputes.get(0).getRecomputes());
+        assertEquals("slow", BindingMetrics.topByTime(2).get(0).getName());
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        assumeTrue(BindingMetrics.isEnabled());
+        IntegerProperty src = new SimpleIntegerProperty();
+        Binding<Integer> b = BindingMetrics.name(EasyBind.map(src, x -> x.intValue()), "b");
+        b.getValue();
+
+        BindingMetrics.registerMBean();
+        BindingMetrics.registerMBean(); // idempotent
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.fxmisc.easybind:type=BindingMetrics");
+        assertEquals(1, server.getAttribute(name, "TrackedBindings"));
+        String[] top = (String[]) server.invoke(name, "topByRecomputes",
+                new Object[] { 5 }, new String[] { int.class.getName() });
+        assertEquals(1, top.length);
+        assertTrue(top[0], top[0].startsWith("b: 0 invalidations, 1 recomputes"));
+    }
+}
@@ -0,0 +1,134 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class ChangeLogTest {
+
+    private static List<Integer> values(List<IntegerProperty> list) {
+        List<Integer> res = new ArrayList<>();
+        for(IntegerProperty p: list) {
+            res.add(p.get());
+        }
+        return res;
+    }
+
+    @Test
+    public void testListReplayMatchesRecording() throws IOException {
+        Random random = new Random(44);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        for(int i = 0; i < 20; ++i) {
+            source.add(new SimpleIntegerProperty(i));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Subscription recording = EasyBind.record(source, Channels.newChannel(bytes), (out, p) -> out.writeInt(p.get()));
+        List<List<Integer>> expected = new ArrayList<>();
+        expected.add(values(source));
+        source.addListener((Change<? extends IntegerProperty> ch) -> expected.add(values(source)));
+
+        for(int step = 0; step < 2000; ++step) {
+            int n = source.size();
+            int at = random.nextInt(n + 1);
+            switch(random.nextInt(5)) {
+                case 0:
+                    source.add(at, new SimpleIntegerProperty(random.nextInt(1000)));
+                    break;
+                case 1:
+                    source.remove(at, Math.min(n, at + 1 + random.nextInt(3)));
+                    break;
+                case 2:
+                    if(at < n) {
+                        source.get(at).set(random.nextInt(1000));
+                    }
+                    break;
+                case 3:
+                    FXCollections.sort(source, (a, b) -> Integer.compare(a.get(), b.get()));
+                    break;
+                default:
+                    List<IntegerProperty> added = new ArrayList<>();
+                    for(int k = random.nextInt(30); k > 0; --k) {
+                        added.add(new SimpleIntegerProperty(random.nextInt(1000)));
+                    }
+                    source.setAll(added);
+            }
+        }
+        recording.unsubscribe();
+        int recorded = expected.size();
+        source.add(new SimpleIntegerProperty(-1)); // not recorded
+
+        try(ListReplay<Integer> replay = EasyBind.replayList(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), in -> in.readInt())) {
+            // listBind does not propagate updates, so the mirror also copies updated elements
+            List<Integer> mirror = new ArrayList<>();
+            EasyBind.listBind(mirror, replay);
+            Counter updates = new Counter();
+            replay.addListener((Change<? extends Integer> ch) -> {
+                while(ch.next()) {
+                    if(ch.wasUpdated()) {
+                        updates.inc();
+                        for(int i = ch.getFrom(); i < ch.getTo(); ++i) {
+                            mirror.set(i, replay.get(i));
+                        }
+                    }
+                }
+            });
+
+            assertEquals(expected.get(0), replay);
+            for(int k = 1; k < recorded; ++k) {
+                assertTrue(replay.step());
+                assertEquals(expected.get(k), replay);
+                assertEquals(expected.get(k), mirror);
+            }
+            assertFalse(replay.step());
+            assertTrue(updates.get() > 0);
+        }
+    }
+
+    @Test
+    public void testValueReplayAndTruncatedLog() throws IOException {
+        StringProperty source = new SimpleStringProperty("a");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EasyBind.record(source, Channels.newChannel(bytes), (out, s) -> out.writeUTF(s));
+        source.set("b");
+        source.set(null);
+        source.set("c");
+
+        // the last frame is cut short
+        byte[] log = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        try(ValueReplay<String> replay = EasyBind.replayValue(
+                Channels.newChannel(new ByteArrayInputStream(log)), in -> in.readUTF())) {
+            List<String> values = new ArrayList<>();
+            replay.addListener((obs, oldVal, newVal) -> values.add(newVal));
+            assertEquals("a", replay.getValue());
+            replay.replayTimed();
+            assertEquals(Arrays.asList("b", null), values);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongKind() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EasyBind.record(new SimpleStringProperty("a"), Channels.newChannel(bytes), (out, s) -> out.writeUTF(s));
+        EasyBind.replayList(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), in -> in.readUTF());
+    }
+}
@@ -0,0 +1,121 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+import org.junit.Test;
+
+public class DistinctCountTest {
+
+    @Test
+    public void testDistinct() {
+        ObservableList<String> tags = FXCollections.observableArrayList("a", "b", "a");
+        ObservableSet<String> distinct = EasyBind.distinct(tags);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), distinct);
+
+        List<String> changes = new ArrayList<>();
+        distinct.addListener((SetChangeListener<String>) ch ->
+                changes.add(ch.wasAdded() ? "+" + ch.getElementAdded() : "-" + ch.getElementRemoved()));
+
+        // one of two occurrences is removed
+        tags.remove(0);
+        assertTrue(changes.isEmpty());
+
+        tags.setAll("b", "c");
+        assertEquals(Arrays.asList("-a", "+c"), changes);
+        assertEquals(new HashSet<>(Arrays.asList("b", "c")), distinct);
+
+        FXCollections.reverse(tags);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testCountByReportsEachKeyOncePerChange() {
+        ObservableList<String> words = FXCollections.observableArrayList();
+        ObservableMap<Integer, Integer> byLength = EasyBind.countBy(words, String::length);
+        List<String> changes = new ArrayList<>();
+        byLength.addListener((MapChangeListener<Integer, Integer>) ch ->
+                changes.add(ch.getKey() + ":" + ch.getValueRemoved() + "->" + ch.getValueAdded()));
+
+        words.addAll("a", "bb", "c", "dd", "e");
+        assertEquals(Integer.valueOf(3), byLength.get(1));
+        assertEquals(Integer.valueOf(2), byLength.get(2));
+        Collections.sort(changes);
+        assertEquals(Arrays.asList("1:null->3", "2:null->2"), changes);
+        changes.clear();
+
+        words.removeAll("bb", "dd");
+        assertFalse(byLength.containsKey(2));
+        assertEquals(Arrays.asList("2:2->null"), changes);
+    }
+
+    @Test
+    public void testCountByUpdatedKeys() {
+        StringProperty s = new SimpleStringProperty("open");
+        ObservableList<StringProperty> issues = FXCollections.observableArrayList(p -> new Observable[] { p });
+        issues.addAll(s, new SimpleStringProperty("open"));
+        ObservableMap<String, Integer> byStatus = EasyBind.countBy(issues, StringProperty::get);
+        assertEquals(Integer.valueOf(2), byStatus.get("open"));
+
+        s.set("closed");
+        assertEquals(Integer.valueOf(1), byStatus.get("open"));
+        assertEquals(Integer.valueOf(1), byStatus.get("closed"));
+    }
+
+    @Test
+    public void testAgainstReference() {
+        Random random = new Random(39);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        ObservableSet<Integer> distinct = EasyBind.distinct(source);
+        ObservableMap<Integer, Integer> counts = EasyBind.countBy(source, i -> i % 17);
+
+        for(int step = 0; step < 2000; ++step) {
+            int n = source.size();
+            int at = random.nextInt(n + 1);
+            switch(random.nextInt(4)) {
+                case 0:
+                    List<Integer> added = new ArrayList<>();
+                    for(int k = random.nextInt(20); k >= 0; --k) {
+                        added.add(random.nextInt(200));
+                    }
+                    source.addAll(at, added);
+                    break;
+                case 1:
+                    source.remove(at, Math.min(n, at + random.nextInt(20)));
+                    break;
+                case 2:
+                    if(at < n) {
+                        source.set(at, random.nextInt(200));
+                    }
+                    break;
+                default:
+                    FXCollections.shuffle(source, random);
+            }
+
+            assertEquals(new HashSet<>(source), distinct);
+            Map<Integer, Integer> expected = source.stream().collect(
+                    Collectors.groupingBy(i -> i % 17, Collectors.summingInt(i -> 1)));
+            assertEquals(expected, counts);
+            assertEquals(expected.keySet(), counts.keySet());
+        }
+    }
+}
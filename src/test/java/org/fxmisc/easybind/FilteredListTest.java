@@ -0,0 +1,103 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class FilteredListTest {
+
+    @Test
+    public void testPredicateChangeReportsOnlyDifferences() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+        ObjectProperty<Predicate<Integer>> predicate = new SimpleObjectProperty<>(i -> i <= 4);
+        ObservableList<Integer> filtered = EasyBind.filter(source, predicate);
+        assertEquals(Arrays.asList(1, 2, 3, 4), filtered);
+
+        List<String> changes = new ArrayList<>();
+        filtered.addListener((Change<? extends Integer> ch) -> {
+            while(ch.next()) {
+                changes.add(ch.getFrom() + ":-" + ch.getRemoved() + "+" + ch.getAddedSubList());
+            }
+        });
+
+        predicate.set(i -> i >= 3);
+        assertEquals(Arrays.asList(3, 4, 5, 6), filtered);
+        assertEquals(Arrays.asList("0:-[1, 2]+[]", "2:-[]+[5, 6]"), changes);
+    }
+
+    @Test
+    public void testUpdatedElementsAreRetested() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        IntegerProperty c = new SimpleIntegerProperty(3);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        source.addAll(a, b, c);
+        ObjectProperty<Predicate<IntegerProperty>> odd = new SimpleObjectProperty<>(p -> p.get() % 2 == 1);
+        ObservableList<IntegerProperty> filtered = EasyBind.filter(source, odd);
+        assertEquals(Arrays.asList(a, c), filtered);
+
+        b.set(5);
+        assertEquals(Arrays.asList(a, b, c), filtered);
+        a.set(4);
+        assertEquals(Arrays.asList(b, c), filtered);
+    }
+
+    @Test
+    public void testRandomizedAgainstReference() {
+        Random rnd = new Random(42);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        ObjectProperty<Predicate<Integer>> predicate = new SimpleObjectProperty<>(i -> i % 2 == 0);
+        ObservableList<Integer> filtered = EasyBind.filter(source, predicate);
+        List<Integer> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, filtered);
+
+        for(int step = 0; step < 2000; ++step) {
+            int op = rnd.nextInt(7);
+            int n = source.size();
+            if(op == 0 || n == 0) {
+                source.add(rnd.nextInt(n + 1), rnd.nextInt(100));
+            } else if(op == 1) {
+                source.addAll(Arrays.asList(rnd.nextInt(100), rnd.nextInt(100), rnd.nextInt(100)));
+            } else if(op == 2) {
+                int from = rnd.nextInt(n);
+                source.remove(from, Math.min(n, from + 1 + rnd.nextInt(3)));
+            } else if(op == 3) {
+                source.set(rnd.nextInt(n), rnd.nextInt(100));
+            } else if(op == 4) {
+                FXCollections.sort(source);
+            } else if(op == 5) {
+                int m = 2 + rnd.nextInt(5);
+                predicate.set(i -> i % m == 0);
+            } else {
+                List<Integer> copy = new ArrayList<>(source);
+                Collections.shuffle(copy, rnd);
+                source.setAll(copy.subList(0, copy.size() / 2));
+            }
+
+            Predicate<Integer> p = predicate.get();
+            List<Integer> expected = source.stream().filter(p).collect(Collectors.toList());
+            assertEquals(expected, filtered);
+            assertEquals(expected, mirror);
+            for(int i = 0; i < filtered.size(); ++i) {
+                assertSame(source.get(((DynamicFilteredList<Integer>) filtered).getSourceIndex(i)), filtered.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class FlattenListTest {
+
+    private static class Group {
+        final ObservableList<String> items = FXCollections.observableArrayList();
+
+        Group(String... items) {
+            this.items.addAll(items);
+        }
+
+        ObservableList<String> getItems() {
+            return items;
+        }
+    }
+
+    private static List<String> expected(List<Group> groups) {
+        List<String> res = new ArrayList<>();
+        groups.forEach(g -> res.addAll(g.items));
+        return res;
+    }
+
+    @Test
+    public void testInnerAndOuterChanges() {
+        Group a = new Group("a1", "a2");
+        Group b = new Group();
+        Group c = new Group("c1");
+        ObservableList<Group> groups = FXCollections.observableArrayList(a, b, c);
+        ObservableList<String> flat = EasyBind.flattenList(groups, Group::getItems);
+        assertEquals(Arrays.asList("a1", "a2", "c1"), flat);
+
+        Counter changes = new Counter();
+        flat.addListener((Change<? extends String> ch) -> changes.inc());
+
+        b.items.add("b1");
+        assertEquals(Arrays.asList("a1", "a2", "b1", "c1"), flat);
+        assertEquals(1, changes.getAndReset());
+
+        groups.remove(a);
+        assertEquals(Arrays.asList("b1", "c1"), flat);
+        assertEquals(1, changes.getAndReset());
+
+        // removed groups are no longer observed
+        a.items.add("a3");
+        assertEquals(0, changes.getAndReset());
+        assertEquals(Arrays.asList("b1", "c1"), flat);
+    }
+
+    @Test
+    public void testRandomizedAgainstReference() {
+        Random rnd = new Random(7);
+        List<Group> pool = new ArrayList<>();
+        for(int i = 0; i < 10; ++i) {
+            pool.add(new Group());
+        }
+        ObservableList<Group> groups = FXCollections.observableArrayList();
+        ObservableList<String> flat = EasyBind.flattenList(groups, Group::getItems);
+        List<String> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, flat);
+
+        for(int step = 0; step < 2000; ++step) {
+            int op = rnd.nextInt(6);
+            if(op == 0 || groups.isEmpty()) {
+                groups.add(rnd.nextInt(groups.size() + 1), pool.get(rnd.nextInt(pool.size())));
+            } else if(op == 1) {
+                groups.remove(rnd.nextInt(groups.size()));
+            } else if(op == 2) {
+                List<Group> copy = new ArrayList<>(groups);
+                Collections.shuffle(copy, rnd);
+                groups.setAll(copy);
+            } else if(op == 3) {
+                FXCollections.sort(groups, (g1, g2) -> Integer.compare(g1.items.size(), g2.items.size()));
+            } else {
+                Group g = groups.get(rnd.nextInt(groups.size()));
+                if(g.items.isEmpty() || rnd.nextBoolean()) {
+                    g.items.add(rnd.nextInt(g.items.size() + 1), "x" + step);
+                } else if(rnd.nextBoolean()) {
+                    g.items.remove(rnd.nextInt(g.items.size()));
+                } else {
+                    FXCollections.reverse(g.items);
+                }
+            }
+            List<String> exp = expected(groups);
+            assertEquals(exp, flat);
+            assertEquals(exp, mirror);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener.Change;
+
+import org.junit.Test;
+
+public class FromBackgroundTest {
+
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public synchronized void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        synchronized int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable r;
+            while((r = poll()) != null) {
+                r.run();
+            }
+        }
+
+        private synchronized Runnable poll() {
+            return tasks.poll();
+        }
+    }
+
+    @Test
+    public void testValueConflation() {
+        ManualExecutor fx = new ManualExecutor();
+        BackgroundValue<Integer> value = EasyBind.fromBackground(0, fx);
+        Counter changes = new Counter();
+        value.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        value.push(1);
+        value.push(2);
+        value.push(3);
+        assertEquals(1, fx.pending());
+        assertEquals(0, value.getValue().intValue());
+
+        fx.runAll();
+        assertEquals(3, value.getValue().intValue());
+        assertEquals(1, changes.getAndReset());
+        assertEquals(3, value.getPushedCount());
+        assertEquals(2, value.getConflatedCount());
+
+        value.push(null);
+        fx.runAll();
+        assertNull(value.getValue());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        ManualExecutor fx = new ManualExecutor();
+        BackgroundValue<Integer> value = EasyBind.fromBackground(null, fx);
+        int nThreads = 4;
+        int perThread = 10000;
+        CountDownLatch done = new CountDownLatch(nThreads);
+        for(int t = 0; t < nThreads; ++t) {
+            new Thread(() -> {
+                for(int i = 1; i <= perThread; ++i) {
+                    value.push(i);
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        fx.runAll();
+        assertEquals(nThreads * perThread, value.getPushedCount());
+        assertNotNull(value.getValue());
+    }
+
+    @Test
+    public void testListBatching() {
+        ManualExecutor fx = new ManualExecutor();
+        BackgroundList<String> list = EasyBind.listFromBackground(4, fx);
+        Counter changes = new Counter();
+        list.addListener((Change<? extends String> ch) -> changes.inc());
+
+        list.push("a");
+        list.pushAll(Arrays.asList("b", "c"));
+        assertEquals(1, fx.pending());
+        fx.runAll();
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(1, changes.getAndReset());
+
+        // overflow drops the oldest elements in the same change
+        list.pushAll(Arrays.asList("d", "e", "f"));
+        list.addListener((Change<? extends String> ch) -> {
+            assertTrue(ch.next());
+            assertEquals(Arrays.asList("a", "b"), ch.getRemoved());
+            assertTrue(ch.next());
+            assertEquals(Arrays.asList("d", "e", "f"), ch.getAddedSubList());
+            assertFalse(ch.next());
+        });
+        fx.runAll();
+        assertEquals(Arrays.asList("c", "d", "e", "f"), list);
+        assertEquals(1, changes.getAndReset());
+        assertEquals(2, list.getDroppedCount());
+    }
+
+    @Test
+    public void testPushAllWithNullAppendsNothing() {
+        ManualExecutor fx = new ManualExecutor();
+        BackgroundList<String> list = EasyBind.listFromBackground(10, fx);
+        try {
+            list.pushAll(Arrays.asList("a", null));
+            fail("expected NullPointerException");
+        } catch(NullPointerException e) {
+            // expected
+        }
+        assertEquals(0, list.getPushedCount());
+        assertEquals(0, fx.pending());
+
+        list.push("b");
+        fx.runAll();
+        assertEquals(Arrays.asList("b"), list);
+        assertEquals(1, list.getPushedCount());
+    }
+
+    @Test
+    public void testAtMostOneDeliveryPerPulse() {
+        ManualExecutor fx = new ManualExecutor();
+        ManualScheduler pulses = new ManualScheduler();
+        BackgroundValue<Integer> value = EasyBind.fromBackground(0, FxScheduler.nextTick(fx, pulses));
+        Counter changes = new Counter();
+        value.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        value.push(1);
+        fx.runAll();
+        value.push(2);
+        fx.runAll();
+        // handed over, but not delivered before the pulse
+        assertEquals(0, value.getValue().intValue());
+        pulses.runPending();
+        assertEquals(2, value.getValue().intValue());
+        assertEquals(1, changes.getAndReset());
+
+        // pushed after the delivery within a pulse, delivered on the next one
+        value.addListener((obs, oldVal, newVal) -> {
+            if(newVal == 3) {
+                value.push(4);
+            }
+        });
+        value.push(3);
+        fx.runAll();
+        pulses.runPending();
+        fx.runAll();
+        assertEquals(3, value.getValue().intValue());
+        pulses.runPending();
+        assertEquals(4, value.getValue().intValue());
+        assertEquals(2, changes.getAndReset());
+    }
+
+    @Test
+    public void testListWrapsAroundAgainstReference() {
+        Random random = new Random(28);
+        ManualExecutor fx = new ManualExecutor();
+        BackgroundList<Integer> list = EasyBind.listFromBackground(37, fx);
+        List<Integer> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, list);
+        List<Integer> expected = new ArrayList<>();
+
+        int next = 0;
+        for(int step = 0; step < 500; ++step) {
+            for(int k = random.nextInt(random.nextBoolean() ? 5 : 60); k > 0; --k) {
+                list.push(next);
+                expected.add(next++);
+            }
+            fx.runAll();
+            if(expected.size() > 37) {
+                expected.subList(0, expected.size() - 37).clear();
+            }
+            assertEquals(expected, list);
+            assertEquals(expected, mirror);
+        }
+        assertEquals(next - 37, list.getDroppedCount());
+    }
+}
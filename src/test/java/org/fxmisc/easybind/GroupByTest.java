@@ -0,0 +1,214 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+import org.junit.Test;
+
+public class GroupByTest {
+
+    private static class Sum implements GroupAggregate<Integer> {
+        int total = 0;
+
+        @Override
+        public void added(Integer elem) {
+            total += elem;
+        }
+
+        @Override
+        public void removed(Integer elem) {
+            total -= elem;
+        }
+    }
+
+    @Test
+    public void testIncrementalGroupingWithAggregates() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5);
+        Map<Integer, Sum> sums = new HashMap<>();
+        ObservableMap<Integer, ObservableList<Integer>> groups = EasyBind.groupBy(
+                source, i -> i % 2, key -> sums.computeIfAbsent(key, k -> new Sum()));
+
+        assertEquals(Arrays.asList(2, 4), groups.get(0));
+        assertEquals(Arrays.asList(1, 3, 5), groups.get(1));
+        assertEquals(6, sums.get(0).total);
+
+        ObservableList<Integer> evens = groups.get(0);
+        Counter evenChanges = new Counter();
+        evens.addListener((Change<? extends Integer> ch) -> evenChanges.inc());
+        List<String> mapChanges = new ArrayList<>();
+        groups.addListener((MapChangeListener<Integer, ObservableList<Integer>>) ch ->
+                mapChanges.add((ch.wasRemoved() ? "-" : "+") + ch.getKey()));
+
+        // odd additions don't touch the even group
+        source.addAll(7, 9);
+        assertEquals(0, evenChanges.getAndReset());
+
+        // source order is preserved within a group
+        source.add(0, 10);
+        assertEquals(Arrays.asList(10, 2, 4), evens);
+        assertEquals(16, sums.get(0).total);
+        assertEquals(1, evenChanges.getAndReset());
+
+        source.removeIf(i -> i % 2 == 0);
+        assertFalse(groups.containsKey(0));
+        assertEquals(Arrays.asList("-0"), mapChanges);
+    }
+
+    @Test
+    public void testDynamicKeys() {
+        StringProperty ka = new SimpleStringProperty("x");
+        StringProperty kb = new SimpleStringProperty("x");
+        ObservableList<StringProperty> source = FXCollections.observableArrayList(ka, kb);
+        ObservableMap<String, ObservableList<StringProperty>> groups = EasyBind.groupByDynamic(source, p -> p);
+
+        assertEquals(Arrays.asList(ka, kb), groups.get("x"));
+        ka.set("y");
+        assertEquals(Arrays.asList(kb), groups.get("x"));
+        assertEquals(Arrays.asList(ka), groups.get("y"));
+        kb.set("y");
+        assertFalse(groups.containsKey("x"));
+        assertEquals(Arrays.asList(ka, kb), groups.get("y"));
+
+        // removed elements are no longer observed
+        source.remove(ka);
+        ka.set("z");
+        assertFalse(groups.containsKey("z"));
+    }
+
+    @Test
+    public void testRandomizedAgainstReference() {
+        Random rnd = new Random(5);
+        List<IntegerProperty> pool = new ArrayList<>();
+        for(int i = 0; i < 12; ++i) {
+            pool.add(new SimpleIntegerProperty(rnd.nextInt(4)));
+        }
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList();
+        ObservableMap<Number, ObservableList<IntegerProperty>> groups = EasyBind.groupByDynamic(source, p -> p);
+
+        for(int step = 0; step < 2000; ++step) {
+            int op = rnd.nextInt(6);
+            if(op == 0 || source.isEmpty()) {
+                source.add(rnd.nextInt(source.size() + 1), pool.get(rnd.nextInt(pool.size())));
+            } else if(op == 1) {
+                source.remove(rnd.nextInt(source.size()));
+            } else if(op == 2) {
+                List<IntegerProperty> copy = new ArrayList<>(source);
+                Collections.shuffle(copy, rnd);
+                source.setAll(copy);
+            } else if(op == 3) {
+                FXCollections.sort(source, (p, q) -> Integer.compare(System.identityHashCode(p), System.identityHashCode(q)));
+            } else {
+                pool.get(rnd.nextInt(pool.size())).set(rnd.nextInt(4));
+            }
+            Map<Number, List<IntegerProperty>> expected = source.stream()
+                    .collect(Collectors.groupingBy(p -> p.getValue(), Collectors.toList()));
+            assertEquals(expected, groups);
+        }
+    }
+
+    private static class Count implements GroupAggregate<Object> {
+        int n = 0;
+
+        @Override
+        public void added(Object elem) {
+            ++n;
+        }
+
+        @Override
+        public void removed(Object elem) {
+            --n;
+        }
+    }
+
+    @Test
+    public void testBulkChangesAgainstReference() {
+        Random rnd = new Random(35);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        Map<Integer, Count> counts = new HashMap<>();
+        ObservableMap<Integer, ObservableList<IntegerProperty>> groups = EasyBind.groupBy(
+                source, p -> p.get() % 5, key -> {
+                    Count count = new Count();
+                    counts.put(key, count);
+                    return count;
+                });
+        Map<Integer, List<IntegerProperty>> mirrors = new HashMap<>();
+        groups.addListener((MapChangeListener<Integer, ObservableList<IntegerProperty>>) ch -> {
+            if(ch.wasAdded()) {
+                List<IntegerProperty> mirror = new ArrayList<>();
+                EasyBind.listBind(mirror, ch.getValueAdded());
+                mirrors.put(ch.getKey(), mirror);
+            } else {
+                mirrors.remove(ch.getKey());
+            }
+        });
+
+        for(int step = 0; step < 1000; ++step) {
+            switch(rnd.nextInt(6)) {
+                case 0:
+                    List<IntegerProperty> added = new ArrayList<>();
+                    for(int k = rnd.nextInt(20); k >= 0; --k) {
+                        added.add(new SimpleIntegerProperty(rnd.nextInt(100)));
+                    }
+                    source.addAll(rnd.nextInt(source.size() + 1), added);
+                    break;
+                case 1:
+                    // scattered removal, reported as several sub-changes
+                    List<IntegerProperty> removed = new ArrayList<>();
+                    for(IntegerProperty p: source) {
+                        if(rnd.nextInt(3) == 0) {
+                            removed.add(p);
+                        }
+                    }
+                    source.removeAll(removed);
+                    break;
+                case 2:
+                    List<IntegerProperty> copy = new ArrayList<>(source.subList(0, source.size() / 2));
+                    for(int k = rnd.nextInt(20); k >= 0; --k) {
+                        copy.add(new SimpleIntegerProperty(rnd.nextInt(100)));
+                    }
+                    Collections.shuffle(copy, rnd);
+                    source.setAll(copy);
+                    break;
+                case 3:
+                    FXCollections.sort(source, (p, q) -> Integer.compare(p.get(), q.get()));
+                    break;
+                case 4:
+                    for(int k = rnd.nextInt(5); k >= 0 && !source.isEmpty(); --k) {
+                        source.get(rnd.nextInt(source.size())).set(rnd.nextInt(100));
+                    }
+                    break;
+                default:
+                    if(rnd.nextInt(10) == 0) {
+                        source.clear();
+                    }
+            }
+
+            Map<Integer, List<IntegerProperty>> expected = source.stream()
+                    .collect(Collectors.groupingBy(p -> p.get() % 5, Collectors.toList()));
+            assertEquals(expected, groups);
+            assertEquals(expected, mirrors);
+            for(Map.Entry<Integer, List<IntegerProperty>> e: expected.entrySet()) {
+                assertEquals(e.getValue().size(), counts.get(e.getKey()).n);
+            }
+        }
+    }
+}
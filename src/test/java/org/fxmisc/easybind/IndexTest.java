@@ -0,0 +1,129 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class IndexTest {
+
+    @Test
+    public void testIncrementalIndex() {
+        ObservableList<String> source = FXCollections.observableArrayList("apple", "banana");
+        KeyIndex<Character, String> index = EasyBind.index(source, s -> s.charAt(0));
+        assertEquals("apple", index.get('a'));
+        assertEquals("banana", index.get('b'));
+
+        List<String> changes = new ArrayList<>();
+        index.addListener((MapChangeListener<Character, String>) ch ->
+                changes.add((ch.wasRemoved() ? "-" + ch.getValueRemoved() : "") + (ch.wasAdded() ? "+" + ch.getValueAdded() : "")));
+
+        source.add("cherry");
+        assertEquals("cherry", index.get('c'));
+        assertEquals(Arrays.asList("+cherry"), changes);
+        changes.clear();
+
+        // the first element with a key wins, later ones take over when it goes away
+        source.add("avocado");
+        assertEquals("apple", index.get('a'));
+        assertTrue(changes.isEmpty());
+        source.remove("apple");
+        assertEquals("avocado", index.get('a'));
+        assertEquals(Arrays.asList("-apple+avocado"), changes);
+        changes.clear();
+
+        // permutations don't change the map
+        FXCollections.sort(source);
+        assertTrue(changes.isEmpty());
+        assertEquals(3, index.size());
+
+        index.unsubscribe();
+        source.clear();
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testUpdatedKeys() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        source.addAll(a, b);
+        KeyIndex<Integer, IntegerProperty> index = EasyBind.index(source, IntegerProperty::get);
+        LongKeyIndex<IntegerProperty> longIndex = EasyBind.indexByLong(source, IntegerProperty::get);
+        Counter invalidations = new Counter();
+        longIndex.addListener(obs -> invalidations.inc());
+
+        a.set(5);
+        assertSame(a, index.get(5));
+        assertFalse(index.containsKey(1));
+        assertSame(a, longIndex.get(5));
+        assertFalse(longIndex.containsKey(1));
+        assertEquals(1, invalidations.getAndReset());
+
+        // the key is remembered, so the element is found under its old key on removal
+        source.remove(b);
+        assertEquals(Collections.singleton(5), index.keySet());
+        assertEquals(1, longIndex.size());
+    }
+
+    @Test
+    public void testAgainstReference() {
+        Random random = new Random(36);
+        ObservableList<int[]> source = FXCollections.observableArrayList();
+        KeyIndex<Integer, int[]> index = EasyBind.index(source, e -> e[0]);
+        LongKeyIndex<int[]> longIndex = EasyBind.indexByLong(source, e -> e[0] * 1_000_000_007L);
+
+        for(int step = 0; step < 2000; ++step) {
+            int n = source.size();
+            int from = n == 0 ? 0 : random.nextInt(n + 1);
+            switch(random.nextInt(4)) {
+                case 0:
+                    List<int[]> added = new ArrayList<>();
+                    for(int k = random.nextInt(5); k >= 0; --k) {
+                        added.add(new int[] { random.nextInt(60) });
+                    }
+                    source.addAll(from, added);
+                    break;
+                case 1:
+                    source.remove(from, Math.min(n, from + random.nextInt(4)));
+                    break;
+                case 2:
+                    if(from < n) {
+                        source.set(from, new int[] { random.nextInt(60) });
+                    }
+                    break;
+                default:
+                    FXCollections.shuffle(source, random);
+            }
+
+            Map<Integer, int[]> expected = new HashMap<>();
+            for(int[] e: source) {
+                expected.putIfAbsent(e[0], e);
+            }
+            assertEquals(expected.keySet(), index.keySet());
+            assertEquals(expected.size(), longIndex.size());
+            for(int key = 0; key < 60; ++key) {
+                int[] e = index.get(key);
+                assertEquals(expected.containsKey(key), e != null);
+                assertSame(e, longIndex.get(key * 1_000_000_007L));
+                if(e != null) {
+                    assertTrue(source.contains(e));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JfrEventsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setup() {
+        // the Java 8 version of JfrEvents does nothing
+        assumeTrue(JfrEvents.isAvailable());
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = folder.newFile().toPath();
+        try(Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testRecompute() throws Exception {
+        IntegerProperty src = new SimpleIntegerProperty(1);
+        Binding<Integer> plusOne = BindingMetrics.name(EasyBind.map(src, x -> x.intValue() + 1), "plusOne");
+
+        List<RecordedEvent> events = record("org.fxmisc.easybind.Recompute", () -> {
+            plusOne.getValue();
+            plusOne.getValue(); // valid, no recompute
+            src.set(2);
+            plusOne.getValue();
+        });
+
+        assertEquals(2, events.size());
+        for(RecordedEvent event: events) {
+            assertEquals("plusOne", event.getString("label"));
+            assertEquals(plusOne.getClass().getName(), event.getClass("sourceClass").getName());
+        }
+    }
+
+    @Test
+    public void testInvalidationCascade() throws Exception {
+        IntegerProperty src = new SimpleIntegerProperty(0);
+        ObservableValue<Integer> head = BindingMetrics.name(EasyBind.map(src, x -> x.intValue()), "head");
+        List<Binding<Integer>> chain = new ArrayList<>();
+        ObservableValue<Integer> last = head;
+        for(int i = 0; i < 150; ++i) {
+            Binding<Integer> next = EasyBind.map(last, x -> x + 1);
+            chain.add(next);
+            last = next;
+        }
+        IntegerProperty small = new SimpleIntegerProperty(0);
+        Binding<Integer> single = EasyBind.map(small, x -> x.intValue());
+        chain.get(chain.size() - 1).getValue();
+        single.getValue();
+
+        List<RecordedEvent> events = record("org.fxmisc.easybind.InvalidationCascade", () -> {
+            src.set(1);
+            small.set(1); // below the threshold
+        });
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("head", event.getString("label"));
+        assertEquals(151, event.getInt("nodes"));
+        assertEquals(Integer.valueOf(151), chain.get(chain.size() - 1).getValue());
+    }
+
+    @Test
+    public void testMappedListChange() throws Exception {
+        ObservableList<Integer> src = FXCollections.observableArrayList(1, 2, 3);
+        ObservableList<Integer> mapped = BindingMetrics.name(EasyBind.map(src, x -> x * 2), "doubled");
+
+        List<RecordedEvent> events = record("org.fxmisc.easybind.MappedListChange", () -> {
+            src.add(4);
+            src.remove(0);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals("doubled", events.get(0).getString("label"));
+        assertEquals(src.getClass().getName(), events.get(0).getClass("sourceClass").getName());
+        assertEquals(3, mapped.size());
+    }
+
+    @Test
+    public void testListBind() throws Exception {
+        ObservableList<Integer> src = FXCollections.observableArrayList(1, 2, 3);
+        List<Integer> target = new ArrayList<>();
+        EasyBind.listBind(target, src);
+
+        List<RecordedEvent> events = record("org.fxmisc.easybind.ListBind", () -> {
+            src.setAll(4, 5);
+        });
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(ArrayList.class.getName(), event.getClass("targetClass").getName());
+        assertEquals(1, event.getInt("changes"));
+        assertEquals(src, target);
+    }
+}
@@ -0,0 +1,202 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class ListMirrorTest {
+
+    private static void drain(ListMirrorReceiver<?> receiver) throws IOException {
+        while(receiver.receive() > 0) {}
+    }
+
+    private static List<Integer> values(List<IntegerProperty> list) {
+        List<Integer> res = new ArrayList<>();
+        for(IntegerProperty p: list) {
+            res.add(p.get());
+        }
+        return res;
+    }
+
+    /**
+     * Channel that drops writes on demand, to lose frames.
+     */
+    private static class LossyChannel implements WritableByteChannel {
+        final WritableByteChannel channel;
+        int writesToDrop = 0;
+
+        LossyChannel(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if(writesToDrop > 0) {
+                --writesToDrop;
+                int n = src.remaining();
+                src.position(src.limit());
+                return n;
+            }
+            return channel.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void testAgainstReference() throws IOException {
+        Random random = new Random(45);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        for(int i = 0; i < 10; ++i) {
+            source.add(new SimpleIntegerProperty(i));
+        }
+
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        Subscription sending = EasyBind.mirrorTo(source, pipe.sink(), (out, p) -> out.writeInt(p.get()), 50);
+        ListMirrorReceiver<Integer> mirror = EasyBind.mirrorFrom(pipe.source(), in -> in.readInt());
+        drain(mirror);
+        assertTrue(mirror.isSynced());
+        assertEquals(values(source), mirror);
+
+        List<Boolean> sourcePermutations = new ArrayList<>();
+        List<Boolean> mirrorPermutations = new ArrayList<>();
+        source.addListener((ListChangeListener<IntegerProperty>) ch -> sourcePermutations.add(ch.next() && ch.wasPermutated()));
+        mirror.addListener((ListChangeListener<Integer>) ch -> mirrorPermutations.add(ch.next() && ch.wasPermutated()));
+
+        for(int step = 0; step < 2000; ++step) {
+            int n = source.size();
+            int at = random.nextInt(n + 1);
+            switch(random.nextInt(5)) {
+                case 0:
+                    source.add(at, new SimpleIntegerProperty(random.nextInt(1000)));
+                    break;
+                case 1:
+                    source.remove(at, Math.min(n, at + 1 + random.nextInt(3)));
+                    break;
+                case 2:
+                    if(at < n) {
+                        source.get(at).set(random.nextInt(1000));
+                    }
+                    break;
+                case 3:
+                    FXCollections.sort(source, (a, b) -> Integer.compare(a.get(), b.get()));
+                    break;
+                default:
+                    List<IntegerProperty> added = new ArrayList<>();
+                    for(int k = random.nextInt(30); k > 0; --k) {
+                        added.add(new SimpleIntegerProperty(random.nextInt(1000)));
+                    }
+                    source.setAll(added);
+            }
+            drain(mirror);
+            assertTrue(mirror.isSynced());
+            assertEquals(values(source), mirror);
+        }
+        // each change is mirrored by a single change, permutations by permutations,
+        // except for periodic snapshots, which replace the contents
+        assertEquals(sourcePermutations.size(), mirrorPermutations.size());
+        int snapshots = 0;
+        for(int i = 0; i < sourcePermutations.size(); ++i) {
+            if(!sourcePermutations.get(i).equals(mirrorPermutations.get(i))) {
+                assertFalse(mirrorPermutations.get(i));
+                ++snapshots;
+            }
+        }
+        assertTrue(snapshots <= sourcePermutations.size() / 50);
+        assertTrue(sourcePermutations.contains(true));
+
+        sending.unsubscribe();
+        pipe.sink().close();
+        assertEquals(-1, mirror.receive());
+    }
+
+    @Test
+    public void testResyncOnSnapshot() throws IOException {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        LossyChannel channel = new LossyChannel(pipe.sink());
+        EasyBind.mirrorTo(source, channel, (out, s) -> out.writeUTF(s), 3);
+        ListMirrorReceiver<String> mirror = EasyBind.mirrorFrom(pipe.source(), in -> in.readUTF());
+        drain(mirror);
+        assertEquals(0, mirror.getSequence());
+        assertEquals(Arrays.asList("a", "b"), mirror);
+
+        // lose the frame (length and content) of a change
+        channel.writesToDrop = 2;
+        source.remove(1);
+        source.add("c");
+        drain(mirror);
+        assertFalse(mirror.isSynced());
+        assertEquals(Arrays.asList("a", "b"), mirror);
+
+        source.add("d");
+        drain(mirror);
+        assertFalse(mirror.isSynced());
+        assertEquals(Arrays.asList("a", "b"), mirror);
+
+        // the fourth change is sent as a snapshot
+        source.add("e");
+        drain(mirror);
+        assertEquals(4, mirror.getSequence());
+        assertTrue(mirror.isSynced());
+        assertEquals(Arrays.asList("a", "c", "d", "e"), mirror);
+    }
+
+    @Test
+    public void testDeltaIsAppliedOnlyWhenFullyDecoded() throws IOException {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2);
+
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        EasyBind.mirrorTo(source, pipe.sink(), (out, i) -> out.writeInt(i), 0);
+        ListMirrorReceiver<Integer> mirror = EasyBind.mirrorFrom(pipe.source(), in -> {
+            int i = in.readInt();
+            if(i < 0) {
+                throw new IOException("negative");
+            }
+            return i;
+        });
+        drain(mirror);
+        List<Integer> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<Integer>) ch -> changes.add(0));
+
+        source.removeAll(1);
+        // the second added element fails to decode, after the first one was decoded
+        source.setAll(3, -1);
+        try {
+            drain(mirror);
+            fail("expected the decoding error");
+        } catch(IOException e) {
+            assertEquals("negative", e.getMessage());
+        }
+        assertEquals(Arrays.asList(2), mirror);
+        assertEquals(1, changes.size());
+    }
+}
@@ -0,0 +1,75 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.fxmisc.easybind.monadic.AsyncBinding;
+import org.junit.Test;
+
+public class MapAsyncTest {
+
+    @Test
+    public void testLatestResultWins() throws InterruptedException {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        BlockingQueue<Runnable> fx = new LinkedBlockingQueue<>();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+        StringProperty filter = new SimpleStringProperty("slow");
+        AsyncBinding<String> result = EasyBind.monadic(filter).mapAsync(s -> {
+            if(s.equals("slow")) {
+                slowStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch(InterruptedException e) {
+                    slowInterrupted.countDown();
+                }
+            }
+            return s.toUpperCase();
+        }, executor, fx::add);
+
+        assertTrue(result.isPending());
+        assertNull(result.getValue());
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+        // a new value cancels the computation in progress
+        filter.set("fast");
+        assertTrue(slowInterrupted.await(5, TimeUnit.SECONDS));
+
+        // deliver results in the order they arrive; the stale one is ignored
+        while(result.isPending()) {
+            fx.poll(5, TimeUnit.SECONDS).run();
+        }
+        assertEquals("FAST", result.getValue());
+
+        // no more deliveries after dispose
+        result.dispose();
+        filter.set("other");
+        assertFalse(result.isPending());
+        assertEquals("FAST", result.getValue());
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void testNullSource() {
+        StringProperty filter = new SimpleStringProperty(null);
+        AsyncBinding<Integer> result = EasyBind.monadic(filter).mapAsync(String::length, Runnable::run, Runnable::run);
+        assertFalse(result.isPending());
+        assertNull(result.getValue());
+
+        filter.set("abc");
+        assertEquals(3, result.getValue().intValue());
+        filter.set(null);
+        assertNull(result.getValue());
+    }
+}
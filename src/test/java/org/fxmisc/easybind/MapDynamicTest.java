@@ -0,0 +1,79 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class MapDynamicTest {
+
+    @Test
+    public void testElementChanges() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(a, b, a);
+        ObservableList<Integer> doubled = EasyBind.mapDynamic(source, p -> EasyBind.map(p, n -> n.intValue() * 2));
+        assertEquals(Arrays.asList(2, 4, 2), doubled);
+
+        List<String> changes = new ArrayList<>();
+        doubled.addListener((Change<? extends Integer> ch) -> {
+            while(ch.next()) {
+                changes.add(ch.getFrom() + ":" + ch.getRemoved() + "->" + ch.getAddedSubList());
+            }
+        });
+
+        // the same property appears twice, both elements are replaced in one change
+        a.set(5);
+        assertEquals(Arrays.asList(10, 4, 10), doubled);
+        assertEquals(Arrays.asList("0:[2]->[10]", "2:[2]->[10]"), changes);
+        changes.clear();
+
+        // removed elements are no longer observed
+        source.remove(1);
+        changes.clear();
+        b.set(7);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testRandomizedAgainstReference() {
+        Random rnd = new Random(3);
+        List<IntegerProperty> pool = new ArrayList<>();
+        for(int i = 0; i < 8; ++i) {
+            pool.add(new SimpleIntegerProperty(i));
+        }
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList();
+        ObservableList<Number> values = EasyBind.mapDynamic(source, p -> p);
+        List<Number> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, values);
+
+        for(int step = 0; step < 2000; ++step) {
+            int op = rnd.nextInt(5);
+            if(op == 0 || source.isEmpty()) {
+                source.add(rnd.nextInt(source.size() + 1), pool.get(rnd.nextInt(pool.size())));
+            } else if(op == 1) {
+                source.remove(rnd.nextInt(source.size()));
+            } else if(op == 2) {
+                FXCollections.sort(source, (p, q) -> Integer.compare(p.get(), q.get()));
+            } else if(op == 3) {
+                source.set(rnd.nextInt(source.size()), pool.get(rnd.nextInt(pool.size())));
+            } else {
+                pool.get(rnd.nextInt(pool.size())).set(rnd.nextInt(100));
+            }
+            List<Integer> expected = source.stream().map(IntegerProperty::get).collect(Collectors.toList());
+            assertEquals(expected, values);
+            assertEquals(expected, mirror);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+
+import org.junit.Test;
+
+public class MemoTest {
+
+    enum Mode { A, B, C }
+
+    @Test
+    public void testMapMemo() {
+        ObjectProperty<Mode> mode = new SimpleObjectProperty<>(Mode.A);
+        Counter computations = new Counter();
+        MemoCache<Mode, String> cache = MemoCache.ofSize(2);
+        Binding<String> name = EasyBind.mapMemo(mode, m -> {
+            computations.inc();
+            return m.name().toLowerCase();
+        }, cache);
+
+        assertEquals("a", name.getValue());
+        mode.set(Mode.B);
+        assertEquals("b", name.getValue());
+        mode.set(Mode.A);
+        assertEquals("a", name.getValue());
+        assertEquals(2, computations.getAndReset());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        // C evicts B, the least recently used
+        mode.set(Mode.C);
+        assertEquals("c", name.getValue());
+        mode.set(Mode.B);
+        assertEquals("b", name.getValue());
+        assertEquals(2, computations.getAndReset());
+        assertEquals(2, cache.getEvictionCount());
+
+        mode.set(null);
+        assertNull(name.getValue());
+    }
+
+    @Test
+    public void testWeightBound() {
+        MemoCache<Integer, String> cache = MemoCache.ofWeight(5, String::length);
+        cache.get(1, i -> "aa");
+        cache.get(2, i -> "bbb");
+        assertEquals(2, cache.size());
+        cache.get(3, i -> "c");
+        assertEquals(2, cache.size());
+        assertEquals(4, cache.getWeight());
+    }
+
+    @Test
+    public void testFlatMapMemo() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        ObjectProperty<Mode> mode = new SimpleObjectProperty<>(Mode.A);
+        MemoCache<Mode, ObservableValue<Number>> cache = MemoCache.ofSize(4);
+        Counter computations = new Counter();
+        Binding<Number> value = EasyBind.monadic(mode).flatMapMemo(m -> {
+            computations.inc();
+            return m == Mode.A ? a : b;
+        }, cache);
+
+        Counter invalidations = new Counter();
+        value.addListener(obs -> invalidations.inc());
+
+        assertEquals(1, value.getValue().intValue());
+        mode.set(Mode.B);
+        assertEquals(2, value.getValue().intValue());
+        mode.set(Mode.A);
+        assertEquals(1, value.getValue().intValue());
+        assertEquals(2, computations.getAndReset());
+        invalidations.reset();
+
+        // the cached, but unselected, observable is not observed
+        b.set(20);
+        assertEquals(0, invalidations.getAndReset());
+
+        a.set(10);
+        assertEquals(1, invalidations.getAndReset());
+        assertEquals(10, value.getValue().intValue());
+    }
+}
@@ -0,0 +1,109 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RecordFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final int RECORD_SIZE = 12;
+
+    // records of an int id and a double value
+    private static void append(Path file, int from, int to, int extraBytes) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((to - from) * RECORD_SIZE + extraBytes).order(ByteOrder.LITTLE_ENDIAN);
+        for(int i = from; i < to; ++i) {
+            buf.putInt(i).putDouble(i * 0.5);
+        }
+        buf.flip();
+        try(FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while(buf.hasRemaining()) {
+                ch.write(buf);
+            }
+        }
+    }
+
+    private static final RecordFileList.Decoder<String> DECODER =
+            (buf, offset) -> buf.getInt(offset) + "=" + buf.getDouble(offset + 4);
+
+    @Test
+    public void testLazyDecodingAndCache() throws IOException {
+        Path file = folder.newFile().toPath();
+        append(file, 0, 1000, 0);
+
+        Counter decoded = new Counter();
+        try(RecordFileList<String> list = EasyBind.fromRecordFile(file, RECORD_SIZE, ByteOrder.LITTLE_ENDIAN,
+                (buf, offset) -> { decoded.inc(); return DECODER.decode(buf, offset); })) {
+            assertEquals(1000, list.size());
+            assertEquals(0, decoded.get());
+
+            assertEquals("999=499.5", list.get(999));
+            assertEquals("3=1.5", list.get(3));
+            assertEquals(2, decoded.getAndReset());
+
+            // served from the cache
+            assertSame(list.get(999), list.get(999));
+            assertEquals(0, decoded.get());
+        }
+    }
+
+    @Test
+    public void testRefreshReportsAppends() throws IOException {
+        Path file = folder.newFile().toPath();
+        append(file, 0, 10, 0);
+
+        try(RecordFileList<String> list = EasyBind.fromRecordFile(file, RECORD_SIZE, ByteOrder.LITTLE_ENDIAN, DECODER)) {
+            ObservableList<Integer> ids = EasyBind.map(list, s -> Integer.parseInt(s.substring(0, s.indexOf('='))));
+            IntegerProperty from = new SimpleIntegerProperty(8);
+            IntegerProperty size = new SimpleIntegerProperty(4);
+            ObservableList<Integer> window = EasyBind.window(ids, from, size);
+            List<Integer> mirror = new ArrayList<>();
+            EasyBind.listBind(mirror, ids);
+
+            List<String> changes = new ArrayList<>();
+            list.addListener((Change<? extends String> ch) -> {
+                while(ch.next()) {
+                    changes.add(ch.getFrom() + "-" + ch.getTo() + (ch.wasAdded() && !ch.wasRemoved() ? " added" : ""));
+                }
+            });
+            assertEquals(Arrays.asList(8, 9), window);
+
+            // a trailing incomplete record is not yet visible
+            append(file, 10, 13, 5);
+            list.refresh();
+            assertEquals(Arrays.asList("10-13 added"), changes);
+            assertEquals(13, list.size());
+            assertEquals(Arrays.asList(8, 9, 10, 11), window);
+            assertEquals(ids, mirror);
+            changes.clear();
+
+            // nothing new
+            list.refresh();
+            assertEquals(Arrays.asList(), changes);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRecordSize() throws IOException {
+        EasyBind.fromRecordFile(folder.newFile().toPath(), 0, DECODER);
+    }
+}
@@ -0,0 +1,107 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+import org.junit.Test;
+
+public class SetMapTest {
+
+    @Test
+    public void testMapSet() {
+        ObservableSet<String> source = FXCollections.observableSet("a", "bb", "cc");
+        ObservableSet<Integer> lengths = EasyBind.map(source, String::length);
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), lengths);
+
+        List<String> changes = new ArrayList<>();
+        lengths.addListener((SetChangeListener<Integer>) ch ->
+                changes.add(ch.wasAdded() ? "+" + ch.getElementAdded() : "-" + ch.getElementRemoved()));
+
+        // another element still maps to 2
+        source.remove("bb");
+        assertTrue(changes.isEmpty());
+        source.remove("cc");
+        source.add("ddd");
+        assertEquals(Arrays.asList("-2", "+3"), changes);
+        assertEquals(new HashSet<>(Arrays.asList(1, 3)), lengths);
+    }
+
+    @Test
+    public void testMapValues() {
+        ObservableMap<String, Integer> source = FXCollections.observableHashMap();
+        source.put("a", 1);
+        Counter mapped = new Counter();
+        ObservableMap<String, String> view = EasyBind.mapValues(source, i -> { mapped.inc(); return "#" + i; });
+        assertEquals(0, mapped.get());
+        assertEquals("#1", view.get("a"));
+        assertNull(view.get("b"));
+
+        List<String> changes = new ArrayList<>();
+        view.addListener((MapChangeListener<String, String>) ch ->
+                changes.add(ch.getKey() + ":" + ch.getValueRemoved() + "->" + ch.getValueAdded()));
+        source.put("a", 2);
+        source.remove("a");
+        assertEquals(Arrays.asList("a:#1->#2", "a:#2->null"), changes);
+        assertTrue(view.isEmpty());
+    }
+
+    @Test
+    public void testSetBindAndMapBind() {
+        ObservableSet<String> set = FXCollections.observableSet("a");
+        Set<String> setMirror = new HashSet<>();
+        Subscription setSub = EasyBind.setBind(setMirror, set);
+        set.addAll(Arrays.asList("b", "c"));
+        set.remove("a");
+        assertEquals(set, setMirror);
+
+        ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+        Map<String, Integer> mapMirror = new HashMap<>();
+        Subscription mapSub = EasyBind.mapBind(mapMirror, map);
+        map.put("x", 1);
+        map.put("y", 2);
+        map.put("x", 3);
+        map.remove("y");
+        assertEquals(map, mapMirror);
+
+        setSub.unsubscribe();
+        mapSub.unsubscribe();
+        set.clear();
+        map.clear();
+        assertEquals(2, setMirror.size());
+        assertEquals(1, mapMirror.size());
+    }
+
+    @Test
+    public void testCombineMapValues() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        ObservableMap<String, IntegerProperty> map = FXCollections.observableHashMap();
+        map.put("a", a);
+        Binding<Integer> sum = EasyBind.combine(map, stream -> stream.mapToInt(Number::intValue).sum());
+        assertEquals(1, sum.getValue().intValue());
+
+        map.put("b", b);
+        assertEquals(3, sum.getValue().intValue());
+        b.set(5);
+        assertEquals(6, sum.getValue().intValue());
+        map.remove("a");
+        a.set(100);
+        assertEquals(5, sum.getValue().intValue());
+    }
+}
@@ -0,0 +1,77 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+import org.junit.Test;
+
+public class SharedBindingsTest {
+
+    @Test
+    public void testSharingAndRelease() {
+        SharedBindings shared = new SharedBindings();
+        StringProperty src = new SimpleStringProperty("foo");
+        Counter computations = new Counter();
+        Function<String, Integer> f = s -> {
+            computations.inc();
+            return s.length();
+        };
+
+        SharedBinding<Integer> len1 = shared.map(src, f);
+        SharedBinding<Integer> len2 = shared.map(src, f);
+        assertEquals(1, shared.size());
+
+        assertEquals(3, len1.getValue().intValue());
+        assertEquals(3, len2.getValue().intValue());
+        assertEquals(1, computations.getAndReset());
+
+        Counter invalidations = new Counter();
+        len2.addListener(obs -> invalidations.inc());
+
+        src.set("hello");
+        assertEquals(5, len1.getValue().intValue());
+        assertEquals(1, invalidations.getAndReset());
+
+        // unsubscribing one handle keeps the binding alive,
+        // but removes listeners added through that handle
+        len2.unsubscribe();
+        len2.unsubscribe(); // idempotent
+        assertFalse(len2.isActive());
+        len2.addListener(obs -> invalidations.inc()); // ignored
+        assertEquals(1, shared.size());
+        src.set("a");
+        assertEquals(1, len1.getValue().intValue());
+        assertEquals(0, invalidations.getAndReset());
+
+        // last unsubscribe releases the binding
+        len1.unsubscribe();
+        assertEquals(0, shared.size());
+
+        // a new request creates a fresh binding
+        SharedBinding<Integer> len3 = shared.map(src, f);
+        assertEquals(1, len3.getValue().intValue());
+        assertEquals(1, shared.size());
+        len3.unsubscribe();
+    }
+
+    @Test
+    public void testExplicitKey() {
+        SharedBindings shared = new SharedBindings();
+        StringProperty src = new SimpleStringProperty("foo");
+
+        // distinct lambdas, same explicit key
+        SharedBinding<String> a = shared.intern(Arrays.asList(src, "upper"), () -> EasyBind.map(src, String::toUpperCase));
+        SharedBinding<String> b = shared.intern(Arrays.asList(src, "upper"), () -> EasyBind.map(src, s -> s.toLowerCase()));
+        assertEquals(1, shared.size());
+        assertEquals("FOO", b.getValue());
+
+        a.unsubscribe();
+        b.unsubscribe();
+        assertEquals(0, shared.size());
+    }
+}
@@ -0,0 +1,176 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class SortedByTest {
+
+    @Test
+    public void testKeysAreExtractedOnce() {
+        ObservableList<String> source = FXCollections.observableArrayList("ccc", "a", "bb");
+        Counter extractions = new Counter();
+        ObservableList<String> sorted = EasyBind.sortedBy(source, s -> { extractions.inc(); return s.length(); });
+        assertEquals(Arrays.asList("a", "bb", "ccc"), sorted);
+        assertEquals(3, extractions.getAndReset());
+
+        List<String> changes = new ArrayList<>();
+        sorted.addListener((Change<? extends String> ch) -> {
+            while(ch.next()) {
+                changes.add(ch.getFrom() + ":-" + ch.getRemoved() + "+" + ch.getAddedSubList());
+            }
+        });
+
+        source.add("dd");
+        assertEquals(Arrays.asList("a", "bb", "dd", "ccc"), sorted);
+        assertEquals(1, extractions.getAndReset());
+        assertEquals(Arrays.asList("2:-[]+[dd]"), changes);
+        changes.clear();
+
+        source.remove("a");
+        assertEquals(0, extractions.get());
+        assertEquals(Arrays.asList("0:-[a]+[]"), changes);
+    }
+
+    @Test
+    public void testUpdatedElementIsMovedByPermutation() {
+        IntegerProperty a = new SimpleIntegerProperty(1);
+        IntegerProperty b = new SimpleIntegerProperty(2);
+        IntegerProperty c = new SimpleIntegerProperty(3);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        source.addAll(a, b, c);
+        ObservableList<IntegerProperty> sorted = EasyBind.sortedBy(source, IntegerProperty::get);
+
+        List<String> kinds = new ArrayList<>();
+        sorted.addListener((Change<? extends IntegerProperty> ch) -> {
+            while(ch.next()) {
+                kinds.add(ch.wasPermutated() ? "perm" : ch.wasUpdated() ? "upd" : "other");
+            }
+        });
+
+        a.set(4);
+        assertEquals(Arrays.asList(b, c, a), sorted);
+        assertFalse(kinds.contains("other"));
+        assertTrue(kinds.contains("perm"));
+    }
+
+    @Test
+    public void testAgainstReference() {
+        Random random = new Random(38);
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[] { p });
+        Comparator<Integer> byTens = Comparator.comparing(i -> i / 10);
+        ObservableList<IntegerProperty> sorted = EasyBind.sortedBy(source, IntegerProperty::get, byTens);
+        List<IntegerProperty> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, sorted);
+
+        for(int step = 0; step < 2000; ++step) {
+            int n = source.size();
+            int at = random.nextInt(n + 1);
+            switch(random.nextInt(6)) {
+                case 0:
+                    List<IntegerProperty> added = new ArrayList<>();
+                    for(int k = random.nextInt(random.nextBoolean() ? 3 : 30); k >= 0; --k) {
+                        added.add(new SimpleIntegerProperty(random.nextInt(100)));
+                    }
+                    source.addAll(at, added);
+                    break;
+                case 1:
+                    source.remove(at, Math.min(n, at + random.nextInt(8)));
+                    break;
+                case 2:
+                    if(at < n) {
+                        source.set(at, new SimpleIntegerProperty(random.nextInt(100)));
+                    }
+                    break;
+                case 3:
+                    if(at < n) {
+                        source.get(at).set(random.nextInt(100));
+                    }
+                    break;
+                case 4:
+                    // scattered removal, reported as several sub-changes
+                    List<IntegerProperty> removed = new ArrayList<>();
+                    for(IntegerProperty p: source) {
+                        if(random.nextInt(4) == 0) {
+                            removed.add(p);
+                        }
+                    }
+                    source.removeAll(removed);
+                    break;
+                default:
+                    FXCollections.shuffle(source, random);
+            }
+
+            // stable sort of the source is the expected order
+            List<IntegerProperty> expected = source.stream()
+                    .sorted(Comparator.comparing(IntegerProperty::get, byTens))
+                    .collect(Collectors.toList());
+            assertEquals(expected, sorted);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    @Test
+    public void testPermutationOfSeveralRuns() {
+        ObservableList<String> source = FXCollections.observableArrayList(
+                "76:2", "77:4", "79:4", "80:0", "81:2", "64:0", "68:4", "73:3", "69:1", "75:4");
+        ObservableList<String> sorted = EasyBind.sortedBy(source, s -> s.charAt(3) - '0');
+        List<String> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, sorted);
+
+        List<String> target = Arrays.asList("76:2", "64:0", "73:3", "68:4", "69:1", "75:4", "77:4", "81:2", "80:0", "79:4");
+        FXCollections.sort(source, Comparator.comparing(target::indexOf));
+
+        List<String> expected = Arrays.asList("64:0", "80:0", "69:1", "76:2", "81:2", "73:3", "68:4", "75:4", "77:4", "79:4");
+        assertEquals(expected, sorted);
+        assertEquals(expected, mirror);
+    }
+
+    @Test
+    public void testPermutationsWithFewKeys() {
+        Random random = new Random(381);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for(int i = 0; i < 60; ++i) {
+            source.add(i);
+        }
+        Comparator<Integer> byKey = Comparator.comparing(i -> i % 6);
+        ObservableList<Integer> sorted = EasyBind.sortedBy(source, i -> i, byKey);
+        List<Integer> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, sorted);
+
+        for(int step = 0; step < 200; ++step) {
+            // swap a few pairs of elements with equal keys, so that only
+            // some, not necessarily adjacent, runs of the view are reordered
+            int[] rank = new int[source.size()];
+            for(int i = 0; i < rank.length; ++i) {
+                rank[source.get(i)] = i;
+            }
+            for(int k = random.nextInt(4); k >= 0; --k) {
+                int a = random.nextInt(rank.length);
+                int b = (a + 6 * (1 + random.nextInt(9))) % rank.length;
+                int tmp = rank[a];
+                rank[a] = rank[b];
+                rank[b] = tmp;
+            }
+            FXCollections.sort(source, Comparator.comparingInt(i -> rank[i]));
+
+            List<Integer> expected = source.stream().sorted(byKey).collect(Collectors.toList());
+            assertEquals(expected, sorted);
+            assertEquals(expected, mirror);
+        }
+    }
+}
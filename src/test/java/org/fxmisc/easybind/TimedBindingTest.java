@@ -0,0 +1,109 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import javafx.beans.binding.Binding;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.Duration;
+
+import org.junit.Test;
+
+public class TimedBindingTest {
+
+    @Test
+    public void testDebounce() {
+        ManualScheduler scheduler = new ManualScheduler();
+        StringProperty query = new SimpleStringProperty("");
+        Binding<String> debounced = EasyBind.monadic(query).debounce(Duration.millis(100), scheduler);
+        Counter changes = new Counter();
+        debounced.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        query.set("a");
+        scheduler.advance(Duration.millis(60));
+        query.set("ab");
+        scheduler.advance(Duration.millis(60));
+        query.set("abc");
+        scheduler.advance(Duration.millis(60));
+        assertEquals("", debounced.getValue());
+        assertEquals(0, changes.get());
+
+        scheduler.advance(Duration.millis(40));
+        assertEquals("abc", debounced.getValue());
+        assertEquals(1, changes.getAndReset());
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void testThrottle() {
+        ManualScheduler scheduler = new ManualScheduler();
+        StringProperty src = new SimpleStringProperty("a");
+        Binding<String> throttled = EasyBind.monadic(src).throttle(Duration.millis(100), scheduler);
+        Counter changes = new Counter();
+        throttled.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        // leading edge
+        src.set("b");
+        assertEquals("b", throttled.getValue());
+
+        src.set("c");
+        src.set("d");
+        scheduler.advance(Duration.millis(50));
+        assertEquals("b", throttled.getValue());
+
+        // trailing edge
+        scheduler.advance(Duration.millis(50));
+        assertEquals("d", throttled.getValue());
+        assertEquals(2, changes.getAndReset());
+
+        // quiet period ends the throttling window
+        scheduler.advance(Duration.millis(100));
+        assertEquals(0, scheduler.pendingCount());
+        src.set("e");
+        assertEquals("e", throttled.getValue());
+    }
+
+    @Test
+    public void testSample() {
+        ManualScheduler scheduler = new ManualScheduler();
+        StringProperty src = new SimpleStringProperty("a");
+        Binding<String> sampled = EasyBind.monadic(src).sample(Duration.millis(100), scheduler);
+        sampled.addListener(obs -> {});
+
+        scheduler.advance(Duration.millis(30));
+        src.set("b");
+        scheduler.advance(Duration.millis(50));
+        src.set("c");
+        assertEquals("a", sampled.getValue());
+
+        // tick at 100ms
+        scheduler.advance(Duration.millis(20));
+        assertEquals("c", sampled.getValue());
+
+        // no change, no tick scheduled
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void testConflateOnPulse() {
+        ManualScheduler scheduler = new ManualScheduler();
+        StringProperty src = new SimpleStringProperty("a");
+        Binding<String> conflated = EasyBind.monadic(src).conflateOnPulse(scheduler);
+        Counter changes = new Counter();
+        conflated.addListener((obs, oldVal, newVal) -> changes.inc());
+
+        src.set("b");
+        src.set("c");
+        src.set("d");
+        assertEquals("a", conflated.getValue());
+        scheduler.runPending();
+        assertEquals("d", conflated.getValue());
+        assertEquals(1, changes.getAndReset());
+
+        // no further updates after dispose
+        conflated.dispose();
+        src.set("e");
+        scheduler.runPending();
+        assertEquals("d", conflated.getValue());
+    }
+}
@@ -0,0 +1,123 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class WindowTest {
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testMovingWindowOnlyReportsEdges() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(range(0, 1000));
+        IntegerProperty from = new SimpleIntegerProperty(10);
+        IntegerProperty size = new SimpleIntegerProperty(5);
+        ObservableList<Integer> window = EasyBind.window(source, from, size);
+        assertEquals(range(10, 15), window);
+
+        List<String> changes = new ArrayList<>();
+        window.addListener((Change<? extends Integer> ch) -> {
+            while(ch.next()) {
+                changes.add(ch.getFrom() + ":-" + ch.getRemoved() + "+" + ch.getAddedSubList());
+            }
+        });
+
+        from.set(12);
+        assertEquals(range(12, 17), window);
+        assertEquals(Arrays.asList("0:-[10, 11]+[]", "3:-[]+[15, 16]"), changes);
+        changes.clear();
+
+        // changes past the window are not reported
+        source.remove(500, 600);
+        assertTrue(changes.isEmpty());
+
+        // an insertion before the window shifts one element in and one out
+        source.add(0, -1);
+        assertEquals(range(11, 16), window);
+        assertEquals(Arrays.asList("0:-[]+[11]", "5:-[16]+[]"), changes);
+        changes.clear();
+
+        // the window is clipped to the list
+        from.set(897);
+        assertEquals(range(996, 1000), window);
+        size.set(100);
+        assertEquals(range(996, 1000), window);
+        source.add(1000);
+        assertEquals(range(996, 1001), window);
+    }
+
+    @Test
+    public void testLazyMappingOnlyOfVisibleElements() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(range(0, 10_000));
+        Counter mapped = new Counter();
+        ObservableList<String> window = EasyBind.window(
+                EasyBind.map(source, i -> { mapped.inc(); return "#" + i; }),
+                new SimpleIntegerProperty(100), new SimpleIntegerProperty(20));
+        assertEquals("#100", window.get(0));
+        assertEquals(20, mapped.get());
+    }
+
+    @Test
+    public void testAgainstReference() {
+        Random random = new Random(37);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        IntegerProperty from = new SimpleIntegerProperty(0);
+        IntegerProperty size = new SimpleIntegerProperty(10);
+        ObservableList<Integer> window = EasyBind.window(source, from, size);
+        List<Integer> mirror = new ArrayList<>();
+        EasyBind.listBind(mirror, window);
+
+        int next = 0;
+        for(int step = 0; step < 2000; ++step) {
+            int n = source.size();
+            int at = random.nextInt(n + 1);
+            switch(random.nextInt(6)) {
+                case 0:
+                    List<Integer> added = new ArrayList<>();
+                    for(int k = random.nextInt(5); k >= 0; --k) {
+                        added.add(next++);
+                    }
+                    source.addAll(at, added);
+                    break;
+                case 1:
+                    source.remove(at, Math.min(n, at + random.nextInt(8)));
+                    break;
+                case 2:
+                    if(at < n) {
+                        source.set(at, next++);
+                    }
+                    break;
+                case 3:
+                    FXCollections.sort(source, (a, b) -> Integer.compare(a % 7, b % 7));
+                    break;
+                case 4:
+                    from.set(random.nextInt(n + 5) - 2);
+                    break;
+                default:
+                    size.set(random.nextInt(15));
+            }
+
+            int s = Math.max(0, Math.min(from.get(), source.size()));
+            int e = Math.min(s + Math.max(0, size.get()), source.size());
+            List<Integer> expected = new ArrayList<>(source.subList(s, e));
+            assertEquals(expected, window);
+            assertEquals(expected, mirror);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package org.fxmisc.easybind;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+public class ZipJoinTest {
+
+    @Test
+    public void testZipReplacementOnlyTouchesSameIndex() {
+        ObservableList<String> rows = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<Boolean> status = FXCollections.observableArrayList(true, false);
+        ObservableList<String> zipped = EasyBind.zip(rows, status, (r, s) -> r + (s ? "+" : "-"));
+        assertEquals(Arrays.asList("a+", "b-"), zipped);
+
+        List<String> changes = new ArrayList<>();
+        zipped.addListener((Change<? extends String> ch) -> {
+            while(ch.next()) {
+                changes.add(ch.getFrom() + ":-" + ch.getRemoved() + "+" + ch.getAddedSubList());
+            }
+        });
+
+        status.set(0, false);
+        assertEquals(Arrays.asList("0:-[a+]+[a-]"), changes);
+        changes.clear();
+
+        status.add(true);
+        assertEquals(Arrays.asList("a-", "b-", "c+"), zipped);
+        assertEquals(Arrays.asList("2:-[]+[c+]"), changes);
+    }
+
+    private static class Order {
+        final IntegerProperty customer;
+        final String name;
+
+        Order(String name, int customer) {
+            this.name = name;
+            this.customer = new SimpleIntegerProperty(customer);
+        }
+    }
+
+    @Test
+    public void testJoinTouchesOnlyMatchingRows() {
+        ObservableList<Order> orders = FXCollections.observableArrayList(o -> new Observable[] { o.customer });
+        Order o1 = new Order("o1", 1);
+        orders.addAll(o1, new Order("o2", 2), new Order("o3", 1));
+        ObservableList<Integer> customers = FXCollections.observableArrayList(1, 2);
+        ObservableList<String> rows = EasyBind.join(orders, customers,
+                o -> o.customer.get(), c -> c, (o, c) -> o.name + "@" + c);
+        assertEquals(Arrays.asList("o1@1", "o2@2", "o3@1"), rows);
+
+        List<String> changes = new ArrayList<>();
+        rows.addListener((Change<? extends String> ch) -> {
+            while(ch.next()) {
+                changes.add(ch.getFrom() + ":-" + ch.getRemoved() + "+" + ch.getAddedSubList());
+            }
+        });
+
+        customers.remove(Integer.valueOf(2));
+        assertEquals(Arrays.asList("o1@1", "o3@1"), rows);
+        assertEquals(Arrays.asList("1:-[o2@2]+[]"), changes);
+        changes.clear();
+
+        o1.customer.set(3);
+        assertEquals(Arrays.asList("o3@1"), rows);
+        customers.add(3);
+        assertEquals(Arrays.asList("o1@3", "o3@1"), rows);
+    }
+
+    @Test
+    public void testAgainstReference() {
+        Random random = new Random(41);
+        ObservableList<IntegerProperty> left = FXCollections.observableArrayList(p -> new Observable[] { p });
+        ObservableList<Integer> right = FXCollections.observableArrayList();
+        ObservableList<String> joined = EasyBind.join(left, right,
+                IntegerProperty::get, r -> r % 10, (l, r) -> l.get() + "/" + r);
+        // updates are not propagated by listBind, so pair the property objects
+        ObservableList<List<Object>> zipped = EasyBind.zip(left, right, (l, r) -> Arrays.asList(l, r));
+        List<String> joinMirror = new ArrayList<>();
+        List<List<Object>> zipMirror = new ArrayList<>();
+        EasyBind.listBind(joinMirror, joined);
+        EasyBind.listBind(zipMirror, zipped);
+
+        for(int step = 0; step < 2000; ++step) {
+            boolean onLeft = random.nextBoolean();
+            ObservableList<?> side = onLeft ? left : right;
+            int n = side.size();
+            int at = random.nextInt(n + 1);
+            switch(random.nextInt(5)) {
+                case 0:
+                    for(int k = random.nextInt(4); k >= 0; --k) {
+                        if(onLeft) {
+                            left.add(at, new SimpleIntegerProperty(random.nextInt(10)));
+                        } else {
+                            right.add(at, random.nextInt(100));
+                        }
+                    }
+                    break;
+                case 1:
+                    side.remove(at, Math.min(n, at + random.nextInt(4)));
+                    break;
+                case 2:
+                    if(at < n) {
+                        if(onLeft) {
+                            left.get(at).set(random.nextInt(10));
+                        } else {
+                            right.set(at, random.nextInt(100));
+                        }
+                    }
+                    break;
+                case 3:
+                    if(onLeft) {
+                        FXCollections.sort(left, (a, b) -> Integer.compare(a.get(), b.get()));
+                    } else {
+                        FXCollections.sort(right, (a, b) -> Integer.compare(a / 10, b / 10));
+                    }
+                    break;
+                default:
+                    if(onLeft) {
+                        left.setAll(new ArrayList<>(left.subList(0, n / 2)));
+                    } else {
+                        FXCollections.shuffle(right, random);
+                    }
+            }
+
+            List<String> expectedJoin = new ArrayList<>();
+            for(IntegerProperty l: left) {
+                for(Integer r: right) {
+                    if(l.get() == r % 10) {
+                        expectedJoin.add(l.get() + "/" + r);
+                    }
+                }
+            }
+            assertEquals(expectedJoin, joined);
+            assertEquals(expectedJoin, joinMirror);
+
+            List<List<Object>> expectedZip = new ArrayList<>();
+            for(int i = 0; i < Math.min(left.size(), right.size()); ++i) {
+                expectedZip.add(Arrays.asList(left.get(i), right.get(i)));
+            }
+            assertEquals(expectedZip, zipped);
+            assertEquals(expectedZip, zipMirror);
+        }
+    }
+
+    /**
+     * Applies the changes of {@code list} to a copy, checking the removed
+     * elements reported by each change against the copy. Updated elements
+     * are taken over from {@code list}.
+     */
+    private static <T> List<T> replay(ObservableList<T> list) {
+        List<T> mirror = new ArrayList<>(list);
+        list.addListener((Change<? extends T> ch) -> {
+            while(ch.next()) {
+                int from = ch.getFrom();
+                if(ch.wasPermutated()) {
+                    List<T> old = new ArrayList<>(mirror.subList(from, ch.getTo()));
+                    for(int i = from; i < ch.getTo(); ++i) {
+                        mirror.set(ch.getPermutation(i), old.get(i - from));
+                    }
+                } else if(ch.wasUpdated()) {
+                    for(int i = from; i < ch.getTo(); ++i) {
+                        mirror.set(i, list.get(i));
+                    }
+                } else {
+                    List<T> removed = mirror.subList(from, from + ch.getRemovedSize());
+                    assertEquals(removed, ch.getRemoved());
+                    removed.clear();
+                    mirror.addAll(from, ch.getAddedSubList());
+                }
+            }
+        });
+        return mirror;
+    }
+
+    private static String key(String s) {
+        return s.substring(s.indexOf(':') + 1);
+    }
+
+    @Test
+    public void testJoinReportsRemovedElements() {
+        ObservableList<String> left = FXCollections.observableArrayList(
+                "l0:2", "l1:2", "l2:0", "l3:1", "l4:0", "l5:3", "l6:1", "l7:2");
+        ObservableList<String> right = FXCollections.observableArrayList(
+                "r0:2", "r1:1", "r2:3", "r3:3", "r4:1", "r5:2");
+        ObservableList<String> joined = EasyBind.join(left, right,
+                ZipJoinTest::key, ZipJoinTest::key, (l, r) -> l.substring(0, 2) + "/" + r.substring(0, 2));
+        List<String> mirror = replay(joined);
+
+        right.remove(1, 6);
+        assertEquals(Arrays.asList("l0/r0", "l1/r0", "l7/r0"), joined);
+        assertEquals(joined, mirror);
+    }
+
+    @Test
+    public void testJoinRemovedElementsAgainstReplay() {
+        Random random = new Random(411);
+        int names = 0;
+        // each change on the right reports a batch of scattered results;
+        // small joins with few keys make for many different patterns
+        for(int trial = 0; trial < 5000; ++trial) {
+            ObservableList<String> customers = FXCollections.observableArrayList();
+            for(int i = 0; i < 8; ++i) {
+                customers.add("c" + i + ":" + random.nextInt(4));
+            }
+            // orders keep their name when their customer changes, so that
+            // the removed combinations can be compared
+            ObservableList<Order> orders = FXCollections.observableArrayList(o -> new Observable[] { o.customer });
+            for(int i = 0; i < 6; ++i) {
+                orders.add(new Order("o" + names++, random.nextInt(4)));
+            }
+            ObservableList<String> joined = EasyBind.join(customers, orders,
+                    c -> Integer.parseInt(key(c)), o -> o.customer.get(), (c, o) -> c + "/" + o.name);
+            List<String> mirror = replay(joined);
+
+            int n = orders.size();
+            switch(random.nextInt(4)) {
+                case 0:
+                    orders.remove(random.nextInt(3), n - random.nextInt(3));
+                    break;
+                case 1:
+                    List<Order> added = new ArrayList<>();
+                    for(int k = random.nextInt(6); k >= 0; --k) {
+                        added.add(new Order("o" + names++, random.nextInt(4)));
+                    }
+                    orders.addAll(random.nextInt(n + 1), added);
+                    break;
+                case 2:
+                    List<Order> elems = new ArrayList<>(orders.subList(0, random.nextInt(n)));
+                    for(int k = random.nextInt(6); k >= 0; --k) {
+                        elems.add(random.nextInt(elems.size() + 1), new Order("o" + names++, random.nextInt(4)));
+                    }
+                    orders.setAll(elems);
+                    break;
+                default:
+                    orders.get(random.nextInt(n)).customer.set(random.nextInt(4));
+            }
+
+            List<String> expected = new ArrayList<>();
+            for(String c: customers) {
+                for(Order o: orders) {
+                    if(Integer.parseInt(key(c)) == o.customer.get()) {
+                        expected.add(c + "/" + o.name);
+                    }
+                }
+            }
+            assertEquals(expected, joined);
+            assertEquals(expected, mirror);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.fxmisc.easybind.reactive;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class ReactiveStreamsTest {
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(T t) {
+            items.add(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new AssertionError(t);
+        }
+
+        @Override
+        public void onComplete() {}
+    }
+
+    @Test
+    public void testValuePublisherConflatesWithoutDemand() {
+        StringProperty src = new SimpleStringProperty("a");
+        Publisher<String> publisher = ReactiveStreams.toPublisher(src, Runnable::run);
+        RecordingSubscriber<String> sub = new RecordingSubscriber<>();
+        publisher.subscribe(sub);
+
+        assertTrue(sub.items.isEmpty());
+        sub.subscription.request(1);
+        assertEquals(Arrays.asList("a"), sub.items);
+
+        src.set("b");
+        src.set("c");
+        sub.subscription.request(5);
+        assertEquals(Arrays.asList("a", "c"), sub.items);
+
+        src.set("d");
+        assertEquals(Arrays.asList("a", "c", "d"), sub.items);
+
+        sub.subscription.cancel();
+        src.set("e");
+        assertEquals(Arrays.asList("a", "c", "d"), sub.items);
+    }
+
+    @Test
+    public void testListPublisher() {
+        ObservableList<String> src = FXCollections.observableArrayList("a", "b");
+        Publisher<ListChangeRecord<String>> publisher = ReactiveStreams.toPublisher(src, 2, Runnable::run);
+        RecordingSubscriber<ListChangeRecord<String>> sub = new RecordingSubscriber<>();
+        publisher.subscribe(sub);
+        List<String> mirror = new ArrayList<>();
+
+        sub.subscription.request(Long.MAX_VALUE);
+        src.add(1, "x");
+        src.remove("a");
+        src.setAll("p", "q", "r");
+        sub.items.forEach(rec -> rec.applyTo(mirror));
+        assertEquals(src, mirror);
+    }
+
+    @Test
+    public void testListPublisherConflatesIntoReset() {
+        ObservableList<Integer> src = FXCollections.observableArrayList(1, 2, 3);
+        Publisher<ListChangeRecord<Integer>> publisher = ReactiveStreams.toPublisher(src, 2, Runnable::run);
+        RecordingSubscriber<ListChangeRecord<Integer>> sub = new RecordingSubscriber<>();
+        publisher.subscribe(sub);
+        List<Integer> mirror = new ArrayList<>();
+
+        sub.subscription.request(1);
+        sub.items.forEach(rec -> rec.applyTo(mirror));
+        sub.items.clear();
+
+        for(int i = 0; i < 10; ++i) {
+            src.add(i);
+        }
+        src.remove(0);
+        sub.subscription.request(10);
+        assertTrue(sub.items.size() <= 2);
+        sub.items.forEach(rec -> rec.applyTo(mirror));
+        assertEquals(src, mirror);
+    }
+
+    @Test
+    public void testFromPublisher() {
+        StringProperty src = new SimpleStringProperty("a");
+        PublisherValue<String> value = ReactiveStreams.fromPublisher(
+                ReactiveStreams.toPublisher(src, Runnable::run), 4, Runnable::run);
+        assertEquals("a", value.getValue());
+
+        for(int i = 0; i < 10; ++i) {
+            src.set("v" + i);
+        }
+        assertEquals("v9", value.getValue());
+        assertEquals(11, value.getReceivedCount());
+
+        value.unsubscribe();
+        src.set("z");
+        assertEquals("v9", value.getValue());
+    }
+}